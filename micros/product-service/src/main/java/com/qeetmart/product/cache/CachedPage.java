@@ -0,0 +1,9 @@
+package com.qeetmart.product.cache;
+
+import java.time.Instant;
+
+/**
+ * A response body already encoded as JSON, with the validators it was served with.
+ */
+public record CachedPage(byte[] body, String eTag, Instant lastModified) {
+}
@@ -0,0 +1,39 @@
+package com.qeetmart.product.cache;
+
+import com.qeetmart.product.event.CategoriesChangedEvent;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.invalidation.CatalogInvalidatedEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Process-wide counter bumped after every committed catalog change, local or relayed from another replica. It is
+ * bumped after commit, so a result computed at a given value never predates a change that value has seen.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @EventListener
+    public void onCatalogInvalidated(CatalogInvalidatedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,115 @@
+package com.qeetmart.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU cache of encoded listing and search responses. Every entry carries the {@link CatalogVersion} it was
+ * computed at and is only served while the version is unchanged, so invalidation is a single counter increment and
+ * stale entries simply age out.
+ */
+@Component
+public class PageCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    public PageCache(
+        CatalogProperties catalogProperties,
+        CatalogVersion catalogVersion,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        CatalogProperties.PageCache settings = catalogProperties.getPageCache();
+        this.enabled = settings.isEnabled();
+        this.maxEntries = settings.getMaxEntries();
+        this.maxBytes = settings.getMaxSize().toBytes();
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.hits = meterRegistry.counter("catalog.page.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("catalog.page.cache.requests", "result", "miss");
+        Gauge.builder("catalog.page.cache.bytes", this, PageCache::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The version to pass to {@link #put}; read it before loading the result so a change committed meanwhile
+     * invalidates the entry instead of being hidden by it.
+     */
+    public long version() {
+        return catalogVersion.current();
+    }
+
+    public Optional<CachedPage> get(String key) {
+        long current = catalogVersion.current();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == current) {
+                hits.increment();
+                return Optional.of(entry.page);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public CachedPage put(String key, long version, Object body, String eTag, Instant lastModified) {
+        CachedPage page = new CachedPage(encode(body), eTag, lastModified);
+        if (page.body().length > maxBytes) {
+            return page;
+        }
+
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(version, page));
+            if (previous != null) {
+                bytes -= previous.page.body().length;
+            }
+            bytes += page.body().length;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().getValue().page.body().length;
+                eldest.remove();
+            }
+        }
+        return page;
+    }
+
+    private long size() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    private byte[] encode(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode cached response", ex);
+        }
+    }
+
+    private record Entry(long version, CachedPage page) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.qeetmart.product.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CatalogProperties.class)
+public class CatalogConfig {
+
+    /**
+     * Runs bulk operations one at a time, so two operations never contend for the same rows. On shutdown the
+     * running operation is interrupted and fails after its last committed chunk.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor catalogBulkOperationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("catalog-bulk-operations-");
+        return executor;
+    }
+
+    /**
+     * Boot backs off its own executor once any other is declared, and streamed exports run on it.
+     */
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
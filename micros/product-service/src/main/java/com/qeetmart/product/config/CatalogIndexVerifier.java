@@ -0,0 +1,66 @@
+package com.qeetmart.product.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogIndexVerifier implements ApplicationRunner {
+
+    public static final List<String> EXPECTED_INDEXES = List.of(
+        "idx_products_live_category",
+        "idx_products_live_brand",
+        "idx_products_live_status",
+        "idx_products_live_min_price",
+        "idx_products_live_max_price",
+        "idx_products_category",
+        "idx_product_variants_product",
+        "idx_product_variants_sku_lower",
+        "idx_categories_name_lower",
+        "idx_products_deleted",
+        "idx_product_variants_archive_product",
+        "idx_products_archive_archived",
+        "idx_product_view_counts_updated",
+        "idx_product_schedules_pending",
+        "idx_product_schedules_product",
+        "uk_product_changes_seq",
+        "idx_product_changes_unsequenced",
+        "idx_catalog_bulk_operations_submitted"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.getJdbcTemplate().execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if (!"PostgreSQL".equals(database)) {
+            log.info("Skipping catalog index verification on {}", database);
+            return;
+        }
+
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+            "select indexname from pg_indexes where schemaname = current_schema() and indexname in (:names)",
+            new MapSqlParameterSource("names", EXPECTED_INDEXES),
+            String.class
+        ));
+        List<String> missing = new ArrayList<>(EXPECTED_INDEXES);
+        missing.removeAll(present);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Catalog indexes are missing, run the schema migrations: " + missing);
+        }
+        log.info("Verified {} catalog indexes", present.size());
+    }
+}
@@ -0,0 +1,275 @@
+package com.qeetmart.product.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    @Valid
+    private BulkImport bulkImport = new BulkImport();
+
+    @Valid
+    private Export export = new Export();
+
+    @Valid
+    private Batch batch = new Batch();
+
+    @Valid
+    private Facets facets = new Facets();
+
+    @Valid
+    private ReadModel readModel = new ReadModel();
+
+    @Valid
+    private BulkOperations bulkOperations = new BulkOperations();
+
+    @Valid
+    private Archive archive = new Archive();
+
+    @Valid
+    private Changes changes = new Changes();
+
+    @Valid
+    private Invalidation invalidation = new Invalidation();
+
+    @Valid
+    private Views views = new Views();
+
+    @Valid
+    private Trending trending = new Trending();
+
+    @Valid
+    private SkuIndex skuIndex = new SkuIndex();
+
+    @Valid
+    private PageCache pageCache = new PageCache();
+
+    @Valid
+    private Schedules schedules = new Schedules();
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+
+        @Min(1)
+        private int chunkSize = 500;
+
+        @Min(0)
+        private int maxReportedErrors = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+
+        @Min(1)
+        private int fetchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        @Min(1)
+        private int maxSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Facets {
+
+        private List<BigDecimal> priceBuckets = new ArrayList<>(List.of(
+            new BigDecimal("25"),
+            new BigDecimal("50"),
+            new BigDecimal("100"),
+            new BigDecimal("250"),
+            new BigDecimal("500")
+        ));
+    }
+
+    @Getter
+    @Setter
+    public static class ReadModel {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int fetchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkOperations {
+
+        @Min(1)
+        private int chunkSize = 500;
+
+        @Min(1)
+        private int retainedOperations = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        private boolean enabled = false;
+
+        private Duration retention = Duration.ofDays(90);
+
+        @Min(1)
+        private int chunkSize = 500;
+
+        @Min(1)
+        private int rowsPerSecond = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Changes {
+
+        @Min(1)
+        private int defaultPageSize = 100;
+
+        @Min(1)
+        private int maxPageSize = 1000;
+
+        private Duration sequenceInterval = Duration.ofMillis(200);
+
+        @Min(1)
+        private int sequenceBatchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+
+        private InvalidationTransportType transport = InvalidationTransportType.NONE;
+
+        private String replicaId = UUID.randomUUID().toString();
+
+        @Pattern(regexp = "[a-z_][a-z0-9_]*")
+        private String channel = "catalog_invalidation";
+
+        private Duration pollInterval = Duration.ofMillis(200);
+
+        @Min(1)
+        private int batchSize = 100;
+
+        @Min(1)
+        private int maxIdsPerMessage = 500;
+
+        private Path filePath = Path.of(System.getProperty("java.io.tmpdir"), "catalog-invalidation.ndjson");
+    }
+
+    @Getter
+    @Setter
+    public static class Views {
+
+        private boolean enabled = true;
+
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        @Min(1)
+        @Max(10_000_000)
+        private int maxTrackedIds = 100_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Trending {
+
+        private boolean enabled = true;
+
+        private Duration bucketDuration = Duration.ofMinutes(1);
+
+        @Min(1)
+        @Max(1440)
+        private int buckets = 60;
+
+        @Min(16)
+        @Max(1 << 20)
+        private int sketchWidth = 2048;
+
+        @Min(1)
+        @Max(16)
+        private int sketchDepth = 4;
+
+        @Min(1)
+        @Max(10_000)
+        private int heavyHitters = 100;
+
+        @Min(1)
+        private int defaultLimit = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class SkuIndex {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int fetchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class PageCache {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxEntries = 2000;
+
+        private DataSize maxSize = DataSize.ofMegabytes(32);
+    }
+
+    @Getter
+    @Setter
+    public static class Schedules {
+
+        private boolean enabled = true;
+
+        private Duration tick = Duration.ofSeconds(1);
+
+        @Min(16)
+        @Max(1 << 20)
+        private int wheelSlots = 4096;
+
+        private Duration horizon = Duration.ofHours(1);
+
+        private Duration loadInterval = Duration.ofMinutes(1);
+
+        @Min(1)
+        private int loadPageSize = 1000;
+
+        @Min(1)
+        private int maxLoaded = 100_000;
+
+        @Min(1)
+        private int applyChunkSize = 500;
+    }
+
+    public enum InvalidationTransportType {
+        NONE,
+        POSTGRES,
+        FILE
+    }
+}
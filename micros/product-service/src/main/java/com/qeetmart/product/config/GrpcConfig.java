@@ -0,0 +1,22 @@
+package com.qeetmart.product.config;
+
+import com.qeetmart.product.grpc.GrpcAuthenticationInterceptor;
+import com.qeetmart.product.grpc.ProductCatalogGrpcService;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+public class GrpcConfig {
+
+    @Bean
+    public ServerServiceDefinition productCatalogService(
+        ProductCatalogGrpcService service,
+        GrpcAuthenticationInterceptor authenticationInterceptor
+    ) {
+        return ServerInterceptors.intercept(service.bindService(), authenticationInterceptor);
+    }
+}
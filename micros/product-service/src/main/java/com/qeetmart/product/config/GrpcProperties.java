@@ -0,0 +1,31 @@
+package com.qeetmart.product.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcProperties {
+
+    private boolean enabled = false;
+
+    @Min(0)
+    @Max(65535)
+    private int port = 9093;
+
+    private DataSize maxInboundMessageSize = DataSize.ofMegabytes(1);
+
+    @Min(1)
+    @Max(1000)
+    private int scanPageSize = 200;
+
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+}
@@ -0,0 +1,26 @@
+package com.qeetmart.product.config;
+
+import java.net.http.HttpClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+@EnableConfigurationProperties(InventoryProperties.class)
+public class InventoryConfig {
+
+    @Bean
+    public RestClient inventoryRestClient(RestClient.Builder builder, InventoryProperties inventoryProperties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(inventoryProperties.getConnectTimeout())
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(inventoryProperties.getTimeout());
+        return builder
+            .baseUrl(inventoryProperties.getBaseUrl())
+            .requestFactory(requestFactory)
+            .build();
+    }
+}
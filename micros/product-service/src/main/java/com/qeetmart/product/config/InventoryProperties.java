@@ -0,0 +1,37 @@
+package com.qeetmart.product.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.inventory")
+public class InventoryProperties {
+
+    @NotBlank
+    private String baseUrl = "http://localhost:8080";
+
+    private Duration connectTimeout = Duration.ofMillis(250);
+
+    /**
+     * Upper bound for one stock lookup, after which availability falls back to the catalog.
+     */
+    private Duration timeout = Duration.ofMillis(300);
+
+    /**
+     * Lookups in flight at once; further lookups fall back immediately instead of queueing.
+     */
+    @Min(1)
+    private int maxConcurrentCalls = 32;
+
+    private Duration stockTtl = Duration.ofSeconds(5);
+
+    @Min(0)
+    private int maxCachedStockLevels = 10_000;
+}
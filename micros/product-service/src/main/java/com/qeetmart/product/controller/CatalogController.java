@@ -0,0 +1,156 @@
+package com.qeetmart.product.controller;
+
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.response.ArchivedProductResponse;
+import com.qeetmart.product.dto.response.BulkOperationResponse;
+import com.qeetmart.product.dto.response.CatalogArchiveResponse;
+import com.qeetmart.product.dto.response.CatalogImportResponse;
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductChangesResponse;
+import com.qeetmart.product.dto.response.TrendingProductsResponse;
+import com.qeetmart.product.io.CatalogFormat;
+import com.qeetmart.product.service.BulkOperationService;
+import com.qeetmart.product.service.CatalogArchiveService;
+import com.qeetmart.product.service.CatalogChangeFeedService;
+import com.qeetmart.product.service.CatalogExportService;
+import com.qeetmart.product.service.CatalogImportService;
+import com.qeetmart.product.service.TrendingProductService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+@Tag(name = "Catalog APIs", description = "Bulk catalog endpoints")
+public class CatalogController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogImportService catalogImportService;
+    private final CatalogExportService catalogExportService;
+    private final BulkOperationService bulkOperationService;
+    private final CatalogArchiveService catalogArchiveService;
+    private final CatalogChangeFeedService catalogChangeFeedService;
+    private final TrendingProductService trendingProductService;
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk import products and variants from NDJSON or CSV")
+    public ResponseEntity<CatalogImportResponse> importCatalog(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) {
+        return ResponseEntity.ok(catalogImportService.importCatalog(body, CatalogFormat.fromContentType(contentType)));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream every active product with its variants as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+        @RequestParam(defaultValue = "NDJSON") CatalogFormat format,
+        @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+                catalogExportService.exportCatalog(format, compressed);
+            } else {
+                catalogExportService.exportCatalog(format, output);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("catalog." + format.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Page through product creates, updates and deletes after a change sequence cursor")
+    public ResponseEntity<ProductChangesResponse> getChanges(
+        @RequestParam(defaultValue = "0") long cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(catalogChangeFeedService.getChanges(cursor, limit));
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "Most viewed products over a recent window, estimated from in-memory sketches")
+    public ResponseEntity<TrendingProductsResponse> getTrending(
+        @RequestParam(defaultValue = "15m") String window,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(trendingProductService.getTrending(window, limit));
+    }
+
+    @PostMapping("/bulk-operations")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reprice, restatus, soft delete or move every product matching a filter")
+    public ResponseEntity<BulkOperationResponse> submitBulkOperation(@Valid @RequestBody BulkOperationRequest request) {
+        BulkOperationResponse response = bulkOperationService.submit(request);
+        if (response.isDryRun()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.accepted()
+            .location(URI.create("/products/bulk-operations/" + response.getId()))
+            .body(response);
+    }
+
+    @GetMapping("/bulk-operations/{operationId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get the progress of a bulk operation")
+    public ResponseEntity<BulkOperationResponse> getBulkOperation(@PathVariable String operationId) {
+        return ResponseEntity.ok(bulkOperationService.getOperation(operationId));
+    }
+
+    @PostMapping("/archive/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Archive soft-deleted products past the retention window now")
+    public ResponseEntity<CatalogArchiveResponse> runArchive() {
+        return ResponseEntity.ok(catalogArchiveService.archiveDeletedProducts());
+    }
+
+    @GetMapping("/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List archived products, most recently archived first")
+    public ResponseEntity<PagedResponse<ArchivedProductResponse>> getArchivedProducts(
+        @PageableDefault(size = 20, sort = {"archivedAt", "id"}, direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(catalogArchiveService.getArchivedProducts(pageable));
+    }
+
+    @GetMapping("/archive/{productId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get an archived product with its variants")
+    public ResponseEntity<ArchivedProductResponse> getArchivedProduct(@PathVariable Long productId) {
+        return ResponseEntity.ok(catalogArchiveService.getArchivedProduct(productId));
+    }
+}
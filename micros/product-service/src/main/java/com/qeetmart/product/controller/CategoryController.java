@@ -1,13 +1,18 @@
 package com.qeetmart.product.controller;
 
 import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.CategoryReassignRequest;
 import com.qeetmart.product.dto.request.CategoryUpdateRequest;
 import com.qeetmart.product.dto.response.ApiResponse;
+import com.qeetmart.product.dto.response.CategoryReassignResponse;
 import com.qeetmart.product.dto.response.CategoryResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.web.HttpCaching;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/categories")
@@ -39,14 +45,38 @@ public class CategoryController {
 
     @GetMapping
     @Operation(summary = "Get all categories")
-    public ResponseEntity<List<CategoryResponse>> getCategories() {
-        return ResponseEntity.ok(categoryService.getCategories());
+    public ResponseEntity<List<CategoryResponse>> getCategories(WebRequest webRequest) {
+        ResourceVersion version = categoryService.getCategoriesVersion();
+        String eTag = HttpCaching.negotiated(HttpCaching.strongETag("categories", version), webRequest);
+        if (webRequest.checkNotModified(eTag, HttpCaching.lastModified(version.getLastModified()))) {
+            return null;
+        }
+        return HttpCaching.ok(categoryService.getCategories(), eTag, version.getLastModified());
     }
 
     @GetMapping("/{categoryId}")
     @Operation(summary = "Get category by ID")
-    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long categoryId) {
-        return ResponseEntity.ok(categoryService.getCategoryById(categoryId));
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long categoryId, WebRequest webRequest) {
+        if (HttpCaching.isConditional(webRequest)) {
+            Instant lastModified = categoryService.getCategoryLastModified(categoryId);
+            String eTag = HttpCaching.negotiated(
+                HttpCaching.strongETag("category", categoryId, lastModified),
+                webRequest
+            );
+            if (webRequest.checkNotModified(eTag, HttpCaching.lastModified(lastModified))) {
+                return null;
+            }
+        }
+
+        CategoryResponse response = categoryService.getCategoryById(categoryId);
+        return HttpCaching.ok(
+            response,
+            HttpCaching.negotiated(
+                HttpCaching.strongETag("category", response.getId(), response.getUpdatedAt()),
+                webRequest
+            ),
+            response.getUpdatedAt()
+        );
     }
 
     @PutMapping("/{categoryId}")
@@ -66,4 +96,14 @@ public class CategoryController {
         categoryService.deleteCategory(categoryId);
         return ResponseEntity.ok(ApiResponse.builder().message("Category deleted successfully").build());
     }
+
+    @PostMapping("/{categoryId}/reassign")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Move every product of a category to another category, optionally deleting the source")
+    public ResponseEntity<CategoryReassignResponse> reassignProducts(
+        @PathVariable Long categoryId,
+        @Valid @RequestBody CategoryReassignRequest request
+    ) {
+        return ResponseEntity.ok(categoryService.reassignProducts(categoryId, request));
+    }
 }
@@ -1,24 +1,52 @@
 package com.qeetmart.product.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qeetmart.product.cache.CachedPage;
+import com.qeetmart.product.cache.PageCache;
 import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductField;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.request.ProductFilter;
 import com.qeetmart.product.dto.request.ProductUpdateRequest;
 import com.qeetmart.product.dto.response.ApiResponse;
+import com.qeetmart.product.dto.response.BatchResponse;
 import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductAvailabilityResponse;
 import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.popularity.ProductViewCounter;
+import com.qeetmart.product.popularity.TrendingProductsTracker;
+import com.qeetmart.product.service.ProductAvailabilityService;
 import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.specification.ProductFacet;
+import com.qeetmart.product.web.HttpCaching;
+import com.qeetmart.product.web.JsonMergePatch;
+import com.qeetmart.product.web.Negotiation;
+import com.qeetmart.product.web.ProtobufResponseConverter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -26,6 +54,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/products")
@@ -34,6 +63,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductAvailabilityService productAvailabilityService;
+    private final ProductViewCounter productViewCounter;
+    private final TrendingProductsTracker trendingProductsTracker;
+    private final PageCache pageCache;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,19 +77,164 @@ public class ProductController {
 
     @GetMapping
     @Operation(summary = "Get products with pagination and filters")
-    public ResponseEntity<PagedResponse<ProductResponse>> getProducts(
+    public ResponseEntity<?> getProducts(
         @RequestParam(required = false) Long categoryId,
         @RequestParam(required = false) String brand,
         @RequestParam(required = false) ProductStatus status,
-        @PageableDefault(size = 10) Pageable pageable
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(required = false) Set<ProductFacet> facets,
+        @RequestParam(required = false) List<String> fields,
+        @PageableDefault(size = 10) Pageable pageable,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(productService.getProducts(categoryId, brand, status, pageable));
+        ProductFilter filter = ProductFilter.builder()
+            .categoryId(categoryId)
+            .brand(brand)
+            .status(status)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .build();
+        filter.validatePriceRange();
+        List<ProductField> projection = fields == null || fields.isEmpty() ? null : ProductField.parse(fields);
+        if (projection != null && Negotiation.accepts(webRequest, ProtobufResponseConverter.PROTOBUF)) {
+            throw new BadRequestException("fields cannot be combined with application/x-protobuf");
+        }
+
+        boolean cacheable = pageCache.isEnabled()
+            && pageable.getSort().getOrderFor("popularity") == null
+            && !Negotiation.acceptsBinary(webRequest);
+        String cacheKey = cacheable ? listingCacheKey(filter, facets, projection, pageable) : null;
+        Optional<CachedPage> cached = cacheKey == null ? Optional.empty() : pageCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+        long cacheVersion = pageCache.version();
+
+        ResourceVersion version = productService.getProductsVersion(filter, facets, pageable.getSort());
+        String eTag = HttpCaching.negotiated(HttpCaching.weakETag("products", version), webRequest);
+        if (webRequest.checkNotModified(eTag, HttpCaching.lastModified(version.getLastModified()))) {
+            return null;
+        }
+        PagedResponse<?> response = projection == null
+            ? productService.getProducts(filter, facets, pageable)
+            : productService.getProductFields(filter, facets, projection, pageable);
+        if (cacheKey == null) {
+            return HttpCaching.ok(response, eTag, version.getLastModified());
+        }
+        CachedPage page = pageCache.put(cacheKey, cacheVersion, response, eTag, version.getLastModified());
+        return HttpCaching.ok(page.body(), page.eTag(), page.lastModified());
     }
 
     @GetMapping("/{productId}")
     @Operation(summary = "Get product by ID")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long productId) {
-        return ResponseEntity.ok(productService.getProductById(productId));
+    public ResponseEntity<ProductResponse> getProductById(
+        @PathVariable Long productId,
+        @RequestParam(required = false) List<String> include,
+        WebRequest webRequest
+    ) {
+        ResponseEntity<ProductResponse> response = findProduct(productId, include, webRequest);
+        productViewCounter.record(productId);
+        trendingProductsTracker.record(productId);
+        return response;
+    }
+
+    private ResponseEntity<ProductResponse> findProduct(
+        Long productId,
+        List<String> include,
+        WebRequest webRequest
+    ) {
+        if (include != null && !include.isEmpty()) {
+            return getProductDetail(productId, ProductInclude.parse(include), webRequest);
+        }
+
+        if (HttpCaching.isConditional(webRequest)) {
+            Instant lastModified = productService.getProductLastModified(productId);
+            String eTag = HttpCaching.negotiated(
+                HttpCaching.strongETag("product", productId, lastModified),
+                webRequest
+            );
+            if (webRequest.checkNotModified(eTag, HttpCaching.lastModified(lastModified))) {
+                return null;
+            }
+        }
+
+        ProductResponse response = productService.getProductById(productId);
+        return HttpCaching.ok(
+            response,
+            HttpCaching.negotiated(
+                HttpCaching.strongETag("product", response.getId(), response.getUpdatedAt()),
+                webRequest
+            ),
+            response.getUpdatedAt()
+        );
+    }
+
+    private ResponseEntity<ProductResponse> getProductDetail(
+        Long productId,
+        Set<ProductInclude> includes,
+        WebRequest webRequest
+    ) {
+        ProductResponse response = productService.getProductDetail(productId, includes);
+
+        HttpCaching.Fingerprint fingerprint = new HttpCaching.Fingerprint()
+            .add(response.getId())
+            .add(response.getUpdatedAt());
+        Instant lastModified = response.getUpdatedAt();
+        if (response.getCategory() != null) {
+            fingerprint.add(response.getCategory().getId()).add(response.getCategory().getUpdatedAt());
+            lastModified = latest(lastModified, response.getCategory().getUpdatedAt());
+        }
+        if (response.getVariants() != null) {
+            fingerprint.add((long) response.getVariants().size());
+            for (ProductVariantResponse variant : response.getVariants()) {
+                fingerprint.add(variant.getId()).add(variant.getUpdatedAt());
+                lastModified = latest(lastModified, variant.getUpdatedAt());
+            }
+        }
+
+        String eTag = HttpCaching.negotiated(HttpCaching.weakETag("product-detail", fingerprint), webRequest);
+        if (webRequest.checkNotModified(eTag, HttpCaching.lastModified(lastModified))) {
+            return null;
+        }
+        return HttpCaching.ok(response, eTag, lastModified);
+    }
+
+    private Instant latest(Instant current, Instant candidate) {
+        return candidate != null && candidate.isAfter(current) ? candidate : current;
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get products with their variants for a batch of IDs")
+    public ResponseEntity<BatchResponse<ProductResponse, Long>> getProductsByIds(
+        @RequestParam List<Long> ids,
+        WebRequest webRequest
+    ) {
+        BatchResponse<ProductResponse, Long> response = productService.getProductsByIds(ids);
+
+        HttpCaching.Fingerprint fingerprint = new HttpCaching.Fingerprint();
+        for (ProductResponse product : response.getContent()) {
+            fingerprint.add(product.getId()).add(product.getUpdatedAt());
+            product.getVariants().forEach(variant -> fingerprint.add(variant.getId()).add(variant.getUpdatedAt()));
+        }
+        response.getMissing().forEach(fingerprint::add);
+
+        String eTag = HttpCaching.negotiated(HttpCaching.weakETag("products-batch", fingerprint), webRequest);
+        return HttpCaching.ok(response, eTag, null);
+    }
+
+    @GetMapping("/{productId}/availability")
+    @Operation(summary = "Get product availability, combining catalog status with inventory stock")
+    public ResponseEntity<ProductAvailabilityResponse> getAvailability(@PathVariable Long productId) {
+        return ResponseEntity.ok(productAvailabilityService.getAvailability(productId));
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Get availability for a batch of product IDs")
+    public ResponseEntity<BatchResponse<ProductAvailabilityResponse, Long>> getAvailability(
+        @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(productAvailabilityService.getAvailability(ids));
     }
 
     @PutMapping("/{productId}")
@@ -69,6 +247,13 @@ public class ProductController {
         return ResponseEntity.ok(productService.updateProduct(productId, request));
     }
 
+    @PatchMapping(value = "/{productId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Partially update product with a JSON Merge Patch")
+    public ResponseEntity<ProductResponse> patchProduct(@PathVariable Long productId, @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(productService.patchProduct(productId, patch));
+    }
+
     @DeleteMapping("/{productId}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Soft delete product")
@@ -79,7 +264,67 @@ public class ProductController {
 
     @GetMapping("/search")
     @Operation(summary = "Search products by name or brand")
-    public ResponseEntity<List<ProductResponse>> searchProducts(@RequestParam String query) {
-        return ResponseEntity.ok(productService.searchProducts(query));
+    public ResponseEntity<?> searchProducts(@RequestParam String query, WebRequest webRequest) {
+        boolean cacheable = pageCache.isEnabled() && !query.isBlank() && !Negotiation.acceptsBinary(webRequest);
+        String cacheKey = cacheable ? "search|" + query.trim().toLowerCase(Locale.ROOT) : null;
+        Optional<CachedPage> cached = cacheKey == null ? Optional.empty() : pageCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cachedResponse(cached.get(), webRequest);
+        }
+        long cacheVersion = pageCache.version();
+
+        List<ProductResponse> response = productService.searchProducts(query);
+        String eTag = HttpCaching.negotiated(
+            HttpCaching.weakETag("products-search", searchFingerprint(response)),
+            webRequest
+        );
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (cacheKey == null) {
+            return HttpCaching.ok(response, eTag, null);
+        }
+        CachedPage page = pageCache.put(cacheKey, cacheVersion, response, eTag, null);
+        return HttpCaching.ok(page.body(), page.eTag(), null);
+    }
+
+    /**
+     * Search results carry no Last-Modified: the newest {@code updatedAt} among the matches does not move when a
+     * product stops matching, so only the tag, which covers every id in the result, can validate them.
+     */
+    private HttpCaching.Fingerprint searchFingerprint(List<ProductResponse> products) {
+        HttpCaching.Fingerprint fingerprint = new HttpCaching.Fingerprint().add((long) products.size());
+        products.forEach(product -> fingerprint.add(product.getId()).add(product.getUpdatedAt()));
+        return fingerprint;
+    }
+
+    /**
+     * Cached pages are JSON only; binary requests never reach the cache, so the stored tag is the JSON one.
+     */
+    private ResponseEntity<byte[]> cachedResponse(CachedPage page, WebRequest webRequest) {
+        if (webRequest.checkNotModified(page.eTag(), HttpCaching.lastModified(page.lastModified()))) {
+            return null;
+        }
+        return HttpCaching.ok(page.body(), page.eTag(), page.lastModified());
+    }
+
+    private String listingCacheKey(
+        ProductFilter filter,
+        Set<ProductFacet> facets,
+        List<ProductField> projection,
+        Pageable pageable
+    ) {
+        StringJoiner key = new StringJoiner("|", "products|", "")
+            .add(String.valueOf(filter.getCategoryId()))
+            .add(filter.hasBrand() ? filter.getBrand().toLowerCase(Locale.ROOT) : "")
+            .add(String.valueOf(filter.getStatus()))
+            .add(filter.getMinPrice() == null ? "" : filter.getMinPrice().stripTrailingZeros().toPlainString())
+            .add(filter.getMaxPrice() == null ? "" : filter.getMaxPrice().stripTrailingZeros().toPlainString())
+            .add(facets == null ? "" : new TreeSet<>(facets).toString())
+            .add(projection == null ? "" : projection.toString())
+            .add(String.valueOf(pageable.isPaged() ? pageable.getPageNumber() : -1))
+            .add(String.valueOf(pageable.isPaged() ? pageable.getPageSize() : -1))
+            .add(pageable.getSort().toString());
+        return key.toString();
     }
 }
@@ -0,0 +1,56 @@
+package com.qeetmart.product.controller;
+
+import com.qeetmart.product.dto.request.ProductScheduleRequest;
+import com.qeetmart.product.dto.response.ApiResponse;
+import com.qeetmart.product.dto.response.ProductScheduleResponse;
+import com.qeetmart.product.service.ProductScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/products/{productId}/schedules")
+@RequiredArgsConstructor
+@Tag(name = "Schedule APIs", description = "Scheduled product status and price changes")
+public class ProductScheduleController {
+
+    private final ProductScheduleService productScheduleService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Schedule a status or price change for a product")
+    public ResponseEntity<ProductScheduleResponse> createSchedule(
+        @PathVariable Long productId,
+        @Valid @RequestBody ProductScheduleRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(productScheduleService.createSchedule(productId, request));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List a product's scheduled changes, pending and finished, by apply time")
+    public ResponseEntity<List<ProductScheduleResponse>> getSchedules(@PathVariable Long productId) {
+        return ResponseEntity.ok(productScheduleService.getSchedules(productId));
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancel a pending scheduled change")
+    public ResponseEntity<ApiResponse> cancelSchedule(@PathVariable Long productId, @PathVariable Long scheduleId) {
+        productScheduleService.cancelSchedule(productId, scheduleId);
+        return ResponseEntity.ok(ApiResponse.builder().message("Schedule cancelled successfully").build());
+    }
+}
@@ -1,26 +1,33 @@
 package com.qeetmart.product.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
 import com.qeetmart.product.dto.request.ProductVariantUpdateRequest;
 import com.qeetmart.product.dto.response.ApiResponse;
 import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.service.ProductVariantService;
+import com.qeetmart.product.web.HttpCaching;
+import com.qeetmart.product.web.JsonMergePatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/products/{productId}/variants")
@@ -42,8 +49,17 @@ public class ProductVariantController {
 
     @GetMapping
     @Operation(summary = "Get product variants")
-    public ResponseEntity<List<ProductVariantResponse>> getVariants(@PathVariable Long productId) {
-        return ResponseEntity.ok(productVariantService.getVariants(productId));
+    public ResponseEntity<List<ProductVariantResponse>> getVariants(@PathVariable Long productId, WebRequest webRequest) {
+        ResourceVersion version = productVariantService.getVariantsVersion(productId);
+        String eTag = HttpCaching.negotiated(
+            HttpCaching.strongETag("product-" + productId + "-variants", version),
+            webRequest
+        );
+        if (version.getLastModified() != null
+            && webRequest.checkNotModified(eTag, HttpCaching.lastModified(version.getLastModified()))) {
+            return null;
+        }
+        return HttpCaching.ok(productVariantService.getVariants(productId), eTag, version.getLastModified());
     }
 
     @PutMapping("/{variantId}")
@@ -57,6 +73,17 @@ public class ProductVariantController {
         return ResponseEntity.ok(productVariantService.updateVariant(productId, variantId, request));
     }
 
+    @PatchMapping(value = "/{variantId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Partially update product variant with a JSON Merge Patch")
+    public ResponseEntity<ProductVariantResponse> patchVariant(
+        @PathVariable Long productId,
+        @PathVariable Long variantId,
+        @RequestBody JsonNode patch
+    ) {
+        return ResponseEntity.ok(productVariantService.patchVariant(productId, variantId, patch));
+    }
+
     @DeleteMapping("/{variantId}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Delete product variant")
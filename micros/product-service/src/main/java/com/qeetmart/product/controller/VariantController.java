@@ -0,0 +1,56 @@
+package com.qeetmart.product.controller;
+
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.service.ProductVariantService;
+import com.qeetmart.product.web.HttpCaching;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/variants")
+@RequiredArgsConstructor
+@Tag(name = "Variant APIs", description = "Product variant endpoints")
+public class VariantController {
+
+    private final ProductVariantService productVariantService;
+
+    @GetMapping("/by-sku/{sku}")
+    @Operation(summary = "Get a variant by SKU, compared case-insensitively")
+    public ResponseEntity<ProductVariantResponse> getVariantBySku(@PathVariable String sku, WebRequest webRequest) {
+        ProductVariantResponse response = productVariantService.getVariantBySku(sku);
+        return HttpCaching.ok(
+            response,
+            HttpCaching.negotiated(
+                HttpCaching.strongETag("variant", response.getId(), response.getUpdatedAt()),
+                webRequest
+            ),
+            response.getUpdatedAt()
+        );
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get variants for a batch of SKUs")
+    public ResponseEntity<BatchResponse<ProductVariantResponse, String>> getVariantsBySkus(
+        @RequestParam List<String> skus,
+        WebRequest webRequest
+    ) {
+        BatchResponse<ProductVariantResponse, String> response = productVariantService.getVariantsBySkus(skus);
+
+        HttpCaching.Fingerprint fingerprint = new HttpCaching.Fingerprint();
+        response.getContent().forEach(variant -> fingerprint.add(variant.getId()).add(variant.getUpdatedAt()));
+        response.getMissing().forEach(sku -> fingerprint.add((long) sku.hashCode()));
+
+        String eTag = HttpCaching.negotiated(HttpCaching.weakETag("variants-batch", fingerprint), webRequest);
+        return HttpCaching.ok(response, eTag, null);
+    }
+}
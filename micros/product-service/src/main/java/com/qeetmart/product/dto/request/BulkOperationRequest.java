@@ -0,0 +1,34 @@
+package com.qeetmart.product.dto.request;
+
+import com.qeetmart.product.entity.ProductStatus;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkOperationRequest {
+
+    @NotNull(message = "Operation is required")
+    private BulkOperationType operation;
+
+    @NotNull(message = "Filter is required")
+    private ProductFilter filter;
+
+    @DecimalMin(value = "-100.0", inclusive = false, message = "Percentage must be greater than -100")
+    @DecimalMax(value = "1000.0", message = "Percentage must be at most 1000")
+    @Digits(integer = 4, fraction = 2, message = "Percentage must have at most 2 decimal places")
+    private BigDecimal percentage;
+
+    private ProductStatus targetStatus;
+
+    @Positive(message = "Target category ID must be positive")
+    private Long targetCategoryId;
+
+    private boolean dryRun;
+}
@@ -0,0 +1,8 @@
+package com.qeetmart.product.dto.request;
+
+public enum BulkOperationType {
+    REPRICE,
+    SET_STATUS,
+    SOFT_DELETE,
+    MOVE_CATEGORY
+}
@@ -0,0 +1,24 @@
+package com.qeetmart.product.dto.request;
+
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CatalogImportRow {
+
+    private String productKey;
+    private String name;
+    private String description;
+    private String brand;
+    private Long categoryId;
+    private String categoryName;
+    private BigDecimal price;
+    private String currency;
+    private String status;
+    private String sku;
+    private String color;
+    private String size;
+    private BigDecimal additionalPrice;
+}
@@ -0,0 +1,17 @@
+package com.qeetmart.product.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CategoryReassignRequest {
+
+    @NotNull(message = "Target category ID is required")
+    @Positive(message = "Target category ID must be positive")
+    private Long targetCategoryId;
+
+    private boolean deleteSource;
+}
@@ -0,0 +1,53 @@
+package com.qeetmart.product.dto.request;
+
+import com.qeetmart.product.exception.BadRequestException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum ProductField {
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    BRAND("brand", "brand"),
+    CATEGORY_ID("categoryId", "category.id"),
+    PRICE("price", "price"),
+    CURRENCY("currency", "currency"),
+    STATUS("status", "status"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    DELETED("deleted", "isDeleted");
+
+    private final String key;
+    private final String attributePath;
+
+    ProductField(String key, String attributePath) {
+        this.key = key;
+        this.attributePath = attributePath;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getAttributePath() {
+        return attributePath;
+    }
+
+    public static List<ProductField> parse(Collection<String> names) {
+        Set<ProductField> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        for (String name : names) {
+            String trimmed = name.trim();
+            fields.add(Arrays.stream(values())
+                .filter(field -> field.key.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown field '" + trimmed + "', allowed fields: "
+                    + Arrays.stream(values()).map(ProductField::getKey).collect(Collectors.joining(", ")))));
+        }
+        return List.copyOf(fields);
+    }
+}
@@ -0,0 +1,41 @@
+package com.qeetmart.product.dto.request;
+
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.BadRequestException;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilter {
+
+    private Long categoryId;
+    private String brand;
+    private ProductStatus status;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+
+    public boolean hasBrand() {
+        return brand != null && !brand.isBlank();
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public void validatePriceRange() {
+        if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)) {
+            throw new BadRequestException("minPrice and maxPrice must not be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("minPrice must not be greater than maxPrice");
+        }
+    }
+}
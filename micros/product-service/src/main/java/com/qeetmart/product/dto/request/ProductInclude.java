@@ -0,0 +1,36 @@
+package com.qeetmart.product.dto.request;
+
+import com.qeetmart.product.exception.BadRequestException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum ProductInclude {
+    VARIANTS("variants"),
+    CATEGORY("category");
+
+    private final String key;
+
+    ProductInclude(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Set<ProductInclude> parse(Collection<String> names) {
+        Set<ProductInclude> includes = EnumSet.noneOf(ProductInclude.class);
+        for (String name : names) {
+            String trimmed = name.trim();
+            includes.add(Arrays.stream(values())
+                .filter(include -> include.key.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown include '" + trimmed + "', allowed values: "
+                    + Arrays.stream(values()).map(ProductInclude::getKey).collect(Collectors.joining(", ")))));
+        }
+        return includes;
+    }
+}
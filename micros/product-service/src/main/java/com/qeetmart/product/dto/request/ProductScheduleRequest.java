@@ -0,0 +1,24 @@
+package com.qeetmart.product.dto.request;
+
+import com.qeetmart.product.entity.ProductStatus;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProductScheduleRequest {
+
+    private ProductStatus targetStatus;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Target price must be non-negative")
+    private BigDecimal targetPrice;
+
+    @NotNull(message = "Apply time is required")
+    @Future(message = "Apply time must be in the future")
+    private Instant applyAt;
+}
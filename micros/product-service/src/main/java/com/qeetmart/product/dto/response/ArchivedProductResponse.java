@@ -0,0 +1,29 @@
+package com.qeetmart.product.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.qeetmart.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ArchivedProductResponse {
+
+    private Long id;
+    private String name;
+    private String description;
+    private String brand;
+    private Long categoryId;
+    private BigDecimal price;
+    private String currency;
+    private ProductStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant archivedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ProductVariantResponse> variants;
+}
@@ -0,0 +1,19 @@
+package com.qeetmart.product.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T, K> {
+
+    private List<T> content;
+    private List<K> missing;
+}
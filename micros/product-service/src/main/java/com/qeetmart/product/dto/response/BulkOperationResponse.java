@@ -0,0 +1,31 @@
+package com.qeetmart.product.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.qeetmart.product.dto.request.BulkOperationType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperationResponse {
+
+    private String id;
+    private BulkOperationType operation;
+    private BulkOperationState state;
+    private boolean dryRun;
+    private long matched;
+    private long processed;
+    private int chunksCommitted;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,8 @@
+package com.qeetmart.product.dto.response;
+
+public enum BulkOperationState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
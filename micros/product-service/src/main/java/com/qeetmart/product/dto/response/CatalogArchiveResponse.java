@@ -0,0 +1,22 @@
+package com.qeetmart.product.dto.response;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogArchiveResponse {
+
+    private Instant cutoff;
+    private long productsArchived;
+    private long variantsArchived;
+    private int chunksCommitted;
+    private long durationMillis;
+}
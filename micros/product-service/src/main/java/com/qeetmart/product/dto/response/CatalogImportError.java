@@ -0,0 +1,20 @@
+package com.qeetmart.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportError {
+
+    private int line;
+    private String productKey;
+    private String sku;
+    private String message;
+}
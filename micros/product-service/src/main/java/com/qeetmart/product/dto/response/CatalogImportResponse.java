@@ -0,0 +1,26 @@
+package com.qeetmart.product.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportResponse {
+
+    private long rowsRead;
+    private long rowsFailed;
+    private long productsCreated;
+    private long variantsCreated;
+    private int chunksCommitted;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private boolean errorsTruncated;
+    private List<CatalogImportError> errors;
+}
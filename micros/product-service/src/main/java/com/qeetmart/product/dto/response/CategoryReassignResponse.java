@@ -0,0 +1,20 @@
+package com.qeetmart.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryReassignResponse {
+
+    private Long sourceCategoryId;
+    private Long targetCategoryId;
+    private long productsMoved;
+    private boolean sourceDeleted;
+}
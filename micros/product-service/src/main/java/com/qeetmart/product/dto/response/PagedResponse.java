@@ -1,6 +1,8 @@
 package com.qeetmart.product.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +24,9 @@ public class PagedResponse<T> {
     private int totalPages;
     private boolean last;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<FacetCount>> facets;
+
     public static <T> PagedResponse<T> fromPage(Page<T> pageData) {
         return PagedResponse.<T>builder()
             .content(pageData.getContent())
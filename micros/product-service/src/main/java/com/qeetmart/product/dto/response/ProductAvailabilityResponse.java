@@ -0,0 +1,21 @@
+package com.qeetmart.product.dto.response;
+
+import com.qeetmart.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductAvailabilityResponse {
+
+    private Long productId;
+    private ProductStatus status;
+    private Integer availableQuantity;
+    private AvailabilitySource source;
+}
@@ -0,0 +1,20 @@
+package com.qeetmart.product.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.qeetmart.product.event.ProductChangeType;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductChangeResponse {
+
+    private long sequence;
+    private Long productId;
+    private ProductChangeType type;
+    private Instant changedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProductResponse product;
+}
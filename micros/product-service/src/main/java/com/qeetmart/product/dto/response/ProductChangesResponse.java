@@ -0,0 +1,14 @@
+package com.qeetmart.product.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductChangesResponse {
+
+    private List<ProductChangeResponse> changes;
+    private long nextCursor;
+    private boolean hasMore;
+}
@@ -1,8 +1,10 @@
 package com.qeetmart.product.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.qeetmart.product.entity.ProductStatus;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,4 +23,10 @@ public class ProductResponse {
     private Instant createdAt;
     private Instant updatedAt;
     private boolean deleted;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CategoryResponse category;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ProductVariantResponse> variants;
 }
@@ -0,0 +1,30 @@
+package com.qeetmart.product.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductScheduleResponse {
+
+    private Long id;
+    private Long productId;
+    private ProductStatus targetStatus;
+    private BigDecimal targetPrice;
+    private Instant applyAt;
+    private ProductScheduleState state;
+    private Instant createdAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,13 @@
+package com.qeetmart.product.dto.response;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private Instant lastModified;
+    private Long count;
+}
@@ -0,0 +1,18 @@
+package com.qeetmart.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProductResponse {
+
+    private Long productId;
+    private long views;
+}
@@ -0,0 +1,24 @@
+package com.qeetmart.product.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProductsResponse {
+
+    private Instant from;
+    private Instant to;
+    private long totalViews;
+    private long maxOvercount;
+    private double confidence;
+    private List<TrendingProductResponse> products;
+}
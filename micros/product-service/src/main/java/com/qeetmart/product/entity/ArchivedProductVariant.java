@@ -0,0 +1,50 @@
+package com.qeetmart.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "product_variants_archive")
+public class ArchivedProductVariant {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ArchivedProduct product;
+
+    @Column(nullable = false, length = 100)
+    private String sku;
+
+    @Column(length = 50)
+    private String color;
+
+    @Column(length = 50)
+    private String size;
+
+    @Column(name = "additional_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal additionalPrice;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,55 @@
+package com.qeetmart.product.entity;
+
+import com.qeetmart.product.dto.request.BulkOperationType;
+import com.qeetmart.product.dto.response.BulkOperationState;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "catalog_bulk_operations")
+public class CatalogBulkOperation {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BulkOperationType operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BulkOperationState state;
+
+    @Column(nullable = false)
+    private long matched;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(name = "chunks_committed", nullable = false)
+    private int chunksCommitted;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.qeetmart.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter behind {@link ProductChange} sequence numbers. Only the change sequencer advances it, and
+ * only for rows that are already committed, so a reader never sees a gap that fills in later.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "catalog_change_sequence")
+public class CatalogChangeSequence {
+
+    @Id
+    private Short id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -0,0 +1,40 @@
+package com.qeetmart.product.entity;
+
+import com.qeetmart.product.invalidation.InvalidationScope;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "catalog_outbox")
+public class CatalogOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InvalidationScope scope;
+
+    @Column(name = "entity_ids", nullable = false, columnDefinition = "text")
+    private String entityIds;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
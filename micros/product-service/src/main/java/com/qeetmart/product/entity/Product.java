@@ -21,6 +21,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
@@ -28,6 +29,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "products")
 public class Product extends BaseAuditEntity {
 
@@ -51,6 +53,12 @@ public class Product extends BaseAuditEntity {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal price;
 
+    @Column(name = "min_effective_price", nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal minEffectivePrice;
+
+    @Column(name = "max_effective_price", nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal maxEffectivePrice;
+
     @Column(nullable = false, length = 3)
     private String currency;
 
@@ -0,0 +1,8 @@
+package com.qeetmart.product.entity;
+
+public enum ProductScheduleState {
+    PENDING,
+    APPLIED,
+    SKIPPED,
+    CANCELLED
+}
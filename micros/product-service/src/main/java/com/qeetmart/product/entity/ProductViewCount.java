@@ -0,0 +1,28 @@
+package com.qeetmart.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "product_view_counts")
+public class ProductViewCount {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.qeetmart.product.event;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CategoriesChangedEvent {
+
+    private final Collection<Long> categoryIds;
+
+    public CategoriesChangedEvent(Collection<Long> categoryIds) {
+        this.categoryIds = List.copyOf(categoryIds);
+    }
+
+    public static CategoriesChangedEvent of(Long categoryId) {
+        return new CategoriesChangedEvent(List.of(categoryId));
+    }
+}
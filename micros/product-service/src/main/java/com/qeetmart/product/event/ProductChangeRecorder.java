@@ -0,0 +1,25 @@
+package com.qeetmart.product.event;
+
+import com.qeetmart.product.repository.ProductChangeRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes the change log in the transaction that made the change, right before it commits, so the feed can never
+ * disagree with the catalog. Changes published outside a transaction are written straight away. Either way the
+ * rows stay invisible to the feed until {@link ProductChangeSequencer} numbers them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeRecorder {
+
+    private final ProductChangeRepository productChangeRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        productChangeRepository.append(event.getType(), event.getProductIds(), Instant.now());
+    }
+}
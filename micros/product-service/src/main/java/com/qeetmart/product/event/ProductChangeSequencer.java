@@ -0,0 +1,36 @@
+package com.qeetmart.product.event;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.repository.ProductChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Assigns feed sequence numbers to committed changes. Ordering is decided here rather than by writers, so catalog
+ * writes never queue on the counter row; the feed lags commits by at most one sequencing interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangeSequencer {
+
+    private final ProductChangeRepository productChangeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties catalogProperties;
+
+    @Scheduled(fixedDelayString = "${app.catalog.changes.sequence-interval:PT0.2S}")
+    public void sequence() {
+        int batchSize = catalogProperties.getChanges().getSequenceBatchSize();
+        try {
+            Integer sequenced;
+            do {
+                sequenced = transactionTemplate.execute(status -> productChangeRepository.sequencePending(batchSize));
+            } while (sequenced != null && sequenced == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Product change sequencing failed; pending changes will be retried", ex);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.qeetmart.product.event;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
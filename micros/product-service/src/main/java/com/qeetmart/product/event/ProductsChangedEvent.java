@@ -0,0 +1,21 @@
+package com.qeetmart.product.event;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ProductsChangedEvent {
+
+    private final ProductChangeType type;
+    private final Collection<Long> productIds;
+
+    public ProductsChangedEvent(ProductChangeType type, Collection<Long> productIds) {
+        this.type = type;
+        this.productIds = List.copyOf(productIds);
+    }
+
+    public static ProductsChangedEvent of(ProductChangeType type, Long productId) {
+        return new ProductsChangedEvent(type, List.of(productId));
+    }
+}
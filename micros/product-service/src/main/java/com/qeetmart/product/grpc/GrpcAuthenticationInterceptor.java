@@ -0,0 +1,116 @@
+package com.qeetmart.product.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates calls with the bearer token in the {@code authorization} metadata entry, decoded and converted by
+ * the same beans as the REST resource server. The authentication is bound to the security context around every
+ * callback of the call, since gRPC may run them on different threads.
+ */
+@Component
+@RequiredArgsConstructor
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+        ServerCall<ReqT, RespT> call,
+        Metadata headers,
+        ServerCallHandler<ReqT, RespT> next
+    ) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Bearer token is required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        AbstractAuthenticationToken authentication;
+        try {
+            authentication = jwtAuthenticationConverter.convert(
+                jwtDecoder.decode(authorization.substring(BEARER.length()).trim())
+            );
+        } catch (JwtException ex) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Authentication failed"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        return new AuthenticatedListener<>(withContext(context, () -> next.startCall(call, headers)), context);
+    }
+
+    private static <T> T withContext(SecurityContext context, Supplier<T> action) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(context);
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private static final class AuthenticatedListener<ReqT>
+        extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final SecurityContext context;
+
+        private AuthenticatedListener(ServerCall.Listener<ReqT> delegate, SecurityContext context) {
+            super(delegate);
+            this.context = context;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            run(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            run(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            run(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            run(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            run(super::onReady);
+        }
+
+        private void run(Runnable callback) {
+            withContext(context, () -> {
+                callback.run();
+                return null;
+            });
+        }
+    }
+}
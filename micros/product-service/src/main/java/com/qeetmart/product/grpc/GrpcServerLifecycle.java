@@ -0,0 +1,70 @@
+package com.qeetmart.product.grpc;
+
+import com.qeetmart.product.config.GrpcProperties;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves every {@link ServerServiceDefinition} bean on the gRPC port when {@code app.grpc.enabled} is set. On
+ * shutdown, calls in flight get the grace period to finish before they are cancelled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcProperties grpcProperties;
+    private final List<ServerServiceDefinition> services;
+
+    private volatile Server server;
+
+    @Override
+    public boolean isAutoStartup() {
+        return grpcProperties.isEnabled();
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(grpcProperties.getPort())
+            .maxInboundMessageSize((int) grpcProperties.getMaxInboundMessageSize().toBytes());
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start the gRPC server on port " + grpcProperties.getPort(), ex);
+        }
+        log.info("gRPC server listening on port {} with {} services", server.getPort(), services.size());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(grpcProperties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,220 @@
+package com.qeetmart.product.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.protobuf.ProductProtobuf;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Method descriptors of the {@code ProductCatalog} service in
+ * {@code contracts/proto/qeetmart/product/v1/product_catalog.proto}, with the request messages decoded by hand
+ * the way {@link ProductProtobuf} encodes the responses. Field numbers must follow that schema.
+ */
+public final class ProductCatalogGrpc {
+
+    public static final String SERVICE_NAME = "qeetmart.product.v1.ProductCatalog";
+
+    public static final MethodDescriptor<GetProductRequest, ProductResponse> GET_PRODUCT =
+        MethodDescriptor.<GetProductRequest, ProductResponse>newBuilder()
+            .setType(MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "GetProduct"))
+            .setRequestMarshaller(new RequestMarshaller<>(GetProductRequest::decode, GetProductRequest::encode))
+            .setResponseMarshaller(new ResponseMarshaller<>(ProductProtobuf::encode))
+            .build();
+
+    public static final MethodDescriptor<BatchGetProductsRequest, BatchResponse<ProductResponse, Long>>
+        BATCH_GET_PRODUCTS = MethodDescriptor.<BatchGetProductsRequest, BatchResponse<ProductResponse, Long>>
+            newBuilder()
+            .setType(MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "BatchGetProducts"))
+            .setRequestMarshaller(new RequestMarshaller<>(
+                BatchGetProductsRequest::decode,
+                BatchGetProductsRequest::encode
+            ))
+            .setResponseMarshaller(new ResponseMarshaller<>(ProductProtobuf::encode))
+            .build();
+
+    public static final MethodDescriptor<ScanCatalogRequest, ProductResponse> SCAN_CATALOG =
+        MethodDescriptor.<ScanCatalogRequest, ProductResponse>newBuilder()
+            .setType(MethodType.SERVER_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "ScanCatalog"))
+            .setRequestMarshaller(new RequestMarshaller<>(ScanCatalogRequest::decode, ScanCatalogRequest::encode))
+            .setResponseMarshaller(new ResponseMarshaller<>(ProductProtobuf::encode))
+            .build();
+
+    public static final ServiceDescriptor SERVICE = ServiceDescriptor.newBuilder(SERVICE_NAME)
+        .addMethod(GET_PRODUCT)
+        .addMethod(BATCH_GET_PRODUCTS)
+        .addMethod(SCAN_CATALOG)
+        .build();
+
+    private ProductCatalogGrpc() {
+    }
+
+    public record GetProductRequest(long id, List<String> include) {
+
+        static GetProductRequest decode(CodedInputStream in) throws IOException {
+            long id = 0;
+            List<String> include = new ArrayList<>();
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case 1 << 3 | WireFormat.WIRETYPE_VARINT -> id = in.readInt64();
+                    case 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> include.add(in.readStringRequireUtf8());
+                    default -> in.skipField(tag);
+                }
+            }
+            return new GetProductRequest(id, include);
+        }
+
+        void encode(CodedOutputStream out) throws IOException {
+            if (id != 0) {
+                out.writeInt64(1, id);
+            }
+            for (String name : include) {
+                out.writeString(2, name);
+            }
+        }
+    }
+
+    public record BatchGetProductsRequest(List<Long> ids) {
+
+        static BatchGetProductsRequest decode(CodedInputStream in) throws IOException {
+            List<Long> ids = new ArrayList<>();
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case 1 << 3 | WireFormat.WIRETYPE_VARINT -> ids.add(in.readInt64());
+                    case 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> {
+                        int limit = in.pushLimit(in.readRawVarint32());
+                        while (in.getBytesUntilLimit() > 0) {
+                            ids.add(in.readInt64());
+                        }
+                        in.popLimit(limit);
+                    }
+                    default -> in.skipField(tag);
+                }
+            }
+            return new BatchGetProductsRequest(ids);
+        }
+
+        void encode(CodedOutputStream out) throws IOException {
+            if (ids.isEmpty()) {
+                return;
+            }
+            int size = 0;
+            for (Long id : ids) {
+                size += CodedOutputStream.computeInt64SizeNoTag(id);
+            }
+            out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(size);
+            for (Long id : ids) {
+                out.writeInt64NoTag(id);
+            }
+        }
+    }
+
+    public record ScanCatalogRequest(long categoryId, String brand, String status, int pageSize) {
+
+        static ScanCatalogRequest decode(CodedInputStream in) throws IOException {
+            long categoryId = 0;
+            String brand = "";
+            String status = "";
+            int pageSize = 0;
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case 1 << 3 | WireFormat.WIRETYPE_VARINT -> categoryId = in.readInt64();
+                    case 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> brand = in.readStringRequireUtf8();
+                    case 3 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> status = in.readStringRequireUtf8();
+                    case 4 << 3 | WireFormat.WIRETYPE_VARINT -> pageSize = in.readInt32();
+                    default -> in.skipField(tag);
+                }
+            }
+            return new ScanCatalogRequest(categoryId, brand, status, pageSize);
+        }
+
+        void encode(CodedOutputStream out) throws IOException {
+            if (categoryId != 0) {
+                out.writeInt64(1, categoryId);
+            }
+            if (!brand.isEmpty()) {
+                out.writeString(2, brand);
+            }
+            if (!status.isEmpty()) {
+                out.writeString(3, status);
+            }
+            if (pageSize != 0) {
+                out.writeInt32(4, pageSize);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+
+        T decode(CodedInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Encoder<T> {
+
+        void encode(T value, CodedOutputStream out) throws IOException;
+    }
+
+    private record RequestMarshaller<T>(Decoder<T> decoder, Encoder<T> encoder)
+        implements MethodDescriptor.Marshaller<T> {
+
+        @Override
+        public InputStream stream(T value) {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+                encoder.encode(value, out);
+                out.flush();
+                return new ByteArrayInputStream(bytes.toByteArray());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public T parse(InputStream stream) {
+            try {
+                return decoder.decode(CodedInputStream.newInstance(stream));
+            } catch (IOException ex) {
+                throw Status.INVALID_ARGUMENT
+                    .withDescription("Malformed request message")
+                    .withCause(ex)
+                    .asRuntimeException();
+            }
+        }
+    }
+
+    /**
+     * Responses are only written here; callers decode them with code generated from the schema.
+     */
+    private record ResponseMarshaller<T>(Function<T, byte[]> encoder) implements MethodDescriptor.Marshaller<T> {
+
+        @Override
+        public InputStream stream(T value) {
+            return new ByteArrayInputStream(encoder.apply(value));
+        }
+
+        @Override
+        public T parse(InputStream stream) {
+            throw new UnsupportedOperationException("Responses are decoded from the generated schema types");
+        }
+    }
+}
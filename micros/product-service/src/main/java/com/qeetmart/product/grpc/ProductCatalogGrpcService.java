@@ -0,0 +1,242 @@
+package com.qeetmart.product.grpc;
+
+import com.qeetmart.product.config.GrpcProperties;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.BatchGetProductsRequest;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.GetProductRequest;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.ScanCatalogRequest;
+import com.qeetmart.product.service.ProductService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC counterpart of the product read endpoints. Lookups here are service-to-service, so unlike
+ * {@code GET /products/{productId}} they are not recorded as product views.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogGrpcService {
+
+    private static final int MAX_SCAN_PAGE_SIZE = 1000;
+
+    private final ProductService productService;
+    private final GrpcProperties grpcProperties;
+
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(ProductCatalogGrpc.SERVICE)
+            .addMethod(ProductCatalogGrpc.GET_PRODUCT, ServerCalls.asyncUnaryCall(this::getProduct))
+            .addMethod(
+                ProductCatalogGrpc.BATCH_GET_PRODUCTS,
+                ServerCalls.asyncBidiStreamingCall(this::batchGetProducts)
+            )
+            .addMethod(ProductCatalogGrpc.SCAN_CATALOG, ServerCalls.asyncServerStreamingCall(this::scanCatalog))
+            .build();
+    }
+
+    void getProduct(GetProductRequest request, StreamObserver<ProductResponse> responses) {
+        ProductResponse product;
+        try {
+            if (request.id() <= 0) {
+                throw new BadRequestException("Product ID must be positive");
+            }
+            product = request.include().isEmpty()
+                ? productService.getProductById(request.id())
+                : productService.getProductDetail(request.id(), ProductInclude.parse(request.include()));
+        } catch (RuntimeException ex) {
+            responses.onError(toStatus(ex));
+            return;
+        }
+        responses.onNext(product);
+        responses.onCompleted();
+    }
+
+    /**
+     * Requests one batch at a time from the caller, and only while the caller keeps up with the responses.
+     */
+    StreamObserver<BatchGetProductsRequest> batchGetProducts(
+        StreamObserver<BatchResponse<ProductResponse, Long>> responseObserver
+    ) {
+        ServerCallStreamObserver<BatchResponse<ProductResponse, Long>> responses =
+            (ServerCallStreamObserver<BatchResponse<ProductResponse, Long>>) responseObserver;
+        BatchLookup lookup = new BatchLookup(responses);
+        responses.disableAutoRequest();
+        responses.setOnReadyHandler(lookup::onReady);
+        responses.request(1);
+        return lookup;
+    }
+
+    void scanCatalog(ScanCatalogRequest request, StreamObserver<ProductResponse> responseObserver) {
+        ProductFilter filter;
+        int pageSize;
+        try {
+            filter = ProductFilter.builder()
+                .categoryId(request.categoryId() == 0 ? null : request.categoryId())
+                .brand(request.brand().isEmpty() ? null : request.brand())
+                .status(request.status().isEmpty() ? null : parseStatus(request.status()))
+                .build();
+            pageSize = request.pageSize() == 0 ? grpcProperties.getScanPageSize() : request.pageSize();
+            if (pageSize < 1 || pageSize > MAX_SCAN_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_SCAN_PAGE_SIZE);
+            }
+        } catch (RuntimeException ex) {
+            responseObserver.onError(toStatus(ex));
+            return;
+        }
+
+        ServerCallStreamObserver<ProductResponse> responses =
+            (ServerCallStreamObserver<ProductResponse>) responseObserver;
+        CatalogScan scan = new CatalogScan(filter, pageSize, responses);
+        responses.setOnCancelHandler(scan::cancel);
+        responses.setOnReadyHandler(scan::drain);
+    }
+
+    private static ProductStatus parseStatus(String status) {
+        try {
+            return ProductStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown product status: " + status);
+        }
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof BadRequestException) {
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof AccessDeniedException) {
+            return Status.PERMISSION_DENIED
+                .withDescription("You are not authorized to access this resource")
+                .asRuntimeException();
+        }
+        log.error("Product catalog gRPC call failed", ex);
+        return Status.INTERNAL.withDescription("Unexpected error occurred").asRuntimeException();
+    }
+
+    /**
+     * Callbacks of one call are serialized by gRPC, so the flags need no synchronization.
+     */
+    private final class BatchLookup implements StreamObserver<BatchGetProductsRequest> {
+
+        private final ServerCallStreamObserver<BatchResponse<ProductResponse, Long>> responses;
+        private boolean awaitingReady;
+        private boolean closed;
+
+        private BatchLookup(ServerCallStreamObserver<BatchResponse<ProductResponse, Long>> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void onNext(BatchGetProductsRequest request) {
+            if (closed) {
+                return;
+            }
+            try {
+                responses.onNext(productService.getProductsByIds(request.ids()));
+            } catch (RuntimeException ex) {
+                closed = true;
+                responses.onError(toStatus(ex));
+                return;
+            }
+            if (responses.isReady()) {
+                responses.request(1);
+            } else {
+                awaitingReady = true;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            closed = true;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!closed) {
+                closed = true;
+                responses.onCompleted();
+            }
+        }
+
+        private void onReady() {
+            if (awaitingReady && !closed) {
+                awaitingReady = false;
+                responses.request(1);
+            }
+        }
+    }
+
+    /**
+     * Reads the next page only when the previous one has been handed to the transport and the caller can take
+     * more, so a slow caller holds at most one page in memory. Each page seeks past the last id sent, so pages
+     * cost the same however deep the scan is, and concurrent inserts or deletes never make it skip or repeat a
+     * product.
+     */
+    private final class CatalogScan {
+
+        private final ProductFilter filter;
+        private final int pageSize;
+        private final ServerCallStreamObserver<ProductResponse> responses;
+        private Iterator<ProductResponse> page = Collections.emptyIterator();
+        private long lastId;
+        private boolean lastPage;
+        private boolean done;
+
+        private CatalogScan(ProductFilter filter, int pageSize, ServerCallStreamObserver<ProductResponse> responses) {
+            this.filter = filter;
+            this.pageSize = pageSize;
+            this.responses = responses;
+        }
+
+        private void drain() {
+            while (!done && responses.isReady()) {
+                if (page.hasNext()) {
+                    responses.onNext(page.next());
+                } else if (lastPage) {
+                    done = true;
+                    responses.onCompleted();
+                } else {
+                    readPage();
+                }
+            }
+        }
+
+        private void readPage() {
+            try {
+                List<ProductResponse> products = productService.getProductsAfter(filter, lastId, pageSize);
+                if (!products.isEmpty()) {
+                    lastId = products.get(products.size() - 1).getId();
+                }
+                page = products.iterator();
+                lastPage = products.size() < pageSize;
+            } catch (RuntimeException ex) {
+                done = true;
+                responses.onError(toStatus(ex));
+            }
+        }
+
+        private void cancel() {
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.qeetmart.product.invalidation;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Published locally when another replica changed the catalog, so in-process state can refresh the given ids.
+ */
+@Getter
+public class CatalogInvalidatedEvent {
+
+    private final InvalidationScope scope;
+    private final Collection<Long> ids;
+
+    public CatalogInvalidatedEvent(InvalidationScope scope, Collection<Long> ids) {
+        this.scope = scope;
+        this.ids = List.copyOf(ids);
+    }
+}
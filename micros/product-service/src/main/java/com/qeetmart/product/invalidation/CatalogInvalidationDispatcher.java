@@ -0,0 +1,36 @@
+package com.qeetmart.product.invalidation;
+
+import com.qeetmart.product.config.CatalogProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns messages from other replicas into local {@link CatalogInvalidatedEvent}s. Messages this replica wrote
+ * are skipped because its own listeners already reacted after commit. It subscribes once the context has started,
+ * before the in-memory snapshots begin loading on {@link org.springframework.boot.context.event.ApplicationReadyEvent},
+ * so no change committed while they load goes unnoticed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogInvalidationDispatcher {
+
+    private final ObjectProvider<InvalidationTransport> transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogProperties catalogProperties;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        transport.ifAvailable(target -> target.subscribe(this::dispatch));
+    }
+
+    private void dispatch(InvalidationMessage message) {
+        if (catalogProperties.getInvalidation().getReplicaId().equals(message.getOrigin())) {
+            return;
+        }
+        eventPublisher.publishEvent(new CatalogInvalidatedEvent(message.getScope(), message.getIds()));
+    }
+}
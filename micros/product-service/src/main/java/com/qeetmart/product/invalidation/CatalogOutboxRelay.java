@@ -0,0 +1,83 @@
+package com.qeetmart.product.invalidation;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.repository.CatalogOutboxRepository;
+import com.qeetmart.product.repository.CatalogOutboxRepository.PendingEntry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox into the invalidation transport. Entries are locked, sent and deleted in one transaction,
+ * so a failed send leaves them for the next poll and the Postgres transport only notifies once they are gone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogOutboxRelay {
+
+    private final CatalogOutboxRepository catalogOutboxRepository;
+    private final ObjectProvider<InvalidationTransport> transport;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties catalogProperties;
+
+    @Scheduled(fixedDelayString = "${app.catalog.invalidation.poll-interval:PT0.2S}")
+    public void relay() {
+        InvalidationTransport target = transport.getIfAvailable();
+        if (target == null) {
+            return;
+        }
+
+        int batchSize = catalogProperties.getInvalidation().getBatchSize();
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch(target, batchSize));
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Catalog invalidation relay failed; pending entries will be retried", ex);
+        }
+    }
+
+    private int relayBatch(InvalidationTransport target, int batchSize) {
+        List<PendingEntry> entries = catalogOutboxRepository.lockPending(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Map<Source, Set<Long>> merged = new LinkedHashMap<>();
+        for (PendingEntry entry : entries) {
+            merged.computeIfAbsent(new Source(entry.origin(), entry.scope()), source -> new LinkedHashSet<>())
+                .addAll(entry.ids());
+        }
+
+        int maxIds = catalogProperties.getInvalidation().getMaxIdsPerMessage();
+        List<InvalidationMessage> messages = new ArrayList<>();
+        merged.forEach((source, ids) -> {
+            List<Long> all = List.copyOf(ids);
+            for (int from = 0; from < all.size(); from += maxIds) {
+                messages.add(new InvalidationMessage(
+                    source.origin(),
+                    source.scope(),
+                    all.subList(from, Math.min(all.size(), from + maxIds))
+                ));
+            }
+        });
+
+        target.send(messages);
+        catalogOutboxRepository.delete(entries.stream().map(PendingEntry::id).toList());
+        return entries.size();
+    }
+
+    private record Source(String origin, InvalidationScope scope) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.qeetmart.product.invalidation;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.event.CategoriesChangedEvent;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.repository.CatalogOutboxRepository;
+import java.time.Instant;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogOutboxWriter {
+
+    private final CatalogOutboxRepository catalogOutboxRepository;
+    private final CatalogProperties catalogProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        append(InvalidationScope.PRODUCTS, event.getProductIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        append(InvalidationScope.CATEGORIES, event.getCategoryIds());
+    }
+
+    private void append(InvalidationScope scope, Collection<Long> ids) {
+        CatalogProperties.Invalidation settings = catalogProperties.getInvalidation();
+        if (settings.getTransport() != CatalogProperties.InvalidationTransportType.NONE) {
+            catalogOutboxRepository.append(settings.getReplicaId(), scope, ids, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.qeetmart.product.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays invalidations through an append-only NDJSON file shared by replicas on one host. Intended for local
+ * runs and tests without Postgres; each subscriber tails the file from the size it had at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.catalog.invalidation", name = "transport", havingValue = "file")
+public class FileInvalidationTransport implements InvalidationTransport, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties catalogProperties;
+
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread tailThread;
+
+    @Override
+    public void send(List<InvalidationMessage> messages) {
+        StringBuilder lines = new StringBuilder();
+        for (InvalidationMessage message : messages) {
+            lines.append(toJson(message)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(
+            path(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND
+        ); FileLock ignored = channel.lock()) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append catalog invalidations to " + path(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+        if (tailThread == null) {
+            running = true;
+            long start = currentSize();
+            tailThread = new Thread(() -> tail(start), "catalog-invalidation-tail");
+            tailThread.setDaemon(true);
+            tailThread.start();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (tailThread != null) {
+            tailThread.interrupt();
+        }
+    }
+
+    private void tail(long position) {
+        long pollMillis = catalogProperties.getInvalidation().getPollInterval().toMillis();
+        StringBuilder partial = new StringBuilder();
+        while (running) {
+            try {
+                if (Files.exists(path())) {
+                    try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.READ)) {
+                        if (channel.size() < position) {
+                            position = 0;
+                            partial.setLength(0);
+                        }
+                        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size() - position, 1 << 20));
+                        int read = channel.read(buffer, position);
+                        if (read > 0) {
+                            position += read;
+                            partial.append(new String(buffer.array(), 0, read, StandardCharsets.UTF_8));
+                            deliverCompleteLines(partial);
+                        }
+                    }
+                }
+                TimeUnit.MILLISECONDS.sleep(pollMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException ex) {
+                log.warn("Failed to read catalog invalidations from {}", path(), ex);
+            }
+        }
+    }
+
+    private void deliverCompleteLines(StringBuilder partial) {
+        int newline;
+        while ((newline = partial.indexOf("\n")) >= 0) {
+            String line = partial.substring(0, newline);
+            partial.delete(0, newline + 1);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                InvalidationMessage message = objectMapper.readValue(line, InvalidationMessage.class);
+                listeners.forEach(listener -> listener.accept(message));
+            } catch (JsonProcessingException | RuntimeException ex) {
+                log.warn("Ignoring unreadable catalog invalidation: {}", line, ex);
+            }
+        }
+    }
+
+    private long currentSize() {
+        try {
+            return Files.exists(path()) ? Files.size(path()) : 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Path path() {
+        return catalogProperties.getInvalidation().getFilePath();
+    }
+
+    private String toJson(InvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize catalog invalidation", ex);
+        }
+    }
+}
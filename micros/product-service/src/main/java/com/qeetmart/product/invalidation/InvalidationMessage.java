@@ -0,0 +1,18 @@
+package com.qeetmart.product.invalidation;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvalidationMessage {
+
+    private String origin;
+    private InvalidationScope scope;
+    private List<Long> ids;
+}
@@ -0,0 +1,11 @@
+package com.qeetmart.product.invalidation;
+
+public enum InvalidationScope {
+    PRODUCTS,
+    CATEGORIES,
+    /**
+     * Raised locally by a transport that may have missed messages; everything derived from the catalog must be
+     * rebuilt. Never written to the outbox, so it carries no ids.
+     */
+    ALL
+}
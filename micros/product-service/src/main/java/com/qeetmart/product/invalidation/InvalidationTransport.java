@@ -0,0 +1,15 @@
+package com.qeetmart.product.invalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface InvalidationTransport {
+
+    /**
+     * Broadcasts to every replica. Called inside the relay transaction; transports that can tie delivery to the
+     * commit should do so.
+     */
+    void send(List<InvalidationMessage> messages);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+}
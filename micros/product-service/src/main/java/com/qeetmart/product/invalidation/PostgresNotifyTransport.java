@@ -0,0 +1,204 @@
+package com.qeetmart.product.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays invalidations with Postgres NOTIFY. Notifications issued inside the relay transaction are delivered
+ * only when it commits. Every replica LISTENs on its own connection opened outside the pool, so the listener never
+ * takes a connection away from request handling.
+ * <p>
+ * NOTIFY is not queued for a listener that is not connected, and the relay deletes outbox rows once sent, so
+ * whatever was sent while the connection was down is gone. After every reconnect the listener therefore delivers
+ * an {@link InvalidationScope#ALL} message, and local state rebuilds itself from the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.catalog.invalidation", name = "transport", havingValue = "postgres")
+public class PostgresNotifyTransport implements InvalidationTransport, DisposableBean {
+
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int LISTEN_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties catalogProperties;
+
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void send(List<InvalidationMessage> messages) {
+        for (InvalidationMessage message : messages) {
+            String payload = toJson(message);
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES && message.getIds().size() > 1) {
+                int half = message.getIds().size() / 2;
+                send(List.of(
+                    new InvalidationMessage(message.getOrigin(), message.getScope(), message.getIds().subList(0, half)),
+                    new InvalidationMessage(message.getOrigin(), message.getScope(), message.getIds().subList(half, message.getIds().size()))
+                ));
+                continue;
+            }
+            jdbcTemplate.queryForList(
+                "select pg_notify(:channel, :payload)",
+                new MapSqlParameterSource()
+                    .addValue("channel", catalogProperties.getInvalidation().getChannel())
+                    .addValue("payload", payload)
+            );
+        }
+    }
+
+    /**
+     * Opens the first connection before returning, so notifications sent once a subscriber is registered are not
+     * missed; if that fails, the listener keeps retrying and resets local state once it is connected.
+     */
+    @Override
+    public synchronized void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+        if (listenerThread == null) {
+            running = true;
+            Connection initial = null;
+            try {
+                initial = connect();
+            } catch (SQLException ex) {
+                log.warn("Catalog invalidation listener could not connect; retrying", ex);
+            }
+            Connection first = initial;
+            listenerThread = new Thread(() -> listen(first), "catalog-invalidation-listener");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen(Connection initial) {
+        Connection connection = initial;
+        boolean missedNotifications = initial == null;
+        try {
+            while (running) {
+                try {
+                    if (connection == null) {
+                        connection = connect();
+                    }
+                    if (missedNotifications) {
+                        missedNotifications = false;
+                        deliver(new InvalidationMessage(null, InvalidationScope.ALL, List.of()));
+                    }
+                    PGConnection notifications = connection.unwrap(PGConnection.class);
+                    while (running) {
+                        PGNotification[] received = notifications.getNotifications(LISTEN_TIMEOUT_MILLIS);
+                        if (received != null) {
+                            for (PGNotification notification : received) {
+                                deliver(notification.getParameter());
+                            }
+                        }
+                    }
+                } catch (SQLException ex) {
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("Catalog invalidation listener lost its connection; reconnecting", ex);
+                    close(connection);
+                    connection = null;
+                    missedNotifications = true;
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MILLIS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            close(connection);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        String channel = catalogProperties.getInvalidation().getChannel();
+        Connection connection = DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword()
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("listen " + channel);
+        } catch (SQLException ex) {
+            close(connection);
+            throw ex;
+        }
+        log.info("Listening for catalog invalidations on channel {}", channel);
+        return connection;
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Failed to close the catalog invalidation connection", ex);
+        }
+    }
+
+    private void deliver(InvalidationMessage message) {
+        for (Consumer<InvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException ex) {
+                log.warn("Catalog invalidation listener failed on {} {}", message.getScope(), message.getIds(), ex);
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring unreadable catalog invalidation: {}", payload, ex);
+            return;
+        }
+        deliver(message);
+    }
+
+    private String toJson(InvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize catalog invalidation", ex);
+        }
+    }
+}
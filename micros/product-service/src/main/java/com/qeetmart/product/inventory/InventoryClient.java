@@ -0,0 +1,84 @@
+package com.qeetmart.product.inventory;
+
+import com.qeetmart.product.config.InventoryProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Reads stock levels from inventory-service ({@code contracts/openapi/inventory-service.openapi.json}). Lookups run
+ * on a pool sized to {@code app.inventory.max-concurrent-calls} with no queue, so a slow inventory-service can tie
+ * up at most that many threads; once they are all busy, lookups are rejected instead of waiting.
+ */
+@Component
+public class InventoryClient {
+
+    private final RestClient restClient;
+    private final ThreadPoolExecutor executor;
+
+    public InventoryClient(RestClient inventoryRestClient, InventoryProperties inventoryProperties) {
+        this.restClient = inventoryRestClient;
+        int maxConcurrentCalls = inventoryProperties.getMaxConcurrentCalls();
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            maxConcurrentCalls,
+            maxConcurrentCalls,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "inventory-client-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Completes with {@link RejectedExecutionException} when every lookup slot is taken.
+     */
+    public CompletableFuture<StockLevel> fetchStock(Long productId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> getStock(productId), executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private StockLevel getStock(Long productId) {
+        return restClient.get()
+            .uri("/inventory/{productId}", productId)
+            .exchange((request, response) -> {
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                    return StockLevel.NONE;
+                }
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new IllegalStateException("inventory-service answered " + response.getStatusCode());
+                }
+                InventoryResponse body = response.bodyTo(InventoryResponse.class);
+                if (body == null || body.data() == null) {
+                    throw new IllegalStateException("inventory-service answered without stock data");
+                }
+                return new StockLevel(body.data().availableQuantity());
+            });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record InventoryResponse(boolean success, InventoryStock data) {
+    }
+
+    private record InventoryStock(String productId, int availableQuantity, int reservedQuantity) {
+    }
+}
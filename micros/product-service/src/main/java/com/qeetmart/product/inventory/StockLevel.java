@@ -0,0 +1,13 @@
+package com.qeetmart.product.inventory;
+
+/**
+ * Units of a product that can still be reserved; a product unknown to inventory-service has none.
+ */
+public record StockLevel(int availableQuantity) {
+
+    public static final StockLevel NONE = new StockLevel(0);
+
+    public boolean inStock() {
+        return availableQuantity > 0;
+    }
+}
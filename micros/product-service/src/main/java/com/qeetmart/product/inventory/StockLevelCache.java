@@ -0,0 +1,61 @@
+package com.qeetmart.product.inventory;
+
+import com.qeetmart.product.config.InventoryProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU of stock levels read from inventory-service, each served for the configured TTL only. Stock changes
+ * with every order, so the TTL is kept short; the cache exists to absorb repeated lookups of the same product
+ * cards within a few seconds.
+ */
+@Component
+public class StockLevelCache {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public StockLevelCache(InventoryProperties inventoryProperties) {
+        this.ttl = inventoryProperties.getStockTtl();
+        this.maxEntries = inventoryProperties.getMaxCachedStockLevels();
+    }
+
+    public Optional<StockLevel> get(Long productId) {
+        Instant now = Instant.now();
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.expiresAt.isAfter(now)) {
+                entries.remove(productId);
+                return Optional.empty();
+            }
+            return Optional.of(entry.stock);
+        }
+    }
+
+    public void put(Long productId, StockLevel stock) {
+        if (maxEntries == 0 || ttl.isZero()) {
+            return;
+        }
+        Entry entry = new Entry(stock, Instant.now().plus(ttl));
+        synchronized (entries) {
+            entries.put(productId, entry);
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private record Entry(StockLevel stock, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.qeetmart.product.io;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CatalogExportRow {
+
+    private long productId;
+    private String name;
+    private String description;
+    private String brand;
+    private long categoryId;
+    private BigDecimal price;
+    private String currency;
+    private String status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Long variantId;
+    private String sku;
+    private String color;
+    private String size;
+    private BigDecimal additionalPrice;
+}
@@ -0,0 +1,31 @@
+package com.qeetmart.product.io;
+
+import com.qeetmart.product.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+public enum CatalogFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    CatalogFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static CatalogFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (CatalogFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new BadRequestException("Unsupported catalog format: " + contentType);
+    }
+}
@@ -0,0 +1,16 @@
+package com.qeetmart.product.io;
+
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CatalogRowReader extends Closeable {
+
+    /**
+     * Returns the next row, or {@code null} once the input is exhausted. Malformed rows raise
+     * {@link IllegalArgumentException}; the reader stays positioned after the bad line.
+     */
+    CatalogImportRow next() throws IOException;
+
+    int getLineNumber();
+}
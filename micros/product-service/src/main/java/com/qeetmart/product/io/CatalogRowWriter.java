@@ -0,0 +1,15 @@
+package com.qeetmart.product.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CatalogRowWriter extends Closeable {
+
+    /**
+     * Rows must arrive ordered by product id so that a product and its variants can be written without
+     * buffering more than the current product.
+     */
+    void write(CatalogExportRow row) throws IOException;
+
+    long getProductsWritten();
+}
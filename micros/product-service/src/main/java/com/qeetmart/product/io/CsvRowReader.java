@@ -0,0 +1,147 @@
+package com.qeetmart.product.io;
+
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import com.qeetmart.product.exception.BadRequestException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 style CSV. A quoted field may span lines, in which case the record continues on the next line and
+ * the line break is kept as {@code \n}; {@link #getLineNumber()} reports the line the record starts on.
+ */
+public class CsvRowReader implements CatalogRowReader {
+
+    /**
+     * Bounds the memory a record with an unterminated quote can take before it is rejected.
+     */
+    private static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final StringBuilder record = new StringBuilder(256);
+    private int linesRead;
+    private int lineNumber;
+
+    public CsvRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new BadRequestException("CSV input must start with a header row");
+        }
+        linesRead = 1;
+        lineNumber = 1;
+
+        List<String> names;
+        try {
+            names = CsvSupport.parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid CSV header: " + ex.getMessage());
+        }
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && columns.putIfAbsent(name, i) != null) {
+                throw new BadRequestException("Duplicate CSV column: " + names.get(i).trim());
+            }
+        }
+        if (!columns.containsKey("name")) {
+            throw new BadRequestException("CSV header must include a name column");
+        }
+    }
+
+    @Override
+    public CatalogImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            linesRead++;
+        } while (line.isBlank());
+        lineNumber = linesRead;
+
+        List<String> fields = CsvSupport.parseLine(readRecord(line));
+
+        CatalogImportRow row = new CatalogImportRow();
+        row.setProductKey(text(fields, "productkey"));
+        row.setName(text(fields, "name"));
+        row.setDescription(text(fields, "description"));
+        row.setBrand(text(fields, "brand"));
+        row.setCategoryId(longValue(fields, "categoryid"));
+        row.setCategoryName(text(fields, "categoryname"));
+        row.setPrice(decimal(fields, "price"));
+        row.setCurrency(text(fields, "currency"));
+        row.setStatus(text(fields, "status"));
+        row.setSku(text(fields, "sku"));
+        row.setColor(text(fields, "color"));
+        row.setSize(text(fields, "size"));
+        row.setAdditionalPrice(decimal(fields, "additionalprice"));
+        return row;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readRecord(String firstLine) throws IOException {
+        if (!CsvSupport.hasOddQuotes(firstLine)) {
+            return firstLine;
+        }
+
+        record.setLength(0);
+        record.append(firstLine);
+        boolean open = true;
+        while (open) {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            linesRead++;
+            record.append('\n').append(line);
+            if (record.length() > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            open = CsvSupport.hasOddQuotes(line) != open;
+        }
+        return record.toString();
+    }
+
+    private String text(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private Long longValue(List<String> fields, String column) {
+        String value = text(fields, column);
+        try {
+            return value == null ? null : Long.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private BigDecimal decimal(List<String> fields, String column) {
+        String value = text(fields, column);
+        try {
+            return value == null ? null : new BigDecimal(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.qeetmart.product.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvRowWriter implements CatalogRowWriter {
+
+    private static final String HEADER =
+        "productKey,name,description,brand,categoryId,price,currency,status,sku,color,size,additionalPrice\n";
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(256);
+    private long lastProductId = -1;
+    private long productsWritten;
+
+    public CsvRowWriter(OutputStream out) throws IOException {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        this.writer.write(HEADER);
+    }
+
+    @Override
+    public void write(CatalogExportRow row) throws IOException {
+        if (row.getProductId() != lastProductId) {
+            lastProductId = row.getProductId();
+            productsWritten++;
+        }
+
+        line.setLength(0);
+        CsvSupport.appendField(line, row.getProductId());
+        line.append(',');
+        CsvSupport.appendField(line, row.getName());
+        line.append(',');
+        CsvSupport.appendField(line, row.getDescription());
+        line.append(',');
+        CsvSupport.appendField(line, row.getBrand());
+        line.append(',');
+        CsvSupport.appendField(line, row.getCategoryId());
+        line.append(',');
+        CsvSupport.appendField(line, row.getPrice() == null ? null : row.getPrice().toPlainString());
+        line.append(',');
+        CsvSupport.appendField(line, row.getCurrency());
+        line.append(',');
+        CsvSupport.appendField(line, row.getStatus());
+        line.append(',');
+        CsvSupport.appendField(line, row.getSku());
+        line.append(',');
+        CsvSupport.appendField(line, row.getColor());
+        line.append(',');
+        CsvSupport.appendField(line, row.getSize());
+        line.append(',');
+        CsvSupport.appendField(line, row.getAdditionalPrice() == null ? null : row.getAdditionalPrice().toPlainString());
+        line.append('\n');
+        writer.write(line.toString());
+    }
+
+    @Override
+    public long getProductsWritten() {
+        return productsWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.qeetmart.product.io;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads one JSON object per line. A line is either a flat {@link CatalogImportRow} or a product in the shape
+ * {@link NdjsonRowWriter} exports, with its variants nested under {@code variants} and its {@code id} standing in
+ * for the product key; the latter expands into one row per variant, so an export can be imported again.
+ */
+public class NdjsonRowReader implements CatalogRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rowReader;
+    private final Deque<CatalogImportRow> expanded = new ArrayDeque<>();
+    private int lineNumber;
+
+    public NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(CatalogImportRow.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public CatalogImportRow next() throws IOException {
+        if (!expanded.isEmpty()) {
+            return expanded.poll();
+        }
+
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Each line must be a JSON object");
+        }
+        return read((ObjectNode) node);
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private CatalogImportRow read(ObjectNode product) throws IOException {
+        JsonNode variants = product.remove("variants");
+        JsonNode id = product.get("id");
+        if (!product.hasNonNull("productKey") && id != null && id.isValueNode() && !id.isNull()) {
+            product.put("productKey", id.asText());
+        }
+        if (variants == null || variants.isNull()) {
+            return bind(product);
+        }
+        if (!variants.isArray()) {
+            throw new IllegalArgumentException("variants must be an array");
+        }
+        if (variants.isEmpty()) {
+            return bind(product);
+        }
+
+        for (JsonNode variant : variants) {
+            if (!variant.isObject()) {
+                expanded.clear();
+                throw new IllegalArgumentException("Each variant must be a JSON object");
+            }
+            ObjectNode row = product.deepCopy();
+            row.setAll((ObjectNode) variant);
+            try {
+                expanded.add(bind(row));
+            } catch (IllegalArgumentException ex) {
+                expanded.clear();
+                throw ex;
+            }
+        }
+        return expanded.poll();
+    }
+
+    private CatalogImportRow bind(ObjectNode node) throws IOException {
+        try {
+            return rowReader.readValue(node);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.qeetmart.product.io;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+public class NdjsonRowWriter implements CatalogRowWriter {
+
+    private final JsonGenerator generator;
+    private Long currentProductId;
+    private long productsWritten;
+
+    public NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(CatalogExportRow row) throws IOException {
+        if (currentProductId == null || currentProductId != row.getProductId()) {
+            endProduct();
+            startProduct(row);
+        }
+
+        if (row.getVariantId() != null) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getVariantId());
+            generator.writeStringField("sku", row.getSku());
+            generator.writeStringField("color", row.getColor());
+            generator.writeStringField("size", row.getSize());
+            generator.writeNumberField("additionalPrice", row.getAdditionalPrice());
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public long getProductsWritten() {
+        return productsWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        endProduct();
+        generator.close();
+    }
+
+    private void startProduct(CatalogExportRow row) throws IOException {
+        currentProductId = row.getProductId();
+        productsWritten++;
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getProductId());
+        generator.writeStringField("name", row.getName());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("brand", row.getBrand());
+        generator.writeNumberField("categoryId", row.getCategoryId());
+        generator.writeNumberField("price", row.getPrice());
+        generator.writeStringField("currency", row.getCurrency());
+        generator.writeStringField("status", row.getStatus());
+        generator.writeStringField("createdAt", format(row.getCreatedAt()));
+        generator.writeStringField("updatedAt", format(row.getUpdatedAt()));
+        generator.writeArrayFieldStart("variants");
+    }
+
+    private void endProduct() throws IOException {
+        if (currentProductId == null) {
+            return;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        currentProductId = null;
+    }
+
+    private String format(Instant instant) {
+        return instant == null ? null : instant.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.qeetmart.product.mapper;
+
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.request.ProductUpdateRequest;
+import com.qeetmart.product.dto.request.ProductVariantUpdateRequest;
+import com.qeetmart.product.dto.response.ArchivedProductResponse;
+import com.qeetmart.product.dto.response.CategoryResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.entity.ArchivedProduct;
+import com.qeetmart.product.entity.ArchivedProductVariant;
+import com.qeetmart.product.entity.Category;
+import com.qeetmart.product.entity.Product;
+import com.qeetmart.product.entity.ProductVariant;
+import com.qeetmart.product.readmodel.VariantSku;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductMapper {
+
+    public ProductResponse toProductResponse(Product product) {
+        return productResponseBuilder(product).build();
+    }
+
+    public ProductResponse toProductResponseWithVariants(Product product) {
+        return toProductDetail(product, EnumSet.of(ProductInclude.VARIANTS));
+    }
+
+    public ProductResponse toProductDetail(Product product, Set<ProductInclude> includes) {
+        ProductResponse.ProductResponseBuilder builder = productResponseBuilder(product);
+        if (includes.contains(ProductInclude.CATEGORY)) {
+            builder.category(toCategoryResponse(product.getCategory()));
+        }
+        if (includes.contains(ProductInclude.VARIANTS)) {
+            builder.variants(product.getVariants().stream()
+                .sorted(Comparator.comparing(ProductVariant::getId))
+                .map(this::toVariantResponse)
+                .toList());
+        }
+        return builder.build();
+    }
+
+    public CategoryResponse toCategoryResponse(Category category) {
+        return CategoryResponse.builder()
+            .id(category.getId())
+            .name(category.getName())
+            .description(category.getDescription())
+            .createdAt(category.getCreatedAt())
+            .updatedAt(category.getUpdatedAt())
+            .build();
+    }
+
+    public ProductVariantResponse toVariantResponse(ProductVariant variant) {
+        return ProductVariantResponse.builder()
+            .id(variant.getId())
+            .productId(variant.getProduct().getId())
+            .sku(variant.getSku())
+            .color(variant.getColor())
+            .size(variant.getSize())
+            .additionalPrice(variant.getAdditionalPrice())
+            .createdAt(variant.getCreatedAt())
+            .updatedAt(variant.getUpdatedAt())
+            .build();
+    }
+
+    public ProductVariantResponse toVariantResponse(VariantSku variant) {
+        return ProductVariantResponse.builder()
+            .id(variant.variantId())
+            .productId(variant.productId())
+            .sku(variant.sku())
+            .color(variant.color())
+            .size(variant.size())
+            .additionalPrice(variant.additionalPrice())
+            .createdAt(variant.createdAt())
+            .updatedAt(variant.updatedAt())
+            .build();
+    }
+
+    /**
+     * The current state as a full update request, the base a merge patch is applied to.
+     */
+    public ProductUpdateRequest toUpdateRequest(Product product) {
+        ProductUpdateRequest request = new ProductUpdateRequest();
+        request.setName(product.getName());
+        request.setDescription(product.getDescription());
+        request.setBrand(product.getBrand());
+        request.setCategoryId(product.getCategory().getId());
+        request.setPrice(product.getPrice());
+        request.setCurrency(product.getCurrency());
+        request.setStatus(product.getStatus());
+        return request;
+    }
+
+    public ProductVariantUpdateRequest toUpdateRequest(ProductVariant variant) {
+        ProductVariantUpdateRequest request = new ProductVariantUpdateRequest();
+        request.setSku(variant.getSku());
+        request.setColor(variant.getColor());
+        request.setSize(variant.getSize());
+        request.setAdditionalPrice(variant.getAdditionalPrice());
+        return request;
+    }
+
+    public ArchivedProductResponse toArchivedProductResponse(ArchivedProduct product, boolean withVariants) {
+        ArchivedProductResponse.ArchivedProductResponseBuilder builder = ArchivedProductResponse.builder()
+            .id(product.getId())
+            .name(product.getName())
+            .description(product.getDescription())
+            .brand(product.getBrand())
+            .categoryId(product.getCategoryId())
+            .price(product.getPrice())
+            .currency(product.getCurrency())
+            .status(product.getStatus())
+            .createdAt(product.getCreatedAt())
+            .updatedAt(product.getUpdatedAt())
+            .archivedAt(product.getArchivedAt());
+        if (withVariants) {
+            builder.variants(product.getVariants().stream()
+                .sorted(Comparator.comparing(ArchivedProductVariant::getId))
+                .map(variant -> ProductVariantResponse.builder()
+                    .id(variant.getId())
+                    .productId(product.getId())
+                    .sku(variant.getSku())
+                    .color(variant.getColor())
+                    .size(variant.getSize())
+                    .additionalPrice(variant.getAdditionalPrice())
+                    .createdAt(variant.getCreatedAt())
+                    .updatedAt(variant.getUpdatedAt())
+                    .build())
+                .toList());
+        }
+        return builder.build();
+    }
+
+    private ProductResponse.ProductResponseBuilder productResponseBuilder(Product product) {
+        return ProductResponse.builder()
+            .id(product.getId())
+            .name(product.getName())
+            .description(product.getDescription())
+            .brand(product.getBrand())
+            .categoryId(product.getCategory().getId())
+            .price(product.getPrice())
+            .currency(product.getCurrency())
+            .status(product.getStatus())
+            .createdAt(product.getCreatedAt())
+            .updatedAt(product.getUpdatedAt())
+            .deleted(product.isDeleted());
+    }
+}
@@ -0,0 +1,85 @@
+package com.qeetmart.product.popularity;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Count-min sketch over product ids: {@code depth} rows of {@code width} counters. An estimate never undercounts
+ * and, with probability {@code 1 - e^-depth}, overcounts by at most {@code e / width} of the events added. Not
+ * thread-safe; {@link TrendingProductsTracker} guards each bucket.
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] seeds;
+    private final int[] counters;
+    private long total;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.seeds = seeds(depth);
+        this.counters = new int[width * depth];
+    }
+
+    void add(long productId) {
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(productId, row)]++;
+        }
+        total++;
+    }
+
+    long total() {
+        return total;
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+        total = 0;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Adds this sketch's counters for each id to {@code rowSums}, laid out as {@code depth} slots per id. Summing
+     * rows across the sketches of a window before taking the minimum bounds the estimate more tightly than adding
+     * up per-sketch estimates.
+     */
+    void accumulate(long[] productIds, long[] rowSums) {
+        for (int i = 0; i < productIds.length; i++) {
+            for (int row = 0; row < depth; row++) {
+                rowSums[i * depth + row] += counters[row * width + column(productIds[i], row)];
+            }
+        }
+    }
+
+    static double epsilon(int width) {
+        return Math.E / width;
+    }
+
+    static double delta(int depth) {
+        return Math.exp(-depth);
+    }
+
+    static long sizeInBytes(int width, int depth) {
+        return (long) width * depth * Integer.BYTES;
+    }
+
+    private int column(long productId, int row) {
+        long h = (productId ^ seeds[row]) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        return (int) Math.floorMod(h, (long) width);
+    }
+
+    private static long[] seeds(int depth) {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        long[] seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = random.nextLong();
+        }
+        return seeds;
+    }
+}
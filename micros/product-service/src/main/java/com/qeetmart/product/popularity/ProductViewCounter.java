@@ -0,0 +1,81 @@
+package com.qeetmart.product.popularity;
+
+import com.qeetmart.product.config.CatalogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts product views in memory until {@link ProductViewFlusher} drains them. Threads are spread over stripes,
+ * in the manner of {@link java.util.concurrent.atomic.LongAdder}, so a hot product does not serialize every
+ * request on one cache line. Each stripe is double-buffered: draining swaps in the spare table and recycles the
+ * drained one.
+ */
+@Component
+public class ProductViewCounter {
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<ViewCountTable> stripes;
+    private final ViewCountTable[] spares;
+    private final int stripeMask;
+    private final Counter dropped;
+
+    public ProductViewCounter(CatalogProperties catalogProperties, MeterRegistry meterRegistry) {
+        CatalogProperties.Views settings = catalogProperties.getViews();
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        int keysPerStripe = Math.max(1, settings.getMaxTrackedIds() / stripeCount);
+
+        this.enabled = settings.isEnabled();
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.spares = new ViewCountTable[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.set(i, new ViewCountTable(keysPerStripe));
+            spares[i] = new ViewCountTable(keysPerStripe);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.dropped = meterRegistry.counter("catalog.views.dropped");
+    }
+
+    public void record(long productId) {
+        if (!enabled || productId <= 0) {
+            return;
+        }
+
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        while (true) {
+            ViewCountTable table = stripes.get(stripe);
+            table.writers.incrementAndGet();
+            try {
+                if (stripes.get(stripe) != table) {
+                    continue;
+                }
+                if (!table.increment(productId)) {
+                    dropped.increment();
+                }
+                return;
+            } finally {
+                table.writers.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the views counted since the previous drain, summed across stripes. Only one thread may drain.
+     */
+    synchronized Map<Long, Long> drain() {
+        Map<Long, Long> views = new HashMap<>();
+        for (int stripe = 0; stripe < spares.length; stripe++) {
+            ViewCountTable drained = stripes.getAndSet(stripe, spares[stripe]);
+            while (drained.writers.get() > 0) {
+                Thread.onSpinWait();
+            }
+            drained.drainTo((productId, count) -> views.merge(productId, count, Long::sum));
+            drained.clear();
+            spares[stripe] = drained;
+        }
+        return views;
+    }
+}
@@ -0,0 +1,58 @@
+package com.qeetmart.product.popularity;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.repository.ProductViewCountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes counted views behind the request path. Each flush is one batched upsert; if it fails the deltas are kept
+ * and merged into the next flush, up to the tracked-id cap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewFlusher {
+
+    private final ProductViewCounter productViewCounter;
+    private final ProductViewCountRepository productViewCountRepository;
+    private final CatalogProperties catalogProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Map<Long, Long> pending = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${app.catalog.views.flush-interval:PT5S}")
+    public synchronized void flush() {
+        productViewCounter.drain().forEach((productId, count) -> pending.merge(productId, count, Long::sum));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            meterRegistry.timer("catalog.views.flush").record(() ->
+                productViewCountRepository.addViews(pending, Instant.now())
+            );
+            meterRegistry.counter("catalog.views.flushed").increment(pending.size());
+            pending = new HashMap<>();
+        } catch (RuntimeException ex) {
+            int maxTrackedIds = catalogProperties.getViews().getMaxTrackedIds();
+            if (pending.size() > maxTrackedIds) {
+                meterRegistry.counter("catalog.views.dropped").increment(pending.size());
+                pending = new HashMap<>();
+            }
+            log.warn("Failed to flush product views; {} ids will be retried", pending.size(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,101 @@
+package com.qeetmart.product.popularity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Space-saving heavy-hitter summary with a fixed number of slots. When a new id arrives and every slot is taken,
+ * it replaces the id with the smallest count, so any id seen more than {@code n / capacity} times is kept. The
+ * slots form a binary min-heap on count. Not thread-safe; {@link TrendingProductsTracker} guards each bucket.
+ */
+final class SpaceSaving {
+
+    private final long[] ids;
+    private final long[] counts;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    SpaceSaving(int capacity) {
+        this.ids = new long[capacity];
+        this.counts = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    void offer(long productId) {
+        Integer position = positions.get(productId);
+        if (position != null) {
+            counts[position]++;
+            siftDown(position);
+            return;
+        }
+
+        if (size < ids.length) {
+            ids[size] = productId;
+            counts[size] = 1;
+            positions.put(productId, size);
+            siftUp(size++);
+            return;
+        }
+
+        positions.remove(ids[0]);
+        ids[0] = productId;
+        counts[0]++;
+        positions.put(productId, 0);
+        siftDown(0);
+    }
+
+    void forEachId(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[i]);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        positions.clear();
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        long count = counts[a];
+        ids[a] = ids[b];
+        counts[a] = counts[b];
+        ids[b] = id;
+        counts[b] = count;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+}
@@ -0,0 +1,143 @@
+package com.qeetmart.product.popularity;
+
+import com.qeetmart.product.config.CatalogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sliding-window heavy hitters over product views. The window is a ring of time buckets, each holding a
+ * {@link CountMinSketch} for counts and a {@link SpaceSaving} summary for candidates, so memory is fixed by
+ * configuration whatever the catalog size. A query unions the candidates of the buckets it spans and ranks them
+ * by their sketch estimates summed over those buckets.
+ */
+@Component
+public class TrendingProductsTracker {
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int depth;
+    private final Bucket[] buckets;
+    private final Clock clock;
+    private final Counter events;
+
+    @Autowired
+    public TrendingProductsTracker(CatalogProperties catalogProperties, MeterRegistry meterRegistry) {
+        this(catalogProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    TrendingProductsTracker(CatalogProperties catalogProperties, MeterRegistry meterRegistry, Clock clock) {
+        CatalogProperties.Trending settings = catalogProperties.getTrending();
+        this.enabled = settings.isEnabled();
+        this.bucketMillis = settings.getBucketDuration().toMillis();
+        this.clock = clock;
+        this.depth = settings.getSketchDepth();
+        this.buckets = new Bucket[enabled ? settings.getBuckets() : 0];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(settings);
+        }
+
+        this.events = meterRegistry.counter("catalog.trending.events");
+        Gauge.builder("catalog.trending.sketch.epsilon", () -> CountMinSketch.epsilon(settings.getSketchWidth()))
+            .description("Relative overcount bound of a count estimate")
+            .register(meterRegistry);
+        Gauge.builder("catalog.trending.sketch.delta", () -> CountMinSketch.delta(settings.getSketchDepth()))
+            .description("Probability that an estimate exceeds the overcount bound")
+            .register(meterRegistry);
+        Gauge.builder("catalog.trending.sketch.bytes", () -> (double) buckets.length
+                * CountMinSketch.sizeInBytes(settings.getSketchWidth(), settings.getSketchDepth()))
+            .register(meterRegistry);
+    }
+
+    public void record(long productId) {
+        if (!enabled) {
+            return;
+        }
+
+        long epoch = clock.millis() / bucketMillis;
+        Bucket bucket = buckets[(int) (epoch % buckets.length)];
+        synchronized (bucket) {
+            bucket.rollTo(epoch);
+            bucket.sketch.add(productId);
+            bucket.heavyHitters.offer(productId);
+        }
+        events.increment();
+    }
+
+    /**
+     * Ranks the products seen in the newest {@code bucketCount} buckets, the current partial bucket included.
+     * Buckets are locked one at a time, so recording is never blocked for the whole query.
+     */
+    public TrendingSnapshot top(int bucketCount, int limit) {
+        long current = clock.millis() / bucketMillis;
+        long oldest = current - Math.min(bucketCount, buckets.length) + 1;
+
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                if (bucket.epoch >= oldest && bucket.epoch <= current) {
+                    bucket.heavyHitters.forEachId(candidates::add);
+                }
+            }
+        }
+
+        long[] productIds = candidates.stream().mapToLong(Long::longValue).toArray();
+        long[] rowSums = new long[productIds.length * depth];
+        long total = 0;
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                if (bucket.epoch >= oldest && bucket.epoch <= current) {
+                    bucket.sketch.accumulate(productIds, rowSums);
+                    total += bucket.sketch.total();
+                }
+            }
+        }
+
+        List<TrendingSnapshot.Entry> ranked = new ArrayList<>(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                estimate = Math.min(estimate, rowSums[i * depth + row]);
+            }
+            ranked.add(new TrendingSnapshot.Entry(productIds[i], estimate));
+        }
+        ranked.sort(Comparator.comparingLong(TrendingSnapshot.Entry::count).reversed()
+            .thenComparingLong(TrendingSnapshot.Entry::productId));
+
+        return new TrendingSnapshot(
+            List.copyOf(ranked.subList(0, Math.min(limit, ranked.size()))),
+            total,
+            Instant.ofEpochMilli(oldest * bucketMillis),
+            Instant.ofEpochMilli((current + 1) * bucketMillis)
+        );
+    }
+
+    private static final class Bucket {
+
+        private final CountMinSketch sketch;
+        private final SpaceSaving heavyHitters;
+        private long epoch = Long.MIN_VALUE;
+
+        private Bucket(CatalogProperties.Trending settings) {
+            this.sketch = new CountMinSketch(settings.getSketchWidth(), settings.getSketchDepth());
+            this.heavyHitters = new SpaceSaving(settings.getHeavyHitters());
+        }
+
+        private void rollTo(long current) {
+            if (epoch != current) {
+                sketch.clear();
+                heavyHitters.clear();
+                epoch = current;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.qeetmart.product.popularity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @param events every view recorded in the window, the {@code N} in the sketch's {@code epsilon * N} error bound
+ */
+public record TrendingSnapshot(List<Entry> entries, long events, Instant from, Instant to) {
+
+    public record Entry(long productId, long count) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.qeetmart.product.popularity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity open-addressing map from product id to count, built on atomic arrays so increments never lock.
+ * A slot's key is claimed once with a CAS and never moves; {@code writers} lets a drainer wait for in-flight
+ * increments after swapping the table out.
+ */
+final class ViewCountTable {
+
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray counts;
+    private final int mask;
+    private final int maxKeys;
+    private final AtomicInteger size = new AtomicInteger();
+    final AtomicInteger writers = new AtomicInteger();
+
+    ViewCountTable(int maxKeys) {
+        int capacity = Integer.highestOneBit(Math.max(2, maxKeys * 2 - 1)) << 1;
+        this.keys = new AtomicLongArray(capacity);
+        this.counts = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Returns {@code false} when the id is not tracked yet and the table already holds {@code maxKeys} ids.
+     */
+    boolean increment(long productId) {
+        int slot = spread(productId) & mask;
+        while (true) {
+            long key = keys.get(slot);
+            if (key == productId) {
+                counts.incrementAndGet(slot);
+                return true;
+            }
+            if (key == EMPTY) {
+                if (size.get() >= maxKeys) {
+                    return false;
+                }
+                if (keys.compareAndSet(slot, EMPTY, productId)) {
+                    size.incrementAndGet();
+                    counts.incrementAndGet(slot);
+                    return true;
+                }
+                continue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    void drainTo(ViewCountSink sink) {
+        for (int slot = 0; slot < keys.length(); slot++) {
+            long key = keys.get(slot);
+            if (key != EMPTY) {
+                long count = counts.get(slot);
+                if (count > 0) {
+                    sink.accept(key, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Only safe once the table is swapped out and {@code writers} has dropped to zero.
+     */
+    void clear() {
+        for (int slot = 0; slot < keys.length(); slot++) {
+            keys.set(slot, EMPTY);
+            counts.set(slot, 0L);
+        }
+        size.set(0);
+    }
+
+    private static int spread(long productId) {
+        long h = productId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    interface ViewCountSink {
+
+        void accept(long productId, long count);
+    }
+}
@@ -0,0 +1,197 @@
+package com.qeetmart.product.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.CategoryResponse;
+import com.qeetmart.product.dto.response.FacetCount;
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes product responses in the wire format of {@code contracts/proto/qeetmart/product/v1/product.proto}; the
+ * field numbers below must follow that schema. Written by hand so the services need no generated code, and
+ * default values are omitted as proto3 encoders do.
+ */
+public final class ProductProtobuf {
+
+    private static final int MINOR_UNIT_SCALE = 2;
+
+    private ProductProtobuf() {
+    }
+
+    public static byte[] encode(ProductResponse product) {
+        return message(out -> writeProduct(out, product));
+    }
+
+    /**
+     * Encodes a {@code ProductPage}. The page must hold {@link ProductResponse}s; projected listings have no schema.
+     */
+    public static byte[] encode(PagedResponse<?> page) {
+        return message(out -> {
+            for (Object item : page.getContent()) {
+                if (!(item instanceof ProductResponse product)) {
+                    throw new IllegalArgumentException("Only product pages can be encoded as protobuf");
+                }
+                out.writeByteArray(1, encode(product));
+            }
+            writeInt64(out, 2, page.getPage());
+            writeInt64(out, 3, page.getSize());
+            writeInt64(out, 4, page.getTotalElements());
+            writeInt64(out, 5, page.getTotalPages());
+            writeBool(out, 6, page.isLast());
+            if (page.getFacets() != null) {
+                for (Map.Entry<String, List<FacetCount>> facet : page.getFacets().entrySet()) {
+                    out.writeByteArray(7, message(entry -> {
+                        writeString(entry, 1, facet.getKey());
+                        entry.writeByteArray(2, facetCounts(facet.getValue()));
+                    }));
+                }
+            }
+        });
+    }
+
+    /**
+     * Encodes a {@code BatchGetProductsResponse} from {@code product_catalog.proto}.
+     */
+    public static byte[] encode(BatchResponse<ProductResponse, Long> batch) {
+        return message(out -> {
+            for (ProductResponse product : batch.getContent()) {
+                out.writeByteArray(1, encode(product));
+            }
+            if (!batch.getMissing().isEmpty()) {
+                int size = 0;
+                for (Long id : batch.getMissing()) {
+                    size += CodedOutputStream.computeInt64SizeNoTag(id);
+                }
+                out.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(size);
+                for (Long id : batch.getMissing()) {
+                    out.writeInt64NoTag(id);
+                }
+            }
+        });
+    }
+
+    private static void writeProduct(CodedOutputStream out, ProductResponse product) throws IOException {
+        writeInt64(out, 1, product.getId());
+        writeString(out, 2, product.getName());
+        writeString(out, 3, product.getDescription());
+        writeString(out, 4, product.getBrand());
+        writeInt64(out, 5, product.getCategoryId());
+        writeInt64(out, 6, minorUnits(product.getPrice()));
+        writeString(out, 7, product.getCurrency());
+        writeString(out, 8, product.getStatus() == null ? null : product.getStatus().name());
+        writeTimestamp(out, 9, product.getCreatedAt());
+        writeTimestamp(out, 10, product.getUpdatedAt());
+        writeBool(out, 11, product.isDeleted());
+        if (product.getCategory() != null) {
+            out.writeByteArray(12, category(product.getCategory()));
+        }
+        if (product.getVariants() != null) {
+            for (ProductVariantResponse variant : product.getVariants()) {
+                out.writeByteArray(13, variant(variant));
+            }
+        }
+    }
+
+    private static byte[] category(CategoryResponse category) {
+        return message(out -> {
+            writeInt64(out, 1, category.getId());
+            writeString(out, 2, category.getName());
+            writeString(out, 3, category.getDescription());
+            writeTimestamp(out, 4, category.getCreatedAt());
+            writeTimestamp(out, 5, category.getUpdatedAt());
+        });
+    }
+
+    private static byte[] variant(ProductVariantResponse variant) {
+        return message(out -> {
+            writeInt64(out, 1, variant.getId());
+            writeInt64(out, 2, variant.getProductId());
+            writeString(out, 3, variant.getSku());
+            writeString(out, 4, variant.getColor());
+            writeString(out, 5, variant.getSize());
+            writeInt64(out, 6, minorUnits(variant.getAdditionalPrice()));
+            writeTimestamp(out, 7, variant.getCreatedAt());
+            writeTimestamp(out, 8, variant.getUpdatedAt());
+        });
+    }
+
+    private static byte[] facetCounts(List<FacetCount> counts) {
+        return message(out -> {
+            for (FacetCount count : counts) {
+                out.writeByteArray(1, message(entry -> {
+                    writeString(entry, 1, count.getValue());
+                    writeInt64(entry, 2, count.getCount());
+                }));
+            }
+        });
+    }
+
+    private static Long minorUnits(BigDecimal amount) {
+        return amount == null
+            ? null
+            : amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null && value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, long value) throws IOException {
+        if (value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeBool(CodedOutputStream out, int field, boolean value) throws IOException {
+        if (value) {
+            out.writeBool(field, true);
+        }
+    }
+
+    private static void writeTimestamp(CodedOutputStream out, int field, Instant instant) throws IOException {
+        if (instant != null) {
+            out.writeByteArray(field, message(timestamp -> {
+                writeInt64(timestamp, 1, instant.getEpochSecond());
+                writeInt64(timestamp, 2, instant.getNano());
+            }));
+        }
+    }
+
+    private static byte[] message(MessageWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+            writer.write(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MessageWriter {
+
+        void write(CodedOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,188 @@
+package com.qeetmart.product.readmodel;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.FacetCount;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.invalidation.CatalogInvalidatedEvent;
+import com.qeetmart.product.invalidation.InvalidationScope;
+import com.qeetmart.product.repository.CatalogJdbcRepository;
+import com.qeetmart.product.specification.ProductFacet;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CatalogReadModel extends IncrementalSnapshot<ProductColumns, ProductRow> {
+
+    private final CatalogJdbcRepository catalogJdbcRepository;
+    private final CatalogProperties catalogProperties;
+
+    public CatalogReadModel(
+        CatalogJdbcRepository catalogJdbcRepository,
+        PlatformTransactionManager transactionManager,
+        CatalogProperties catalogProperties
+    ) {
+        super(transactionManager, "Catalog read model", "listings will be served from the database");
+        this.catalogJdbcRepository = catalogJdbcRepository;
+        this.catalogProperties = catalogProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (catalogProperties.getReadModel().isEnabled()) {
+            reload();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (catalogProperties.getReadModel().isEnabled()) {
+            refresh(event.getProductIds());
+        }
+    }
+
+    @EventListener
+    public void onCatalogInvalidated(CatalogInvalidatedEvent event) {
+        if (!catalogProperties.getReadModel().isEnabled()) {
+            return;
+        }
+        if (event.getScope() == InvalidationScope.ALL) {
+            reload();
+        } else if (event.getScope() == InvalidationScope.PRODUCTS) {
+            refresh(event.getIds());
+        }
+    }
+
+    public Optional<ReadModelPage> findPage(ProductFilter filter, Pageable pageable) {
+        if (filter.hasPriceRange() || pageable.isUnpaged() || !isIdOrder(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        boolean descending = pageable.getSort().stream().anyMatch(Sort.Order::isDescending);
+        return read(columns -> {
+            RoaringBitmap matches = columns.select(filter);
+            long total = matches.getLongCardinality();
+            long end = Math.min(total, pageable.getOffset() + pageable.getPageSize());
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            for (long rank = pageable.getOffset(); rank < end; rank++) {
+                ids.add((long) matches.select((int) (descending ? total - 1 - rank : rank)));
+            }
+            return new ReadModelPage(ids, total);
+        });
+    }
+
+    public Optional<ResourceVersion> findVersion(ProductFilter filter) {
+        if (filter.hasPriceRange()) {
+            return Optional.empty();
+        }
+
+        return read(columns -> {
+            RoaringBitmap matches = columns.select(filter);
+            return new ResourceVersion(columns.lastModified(matches), matches.getLongCardinality());
+        });
+    }
+
+    public Optional<Map<String, List<FacetCount>>> countFacets(
+        ProductFilter filter,
+        Set<ProductFacet> facets,
+        List<BigDecimal> priceBoundaries
+    ) {
+        if (filter.hasPriceRange() || facets.stream().anyMatch(ProductFacet::isVariantFacet)) {
+            return Optional.empty();
+        }
+
+        return read(columns -> {
+            Map<String, List<FacetCount>> result = new LinkedHashMap<>();
+            RoaringBitmap matches = columns.select(filter);
+            for (ProductFacet facet : ProductFacet.values()) {
+                if (!facets.contains(facet)) {
+                    continue;
+                }
+                result.put(facet.getKey(), switch (facet) {
+                    case BRAND -> sorted(columns.countByBrand(matches));
+                    case CATEGORY -> sorted(columns.countByCategory(matches));
+                    case STATUS -> sorted(columns.countByStatus(matches));
+                    case PRICE -> priceBuckets(columns.countByPriceBucket(matches, priceBoundaries), priceBoundaries);
+                    case COLOR, SIZE -> throw new IllegalStateException("Unsupported facet: " + facet);
+                });
+            }
+            return result;
+        });
+    }
+
+    @Override
+    protected ProductColumns loadSnapshot() {
+        ProductColumns loaded = new ProductColumns();
+        catalogJdbcRepository.streamReadModelRows(catalogProperties.getReadModel().getFetchSize(), loaded::apply);
+        return loaded;
+    }
+
+    @Override
+    protected void fetch(Collection<Long> productIds, Consumer<ProductRow> consumer) {
+        catalogJdbcRepository.findReadModelRows(productIds, consumer);
+    }
+
+    @Override
+    protected void apply(ProductColumns columns, Collection<Long> productIds, List<ProductRow> rows) {
+        Set<Long> missing = new HashSet<>(productIds);
+        for (ProductRow row : rows) {
+            columns.apply(row);
+            missing.remove(row.getId());
+        }
+        missing.forEach(columns::remove);
+    }
+
+    @Override
+    protected int size(ProductColumns columns) {
+        return columns.size();
+    }
+
+    /**
+     * The catalog holds ids the bitmaps cannot represent; reloading would only fail again.
+     */
+    @Override
+    protected boolean isPermanent(RuntimeException ex) {
+        return ex instanceof ProductColumns.KeyRangeExceededException;
+    }
+
+    private boolean isIdOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() || (orders.size() == 1 && orders.get(0).getProperty().equals("id"));
+    }
+
+    private List<FacetCount> sorted(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+            .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingLong(FacetCount::getCount).reversed().thenComparing(FacetCount::getValue))
+            .toList();
+    }
+
+    private List<FacetCount> priceBuckets(long[] counts, List<BigDecimal> boundaries) {
+        List<FacetCount> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                buckets.add(new FacetCount(ProductFacet.priceBucketLabel(bucket, boundaries), counts[bucket]));
+            }
+        }
+        return buckets;
+    }
+}
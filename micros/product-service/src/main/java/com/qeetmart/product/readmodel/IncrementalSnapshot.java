@@ -0,0 +1,252 @@
+package com.qeetmart.product.readmodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory snapshot of part of the catalog, loaded in full on a background thread and then kept current by
+ * re-reading the rows of changed products. Products that change while a load is running are queued and refreshed
+ * once the loaded snapshot is installed, so no change is lost to the load. A refresh that fails reloads the whole
+ * snapshot; a failure {@link #isPermanent} stops serving from memory for the rest of the process.
+ *
+ * @param <S> the snapshot, read and mutated only under the lock
+ * @param <R> the rows a refresh reads for the changed products
+ */
+@Slf4j
+abstract class IncrementalSnapshot<S, R> {
+
+    private final PlatformTransactionManager transactionManager;
+    private final String name;
+    private final String fallback;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshMonitor = new Object();
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+    private S snapshot;
+    private boolean loading;
+    private boolean reloadRequested;
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    /**
+     * @param name how logs refer to the snapshot, also used for the loader thread
+     * @param fallback what serves reads while the snapshot is not ready, for logs
+     */
+    protected IncrementalSnapshot(PlatformTransactionManager transactionManager, String name, String fallback) {
+        this.transactionManager = transactionManager;
+        this.name = name;
+        this.fallback = fallback;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Reads every row into a new snapshot. Runs in a read-only transaction on the loader thread.
+     */
+    protected abstract S loadSnapshot();
+
+    /**
+     * Reads the current rows of the given products. Runs in a read-only transaction, outside the lock.
+     */
+    protected abstract void fetch(Collection<Long> productIds, Consumer<R> consumer);
+
+    /**
+     * Replaces what the snapshot holds for the given products with their fetched rows; products without rows are
+     * gone. Runs under the write lock.
+     */
+    protected abstract void apply(S snapshot, Collection<Long> productIds, List<R> rows);
+
+    protected abstract int size(S snapshot);
+
+    /**
+     * Whether a failure would recur on every reload, so the snapshot should be disabled instead.
+     */
+    protected boolean isPermanent(RuntimeException ex) {
+        return false;
+    }
+
+    /**
+     * Applies {@code reader} to the snapshot under the read lock; empty while the snapshot is not ready.
+     */
+    protected <T> Optional<T> read(Function<S, T> reader) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return snapshot == null ? Optional.empty() : Optional.ofNullable(reader.apply(snapshot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the snapshot from scratch on a background thread. A reload requested while one is running restarts
+     * it once it finishes, since the running load may have read rows from before the request.
+     */
+    protected void reload() {
+        lock.writeLock().lock();
+        try {
+            if (disabled) {
+                return;
+            }
+            ready = false;
+            if (loading) {
+                reloadRequested = true;
+                return;
+            }
+            loading = true;
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Thread loader = new Thread(this::load, name.toLowerCase(Locale.ROOT).replace(' ', '-') + "-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    protected void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty() || disabled) {
+            return;
+        }
+
+        synchronized (refreshMonitor) {
+            lock.writeLock().lock();
+            try {
+                if (loading) {
+                    changedWhileLoading.addAll(productIds);
+                    return;
+                }
+                if (snapshot == null) {
+                    return;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                List<R> rows = new ArrayList<>();
+                readOnlyTransaction().executeWithoutResult(status -> fetch(productIds, rows::add));
+
+                lock.writeLock().lock();
+                try {
+                    apply(snapshot, productIds, rows);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException ex) {
+                if (isPermanent(ex)) {
+                    disable(ex);
+                } else {
+                    log.warn("{} refresh failed; reloading from the database", name, ex);
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void load() {
+        while (true) {
+            long startedAt = System.nanoTime();
+            S loaded;
+            try {
+                loaded = readOnlyTransaction().execute(status -> loadSnapshot());
+            } catch (RuntimeException ex) {
+                failLoading(ex);
+                return;
+            }
+
+            Set<Long> pending;
+            lock.writeLock().lock();
+            try {
+                if (reloadRequested) {
+                    reloadRequested = false;
+                    changedWhileLoading.clear();
+                    continue;
+                }
+                snapshot = loaded;
+                loading = false;
+                pending = new HashSet<>(changedWhileLoading);
+                changedWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            refresh(pending);
+            lock.writeLock().lock();
+            try {
+                if (loading || disabled) {
+                    return;
+                }
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info(
+                "{} loaded {} entries in {} ms",
+                name,
+                size(loaded),
+                (System.nanoTime() - startedAt) / 1_000_000
+            );
+            return;
+        }
+    }
+
+    private void failLoading(RuntimeException ex) {
+        if (isPermanent(ex)) {
+            disable(ex);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            reloadRequested = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.warn("{} failed to load; {}", name, fallback, ex);
+    }
+
+    /**
+     * Stops serving from memory for the rest of this process.
+     */
+    private void disable(RuntimeException cause) {
+        lock.writeLock().lock();
+        try {
+            disabled = true;
+            ready = false;
+            loading = false;
+            reloadRequested = false;
+            snapshot = null;
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.warn("{} disabled; {}", name, fallback, cause);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
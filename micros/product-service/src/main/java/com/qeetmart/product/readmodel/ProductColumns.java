@@ -0,0 +1,245 @@
+package com.qeetmart.product.readmodel;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Active products stored column-wise in primitive arrays, with one compressed bitmap per filter value. Bitmaps
+ * are keyed by product id, so intersecting them yields matching ids already in ascending order. Not thread-safe;
+ * {@link CatalogReadModel} guards access.
+ */
+final class ProductColumns {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PRICE_SCALE = 2;
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] categoryIds = new long[INITIAL_CAPACITY];
+    private int[] brandCodes = new int[INITIAL_CAPACITY];
+    private byte[] statusCodes = new byte[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+    private int rowCount;
+
+    private int[] freeRows = new int[64];
+    private int freeRowCount;
+
+    private final RowIndex rowsById = new RowIndex();
+
+    private final Map<String, Integer> brandDictionary = new HashMap<>();
+    private final List<String> brandValues = new ArrayList<>();
+    private final List<RoaringBitmap> brandBitmaps = new ArrayList<>();
+    private final Map<Long, RoaringBitmap> categoryBitmaps = new HashMap<>();
+    private final RoaringBitmap[] statusBitmaps = new RoaringBitmap[ProductStatus.values().length];
+    private final RoaringBitmap live = new RoaringBitmap();
+
+    ProductColumns() {
+        for (int i = 0; i < statusBitmaps.length; i++) {
+            statusBitmaps[i] = new RoaringBitmap();
+        }
+    }
+
+    void apply(ProductRow product) {
+        if (product.isDeleted()) {
+            remove(product.getId());
+            return;
+        }
+
+        int key = toKey(product.getId());
+        int row = rowsById.get(key);
+        if (row == RowIndex.ABSENT) {
+            row = allocateRow(key);
+        } else {
+            unindex(key, row);
+        }
+
+        ids[row] = product.getId();
+        categoryIds[row] = product.getCategoryId();
+        brandCodes[row] = brandCode(product.getBrand());
+        statusCodes[row] = (byte) ProductStatus.valueOf(product.getStatus()).ordinal();
+        prices[row] = scale(product.getPrice());
+        updatedAt[row] = ChronoUnit.MICROS.between(Instant.EPOCH, product.getUpdatedAt());
+
+        live.add(key);
+        brandBitmaps.get(brandCodes[row]).add(key);
+        categoryBitmaps.computeIfAbsent(categoryIds[row], categoryId -> new RoaringBitmap()).add(key);
+        statusBitmaps[statusCodes[row]].add(key);
+    }
+
+    void remove(long productId) {
+        if (productId < 0 || productId > Integer.MAX_VALUE) {
+            return;
+        }
+        int key = (int) productId;
+        int row = rowsById.get(key);
+        if (row == RowIndex.ABSENT) {
+            return;
+        }
+
+        unindex(key, row);
+        live.remove(key);
+        rowsById.remove(key);
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    RoaringBitmap select(ProductFilter filter) {
+        List<RoaringBitmap> predicates = new ArrayList<>(3);
+        if (filter.getCategoryId() != null) {
+            predicates.add(categoryBitmaps.getOrDefault(filter.getCategoryId(), EMPTY));
+        }
+        if (filter.hasBrand()) {
+            Integer code = brandDictionary.get(filter.getBrand().toLowerCase(Locale.ROOT));
+            predicates.add(code == null ? EMPTY : brandBitmaps.get(code));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(statusBitmaps[filter.getStatus().ordinal()]);
+        }
+
+        if (predicates.isEmpty()) {
+            return live.clone();
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0).clone();
+        }
+        return FastAggregation.and(predicates.iterator());
+    }
+
+    Instant lastModified(RoaringBitmap matches) {
+        if (matches.isEmpty()) {
+            return null;
+        }
+        long[] max = {Long.MIN_VALUE};
+        matches.forEach((int key) -> max[0] = Math.max(max[0], updatedAt[rowsById.get(key)]));
+        return Instant.EPOCH.plus(max[0], ChronoUnit.MICROS);
+    }
+
+    Map<String, Long> countByBrand(RoaringBitmap matches) {
+        Map<String, Long> counts = new HashMap<>();
+        for (int code = 0; code < brandBitmaps.size(); code++) {
+            long count = RoaringBitmap.andCardinality(matches, brandBitmaps.get(code));
+            if (count > 0) {
+                counts.put(brandValues.get(code), count);
+            }
+        }
+        return counts;
+    }
+
+    Map<String, Long> countByCategory(RoaringBitmap matches) {
+        Map<String, Long> counts = new HashMap<>();
+        categoryBitmaps.forEach((categoryId, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(matches, bitmap);
+            if (count > 0) {
+                counts.put(categoryId.toString(), count);
+            }
+        });
+        return counts;
+    }
+
+    Map<String, Long> countByStatus(RoaringBitmap matches) {
+        Map<String, Long> counts = new HashMap<>();
+        for (ProductStatus status : ProductStatus.values()) {
+            long count = RoaringBitmap.andCardinality(matches, statusBitmaps[status.ordinal()]);
+            if (count > 0) {
+                counts.put(status.name(), count);
+            }
+        }
+        return counts;
+    }
+
+    long[] countByPriceBucket(RoaringBitmap matches, List<BigDecimal> boundaries) {
+        long[] scaledBoundaries = boundaries.stream().mapToLong(ProductColumns::scale).toArray();
+        long[] counts = new long[scaledBoundaries.length + 1];
+        matches.forEach((int key) -> {
+            long price = prices[rowsById.get(key)];
+            int bucket = 0;
+            while (bucket < scaledBoundaries.length && price >= scaledBoundaries[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+        });
+        return counts;
+    }
+
+    private void unindex(int key, int row) {
+        brandBitmaps.get(brandCodes[row]).remove(key);
+        statusBitmaps[statusCodes[row]].remove(key);
+        RoaringBitmap category = categoryBitmaps.get(categoryIds[row]);
+        category.remove(key);
+        if (category.isEmpty()) {
+            categoryBitmaps.remove(categoryIds[row]);
+        }
+    }
+
+    private int brandCode(String brand) {
+        return brandDictionary.computeIfAbsent(brand.toLowerCase(Locale.ROOT), normalized -> {
+            brandValues.add(brand);
+            brandBitmaps.add(new RoaringBitmap());
+            return brandValues.size() - 1;
+        });
+    }
+
+    private int allocateRow(int key) {
+        int row;
+        if (freeRowCount > 0) {
+            row = freeRows[--freeRowCount];
+        } else {
+            if (rowCount == ids.length) {
+                grow(ids.length * 2);
+            }
+            row = rowCount++;
+        }
+        rowsById.put(key, row);
+        return row;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        brandCodes = Arrays.copyOf(brandCodes, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+    }
+
+    private static int toKey(long productId) {
+        if (productId < 0 || productId > Integer.MAX_VALUE) {
+            throw new KeyRangeExceededException(productId);
+        }
+        return (int) productId;
+    }
+
+    private static long scale(BigDecimal value) {
+        return value.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Thrown for a product id the 32-bit bitmaps cannot hold. Unlike a failed query this never heals by
+     * reloading, so the read model stops serving instead.
+     */
+    static final class KeyRangeExceededException extends RuntimeException {
+
+        KeyRangeExceededException(long productId) {
+            super("Product id " + productId + " exceeds the read model key range");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.qeetmart.product.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProductRow {
+
+    private long id;
+    private long categoryId;
+    private String brand;
+    private String status;
+    private BigDecimal price;
+    private Instant updatedAt;
+    private boolean deleted;
+}
@@ -0,0 +1,13 @@
+package com.qeetmart.product.readmodel;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReadModelPage {
+
+    private List<Long> ids;
+    private long total;
+}
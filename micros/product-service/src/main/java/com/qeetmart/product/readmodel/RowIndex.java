@@ -0,0 +1,116 @@
+package com.qeetmart.product.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from bitmap key to column row, with linear probing over parallel primitive arrays.
+ * Removal shifts the rest of the probe chain back instead of leaving tombstones, so memory tracks the number of
+ * live products rather than the largest product id. Not thread-safe; {@link ProductColumns} owns it.
+ */
+final class RowIndex {
+
+    static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = -1;
+
+    private int[] keys = newKeys(INITIAL_CAPACITY);
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the row stored under {@code key}, or {@link #ABSENT}.
+     */
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            int current = keys[slot];
+            if (current == key) {
+                return rows[slot];
+            }
+            if (current == EMPTY) {
+                return ABSENT;
+            }
+        }
+    }
+
+    /**
+     * Stores {@code row} under {@code key}; keys must not be negative.
+     */
+    void put(int key, int row) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            int current = keys[slot];
+            if (current == key) {
+                rows[slot] = row;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                rows[slot] = row;
+                size++;
+                return;
+            }
+        }
+    }
+
+    void remove(int key) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                rows[gap] = rows[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldRows = rows;
+
+        keys = newKeys(capacity);
+        rows = new int[capacity];
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                put(oldKeys[slot], oldRows[slot]);
+            }
+        }
+    }
+
+    private static int slot(int key, int mask) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int[] newKeys(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+}
@@ -0,0 +1,111 @@
+package com.qeetmart.product.readmodel;
+
+/**
+ * Open-addressing hash table from normalized SKU to variant, with linear probing over parallel key and value
+ * arrays. Removed slots become tombstones that later inserts reuse and the next resize drops. Not thread-safe;
+ * {@link SkuIndex} guards access.
+ */
+final class SkuHashTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String TOMBSTONE = new String("");
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private VariantSku[] values = new VariantSku[INITIAL_CAPACITY];
+    private int size;
+    private int tombstones;
+
+    /**
+     * Returns the variant stored under {@code sku}, or {@code null}.
+     */
+    VariantSku get(String sku) {
+        int slot = find(sku);
+        return slot < 0 ? null : values[slot];
+    }
+
+    void put(String sku, VariantSku variant) {
+        if ((size + tombstones + 1) * 2 > keys.length) {
+            rehash(size * 4 > keys.length ? keys.length * 2 : keys.length);
+        }
+
+        int mask = keys.length - 1;
+        int free = -1;
+        for (int slot = spread(sku.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) {
+                if (free < 0) {
+                    free = slot;
+                } else {
+                    tombstones--;
+                }
+                keys[free] = sku;
+                values[free] = variant;
+                size++;
+                return;
+            }
+            if (key == TOMBSTONE) {
+                if (free < 0) {
+                    free = slot;
+                }
+            } else if (key.equals(sku)) {
+                values[slot] = variant;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code sku} only while it still points at {@code productId}, so a SKU that has since moved to another
+     * product's variant is kept.
+     */
+    void remove(String sku, long productId) {
+        int slot = find(sku);
+        if (slot >= 0 && values[slot].productId() == productId) {
+            keys[slot] = TOMBSTONE;
+            values[slot] = null;
+            size--;
+            tombstones++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private int find(String sku) {
+        int mask = keys.length - 1;
+        for (int slot = spread(sku.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) {
+                return -1;
+            }
+            if (key != TOMBSTONE && key.equals(sku)) {
+                return slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        VariantSku[] oldValues = values;
+
+        keys = new String[capacity];
+        values = new VariantSku[capacity];
+        size = 0;
+        tombstones = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            String key = oldKeys[slot];
+            if (key != null && key != TOMBSTONE) {
+                put(key, oldValues[slot]);
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,124 @@
+package com.qeetmart.product.readmodel;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.invalidation.CatalogInvalidatedEvent;
+import com.qeetmart.product.invalidation.InvalidationScope;
+import com.qeetmart.product.repository.CatalogJdbcRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index from normalized SKU to variant, covering variants of live products. Variant mutations publish
+ * {@link ProductsChangedEvent} for their product, so the index re-reads the variants of changed products after
+ * commit, and other replicas do the same on {@link CatalogInvalidatedEvent}. Hits are served without touching the
+ * database: a write is visible on the replica that made it once it commits, and elsewhere once the invalidation
+ * arrives, the same window the page cache has.
+ */
+@Component
+public class SkuIndex extends IncrementalSnapshot<SkuIndex.Entries, VariantSku> {
+
+    private final CatalogJdbcRepository catalogJdbcRepository;
+    private final CatalogProperties catalogProperties;
+
+    public SkuIndex(
+        CatalogJdbcRepository catalogJdbcRepository,
+        PlatformTransactionManager transactionManager,
+        CatalogProperties catalogProperties
+    ) {
+        super(transactionManager, "Catalog SKU index", "SKU lookups will be served from the database");
+        this.catalogJdbcRepository = catalogJdbcRepository;
+        this.catalogProperties = catalogProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (catalogProperties.getSkuIndex().isEnabled()) {
+            reload();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (catalogProperties.getSkuIndex().isEnabled()) {
+            refresh(event.getProductIds());
+        }
+    }
+
+    @EventListener
+    public void onCatalogInvalidated(CatalogInvalidatedEvent event) {
+        if (!catalogProperties.getSkuIndex().isEnabled()) {
+            return;
+        }
+        if (event.getScope() == InvalidationScope.ALL) {
+            reload();
+        } else if (event.getScope() == InvalidationScope.PRODUCTS) {
+            refresh(event.getIds());
+        }
+    }
+
+    /**
+     * Resolves a SKU, compared case-insensitively, to its variant. Empty when the index is not ready or the SKU
+     * is not indexed.
+     */
+    public Optional<VariantSku> find(String sku) {
+        String normalized = normalize(sku);
+        return read(entries -> entries.table().get(normalized));
+    }
+
+    public static String normalize(String sku) {
+        return sku.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    protected Entries loadSnapshot() {
+        Entries loaded = new Entries(new SkuHashTable(), new HashMap<>());
+        catalogJdbcRepository.streamVariantSkus(catalogProperties.getSkuIndex().getFetchSize(), loaded::add);
+        return loaded;
+    }
+
+    @Override
+    protected void fetch(Collection<Long> productIds, Consumer<VariantSku> consumer) {
+        catalogJdbcRepository.findVariantSkus(productIds, consumer);
+    }
+
+    @Override
+    protected void apply(Entries entries, Collection<Long> productIds, List<VariantSku> variants) {
+        for (Long productId : productIds) {
+            List<String> previous = entries.skusByProduct().remove(productId);
+            if (previous != null) {
+                previous.forEach(sku -> entries.table().remove(sku, productId));
+            }
+        }
+        variants.forEach(entries::add);
+    }
+
+    @Override
+    protected int size(Entries entries) {
+        return entries.table().size();
+    }
+
+    /**
+     * The hash table plus the SKUs each product contributed, so a refresh can drop a product's old SKUs.
+     */
+    record Entries(SkuHashTable table, Map<Long, List<String>> skusByProduct) {
+
+        private void add(VariantSku variant) {
+            String normalized = normalize(variant.sku());
+            table.put(normalized, variant);
+            skusByProduct.computeIfAbsent(variant.productId(), productId -> new ArrayList<>(2)).add(normalized);
+        }
+    }
+}
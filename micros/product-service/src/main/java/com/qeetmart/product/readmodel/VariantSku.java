@@ -0,0 +1,19 @@
+package com.qeetmart.product.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A variant as the SKU index holds it: everything a by-SKU lookup returns, so a hit needs no database read.
+ */
+public record VariantSku(
+    long variantId,
+    long productId,
+    String sku,
+    String color,
+    String size,
+    BigDecimal additionalPrice,
+    Instant createdAt,
+    Instant updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.entity.ArchivedProduct;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedProductRepository extends JpaRepository<ArchivedProduct, Long> {
+
+    @Query("select p from ArchivedProduct p left join fetch p.variants where p.id = :productId")
+    Optional<ArchivedProduct> findWithVariantsById(@Param("productId") Long productId);
+}
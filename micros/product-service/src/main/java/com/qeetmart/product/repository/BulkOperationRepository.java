@@ -0,0 +1,154 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.BulkOperationType;
+import com.qeetmart.product.dto.response.BulkOperationResponse;
+import com.qeetmart.product.dto.response.BulkOperationState;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Progress of bulk operations, kept in the database so any replica can answer a status poll.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkOperationRepository {
+
+    private static final String COLUMNS =
+        "id, operation, state, matched, processed, chunks_committed, submitted_at, started_at, finished_at, error";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_OPERATION = """
+        insert into catalog_bulk_operations (id, operation, state, matched, processed, chunks_committed, submitted_at)
+        values (:id, :operation, 'QUEUED', :matched, 0, 0, :submittedAt)
+        """;
+
+    private static final String MARK_RUNNING = """
+        update catalog_bulk_operations
+        set state = 'RUNNING', started_at = :now
+        where id = :id and state = 'QUEUED'
+        """;
+
+    private static final String CHUNK_COMMITTED = """
+        update catalog_bulk_operations
+        set processed = processed + :updated, chunks_committed = chunks_committed + 1
+        where id = :id
+        """;
+
+    private static final String FINISH = """
+        update catalog_bulk_operations
+        set state = :state, finished_at = :now, error = :error
+        where id in (:ids) and state = :from
+        """;
+
+    private static final String DELETE_FINISHED_BEYOND = """
+        delete from catalog_bulk_operations
+        where finished_at is not null
+          and id not in (select id from catalog_bulk_operations order by submitted_at desc limit :retained)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insert(String id, BulkOperationType operation, long matched, Instant submittedAt) {
+        jdbcTemplate.update(INSERT_OPERATION, new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("operation", operation.name())
+            .addValue("matched", matched)
+            .addValue("submittedAt", OffsetDateTime.ofInstant(submittedAt, ZoneOffset.UTC)));
+    }
+
+    /**
+     * Moves a queued operation to running; false if it is no longer queued, in which case it must not run.
+     */
+    public boolean markRunning(String id, Instant now) {
+        return jdbcTemplate.update(MARK_RUNNING, new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))) == 1;
+    }
+
+    /**
+     * Records a chunk; called inside the chunk's transaction so the progress commits with the chunk.
+     */
+    public void chunkCommitted(String id, int updated) {
+        jdbcTemplate.update(CHUNK_COMMITTED, new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("updated", updated));
+    }
+
+    public void complete(String id, Instant now) {
+        finish(List.of(id), BulkOperationState.COMPLETED, null, now, BulkOperationState.RUNNING);
+    }
+
+    public void fail(String id, String error, Instant now) {
+        finish(List.of(id), BulkOperationState.FAILED, error, now, BulkOperationState.RUNNING);
+    }
+
+    /**
+     * Fails the given operations that have not started yet; returns how many were still queued.
+     */
+    public int failQueued(Collection<String> ids, String error, Instant now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return finish(ids, BulkOperationState.FAILED, error, now, BulkOperationState.QUEUED);
+    }
+
+    public Optional<BulkOperationResponse> findById(String id) {
+        return jdbcTemplate.query(
+            "select " + COLUMNS + " from catalog_bulk_operations where id = :id",
+            new MapSqlParameterSource("id", id),
+            (rs, rowNum) -> mapRow(rs)
+        ).stream().findFirst();
+    }
+
+    /**
+     * Deletes finished operations older than the newest {@code retained}; queued and running ones are kept.
+     */
+    public int deleteFinishedBeyond(int retained) {
+        return jdbcTemplate.update(DELETE_FINISHED_BEYOND, new MapSqlParameterSource("retained", retained));
+    }
+
+    private int finish(
+        Collection<String> ids,
+        BulkOperationState state,
+        String error,
+        Instant now,
+        BulkOperationState from
+    ) {
+        return jdbcTemplate.update(FINISH, new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("state", state.name())
+            .addValue("error", error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH))
+            .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+            .addValue("from", from.name()));
+    }
+
+    private BulkOperationResponse mapRow(ResultSet rs) throws SQLException {
+        OffsetDateTime startedAt = rs.getObject("started_at", OffsetDateTime.class);
+        OffsetDateTime finishedAt = rs.getObject("finished_at", OffsetDateTime.class);
+        return BulkOperationResponse.builder()
+            .id(rs.getString("id"))
+            .operation(BulkOperationType.valueOf(rs.getString("operation")))
+            .state(BulkOperationState.valueOf(rs.getString("state")))
+            .matched(rs.getLong("matched"))
+            .processed(rs.getLong("processed"))
+            .chunksCommitted(rs.getInt("chunks_committed"))
+            .submittedAt(rs.getObject("submitted_at", OffsetDateTime.class).toInstant())
+            .startedAt(startedAt == null ? null : startedAt.toInstant())
+            .finishedAt(finishedAt == null ? null : finishedAt.toInstant())
+            .error(rs.getString("error"))
+            .build();
+    }
+}
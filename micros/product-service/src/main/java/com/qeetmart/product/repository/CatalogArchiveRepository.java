@@ -0,0 +1,74 @@
+package com.qeetmart.product.repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogArchiveRepository {
+
+    private static final String SELECT_ARCHIVABLE_IDS = """
+        select p.id from products p
+        where p.is_deleted = true and p.updated_at < :cutoff and p.id > :afterId
+        order by p.id
+        limit :limit
+        """;
+
+    private static final String COPY_PRODUCTS = """
+        insert into products_archive (id, name, description, brand, category_id, price, currency, status,
+            created_at, updated_at, archived_at)
+        select p.id, p.name, p.description, p.brand, p.category_id, p.price, p.currency, p.status,
+            p.created_at, p.updated_at, :now
+        from products p
+        where p.id in (:ids)
+        """;
+
+    private static final String COPY_VARIANTS = """
+        insert into product_variants_archive (id, product_id, sku, color, size, additional_price,
+            created_at, updated_at, archived_at)
+        select v.id, v.product_id, v.sku, v.color, v.size, v.additional_price, v.created_at, v.updated_at, :now
+        from product_variants v
+        where v.product_id in (:ids)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findArchivableIds(Instant cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+            SELECT_ARCHIVABLE_IDS,
+            new MapSqlParameterSource()
+                .addValue("cutoff", OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC))
+                .addValue("afterId", afterId)
+                .addValue("limit", limit),
+            Long.class
+        );
+    }
+
+    /**
+     * Copies the given soft-deleted products and their variants into the archive tables and removes them from
+     * the hot tables, along with their view counts and schedule history. Must run inside a transaction so a chunk
+     * is either fully archived or left in place.
+     */
+    public ArchivedCounts archive(List<Long> productIds, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", productIds)
+            .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
+
+        int products = jdbcTemplate.update(COPY_PRODUCTS, params);
+        int variants = jdbcTemplate.update(COPY_VARIANTS, params);
+        jdbcTemplate.update("delete from product_variants where product_id in (:ids)", params);
+        jdbcTemplate.update("delete from product_view_counts where product_id in (:ids)", params);
+        jdbcTemplate.update("delete from product_schedules where product_id in (:ids)", params);
+        jdbcTemplate.update("delete from products where id in (:ids)", params);
+        return new ArchivedCounts(products, variants);
+    }
+
+    public record ArchivedCounts(int products, int variants) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.entity.Product;
+import com.qeetmart.product.entity.ProductVariant;
+import com.qeetmart.product.io.CatalogExportRow;
+import com.qeetmart.product.readmodel.ProductRow;
+import com.qeetmart.product.readmodel.VariantSku;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogJdbcRepository {
+
+    private static final String INSERT_PRODUCT = """
+        insert into products (name, description, brand, category_id, price, min_effective_price,
+            max_effective_price, currency, status, is_deleted, created_at, updated_at)
+        values (:name, :description, :brand, :categoryId, :price, :minEffectivePrice, :maxEffectivePrice, :currency,
+            :status, false, :now, :now)
+        """;
+
+    private static final String INSERT_VARIANT = """
+        insert into product_variants (product_id, sku, color, size, additional_price, created_at, updated_at)
+        values (:productId, :sku, :color, :size, :additionalPrice, :now, :now)
+        """;
+
+    private static final String SELECT_ACTIVE_CATALOG = """
+        select p.id, p.name, p.description, p.brand, p.category_id, p.price, p.currency, p.status,
+            p.created_at, p.updated_at, v.id as variant_id, v.sku, v.color, v.size, v.additional_price
+        from products p
+        left join product_variants v on v.product_id = p.id
+        where p.is_deleted = false
+        order by p.id, v.id
+        """;
+
+    private static final String SELECT_READ_MODEL_ROWS = """
+        select p.id, p.category_id, p.brand, p.status, p.price, p.updated_at, p.is_deleted
+        from products p
+        """;
+
+    private static final String SELECT_VARIANT_SKUS = """
+        select v.id, v.product_id, v.sku, v.color, v.size, v.additional_price, v.created_at, v.updated_at
+        from product_variants v
+        join products p on p.id = v.product_id
+        where p.is_deleted = false
+        """;
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams every active product joined with its variants through a forward-only cursor. The same row
+     * instance is reused for every callback, so consumers must not retain it. Must run inside a transaction
+     * so the driver can fetch in batches of {@code fetchSize} instead of materializing the result.
+     */
+    public void streamActiveCatalog(int fetchSize, Consumer<CatalogExportRow> consumer) {
+        CatalogExportRow row = new CatalogExportRow();
+        jdbcTemplate.getJdbcTemplate().query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_ACTIVE_CATALOG,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> {
+                row.setProductId(rs.getLong("id"));
+                row.setName(rs.getString("name"));
+                row.setDescription(rs.getString("description"));
+                row.setBrand(rs.getString("brand"));
+                row.setCategoryId(rs.getLong("category_id"));
+                row.setPrice(rs.getBigDecimal("price"));
+                row.setCurrency(rs.getString("currency"));
+                row.setStatus(rs.getString("status"));
+                row.setCreatedAt(toInstant(rs.getObject("created_at", OffsetDateTime.class)));
+                row.setUpdatedAt(toInstant(rs.getObject("updated_at", OffsetDateTime.class)));
+                long variantId = rs.getLong("variant_id");
+                row.setVariantId(rs.wasNull() ? null : variantId);
+                row.setSku(rs.getString("sku"));
+                row.setColor(rs.getString("color"));
+                row.setSize(rs.getString("size"));
+                row.setAdditionalPrice(rs.getBigDecimal("additional_price"));
+                consumer.accept(row);
+            }
+        );
+    }
+
+    public void streamReadModelRows(int fetchSize, Consumer<ProductRow> consumer) {
+        ProductRow row = new ProductRow();
+        jdbcTemplate.getJdbcTemplate().query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_READ_MODEL_ROWS + " where p.is_deleted = false order by p.id",
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> consumer.accept(mapReadModelRow(rs, row))
+        );
+    }
+
+    public void findReadModelRows(Collection<Long> productIds, Consumer<ProductRow> consumer) {
+        List<Long> ids = List.copyOf(productIds);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE));
+            jdbcTemplate.query(
+                SELECT_READ_MODEL_ROWS + " where p.id in (:ids)",
+                new MapSqlParameterSource("ids", chunk),
+                (RowCallbackHandler) rs -> consumer.accept(mapReadModelRow(rs, new ProductRow()))
+            );
+        }
+    }
+
+    public void streamVariantSkus(int fetchSize, Consumer<VariantSku> consumer) {
+        jdbcTemplate.getJdbcTemplate().query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_VARIANT_SKUS,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> consumer.accept(mapVariantSku(rs))
+        );
+    }
+
+    public void findVariantSkus(Collection<Long> productIds, Consumer<VariantSku> consumer) {
+        List<Long> ids = List.copyOf(productIds);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK_SIZE));
+            jdbcTemplate.query(
+                SELECT_VARIANT_SKUS + " and v.product_id in (:ids)",
+                new MapSqlParameterSource("ids", chunk),
+                (RowCallbackHandler) rs -> consumer.accept(mapVariantSku(rs))
+            );
+        }
+    }
+
+    public void insertProducts(List<Product> products, Instant now) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        SqlParameterSource[] batch = products.stream()
+            .map(product -> new MapSqlParameterSource()
+                .addValue("name", product.getName())
+                .addValue("description", product.getDescription())
+                .addValue("brand", product.getBrand())
+                .addValue("categoryId", product.getCategory().getId())
+                .addValue("price", product.getPrice())
+                .addValue("minEffectivePrice", product.getMinEffectivePrice())
+                .addValue("maxEffectivePrice", product.getMaxEffectivePrice())
+                .addValue("currency", product.getCurrency())
+                .addValue("status", product.getStatus().name())
+                .addValue("now", timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, batch, keyHolder, new String[] {"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            product.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            product.setCreatedAt(now);
+            product.setUpdatedAt(now);
+        }
+    }
+
+    public void insertVariants(List<ProductVariant> variants, Instant now) {
+        if (variants.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        SqlParameterSource[] batch = variants.stream()
+            .map(variant -> new MapSqlParameterSource()
+                .addValue("productId", variant.getProduct().getId())
+                .addValue("sku", variant.getSku())
+                .addValue("color", variant.getColor())
+                .addValue("size", variant.getSize())
+                .addValue("additionalPrice", variant.getAdditionalPrice())
+                .addValue("now", timestamp))
+            .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_VARIANT, batch);
+    }
+
+    private VariantSku mapVariantSku(ResultSet rs) throws SQLException {
+        return new VariantSku(
+            rs.getLong("id"),
+            rs.getLong("product_id"),
+            rs.getString("sku"),
+            rs.getString("color"),
+            rs.getString("size"),
+            rs.getBigDecimal("additional_price"),
+            toInstant(rs.getObject("created_at", OffsetDateTime.class)),
+            toInstant(rs.getObject("updated_at", OffsetDateTime.class))
+        );
+    }
+
+    private ProductRow mapReadModelRow(ResultSet rs, ProductRow row) throws SQLException {
+        row.setId(rs.getLong("id"));
+        row.setCategoryId(rs.getLong("category_id"));
+        row.setBrand(rs.getString("brand"));
+        row.setStatus(rs.getString("status"));
+        row.setPrice(rs.getBigDecimal("price"));
+        row.setUpdatedAt(toInstant(rs.getObject("updated_at", OffsetDateTime.class)));
+        row.setDeleted(rs.getBoolean("is_deleted"));
+        return row;
+    }
+
+    private Instant toInstant(OffsetDateTime value) {
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -0,0 +1,68 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.invalidation.InvalidationScope;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogOutboxRepository {
+
+    private static final String INSERT_ENTRY = """
+        insert into catalog_outbox (origin, scope, entity_ids, created_at)
+        values (:origin, :scope, :entityIds, :createdAt)
+        """;
+
+    private static final String LOCK_PENDING = """
+        select id, origin, scope, entity_ids from catalog_outbox
+        order by id
+        limit :limit
+        for update skip locked
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void append(String origin, InvalidationScope scope, Collection<Long> ids, Instant createdAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_ENTRY, new MapSqlParameterSource()
+            .addValue("origin", origin)
+            .addValue("scope", scope.name())
+            .addValue("entityIds", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+            .addValue("createdAt", OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC)));
+    }
+
+    /**
+     * Locks the oldest pending entries, skipping rows another replica's relay already holds, so relays on every
+     * replica can poll without delivering the same entry twice.
+     */
+    public List<PendingEntry> lockPending(int limit) {
+        return jdbcTemplate.query(
+            LOCK_PENDING,
+            new MapSqlParameterSource("limit", limit),
+            (rs, rowNum) -> new PendingEntry(
+                rs.getLong("id"),
+                rs.getString("origin"),
+                InvalidationScope.valueOf(rs.getString("scope")),
+                Arrays.stream(rs.getString("entity_ids").split(",")).map(Long::valueOf).toList()
+            )
+        );
+    }
+
+    public void delete(Collection<Long> entryIds) {
+        jdbcTemplate.update("delete from catalog_outbox where id in (:ids)", new MapSqlParameterSource("ids", entryIds));
+    }
+
+    public record PendingEntry(long id, String origin, InvalidationScope scope, List<Long> ids) {
+    }
+}
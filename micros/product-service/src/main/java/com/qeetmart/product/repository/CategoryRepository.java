@@ -1,11 +1,37 @@
 package com.qeetmart.product.repository;
 
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.Category;
+import java.time.Instant;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
-    boolean existsByNameIgnoreCase(String name);
+    @Query("""
+        select case when exists (
+            select 1 from Category c where lower(c.name) = lower(:name)
+        ) then true else false end
+        """)
+    boolean existsByNameIgnoreCase(@Param("name") String name);
 
-    boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+    @Query("""
+        select case when exists (
+            select 1 from Category c where lower(c.name) = lower(:name) and c.id <> :id
+        ) then true else false end
+        """)
+    boolean existsByNameIgnoreCaseAndIdNot(@Param("name") String name, @Param("id") Long id);
+
+    @Query("select c.updatedAt from Category c where c.id = :categoryId")
+    Optional<Instant> findUpdatedAtById(@Param("categoryId") Long categoryId);
+
+    @Query("select new com.qeetmart.product.dto.response.ResourceVersion(max(c.updatedAt), count(c)) from Category c")
+    ResourceVersion findVersion();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Category c where c.id = :categoryId")
+    int deleteCategoryById(@Param("categoryId") Long categoryId);
 }
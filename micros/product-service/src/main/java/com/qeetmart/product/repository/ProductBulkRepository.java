@@ -0,0 +1,77 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.request.ProductFilter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long count(ProductFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(
+            "select count(*) from products p where " + ProductFilterSql.where(filter, params),
+            params,
+            Long.class
+        );
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Returns the next {@code limit} matching ids after {@code afterId}. Seeking on the primary key keeps every
+     * chunk an index range scan, and rows the operation moves out of the filter cannot shift later chunks.
+     */
+    public List<Long> findIdsAfter(ProductFilter filter, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("limit", limit);
+        return jdbcTemplate.queryForList(
+            "select p.id from products p where " + ProductFilterSql.where(filter, params)
+                + " and p.id > :afterId order by p.id limit :limit",
+            params,
+            Long.class
+        );
+    }
+
+    public int apply(BulkOperationRequest request, List<Long> ids, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
+        String assignment = switch (request.getOperation()) {
+            case REPRICE -> {
+                params.addValue("factor", BigDecimal.ONE.add(request.getPercentage().divide(HUNDRED)));
+                yield "price = round(price * :factor, 2)"
+                    + ", min_effective_price = min_effective_price - price + round(price * :factor, 2)"
+                    + ", max_effective_price = max_effective_price - price + round(price * :factor, 2)";
+            }
+            case SET_STATUS -> {
+                params.addValue("targetStatus", request.getTargetStatus().name());
+                yield "status = :targetStatus";
+            }
+            case SOFT_DELETE -> "is_deleted = true";
+            case MOVE_CATEGORY -> {
+                params.addValue("targetCategoryId", request.getTargetCategoryId());
+                yield "category_id = :targetCategoryId";
+            }
+        };
+
+        return jdbcTemplate.update(
+            "update products p set " + assignment + ", updated_at = :now where p.id in (:ids) and "
+                + ProductFilterSql.where(request.getFilter(), params),
+            params
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.entity.ProductChange;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductChangeRepository extends JpaRepository<ProductChange, Long>, ProductChangeRepositoryCustom {
+
+    @Query("select c from ProductChange c where c.sequence > :cursor order by c.sequence")
+    List<ProductChange> findAfter(@Param("cursor") long cursor, Pageable pageable);
+}
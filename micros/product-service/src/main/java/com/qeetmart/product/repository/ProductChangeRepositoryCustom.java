@@ -0,0 +1,12 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.event.ProductChangeType;
+import java.time.Instant;
+import java.util.Collection;
+
+public interface ProductChangeRepositoryCustom {
+
+    void append(ProductChangeType type, Collection<Long> productIds, Instant changedAt);
+
+    int sequencePending(int limit);
+}
@@ -0,0 +1,92 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.event.ProductChangeType;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@RequiredArgsConstructor
+public class ProductChangeRepositoryCustomImpl implements ProductChangeRepositoryCustom {
+
+    private static final String LOCK_COUNTER = "select last_seq from catalog_change_sequence where id = 1 for update";
+
+    private static final String SEED = "insert into catalog_change_sequence (id, last_seq) values (1, 0) on conflict do nothing";
+
+    private static final String INSERT_CHANGE = """
+        insert into product_changes (product_id, change_type, changed_at)
+        values (:productId, :type, :changedAt)
+        """;
+
+    private static final String SELECT_PENDING = """
+        select id from product_changes
+        where change_seq is null
+        order by id
+        limit :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends one unsequenced change per product. This is a plain insert, so concurrent writers never wait on
+     * each other here.
+     */
+    @Override
+    public void append(ProductChangeType type, Collection<Long> productIds, Instant changedAt) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(changedAt, ZoneOffset.UTC);
+        SqlParameterSource[] batch = productIds.stream()
+            .map(productId -> new MapSqlParameterSource()
+                .addValue("productId", productId)
+                .addValue("type", type.name())
+                .addValue("changedAt", timestamp))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, batch);
+    }
+
+    /**
+     * Numbers up to {@code limit} committed, unsequenced changes in insertion order and returns how many it
+     * numbered. Must run in a transaction: the counter row lock serializes sequencers across replicas, and a
+     * change only becomes visible here once its writer has committed, so sequence order is commit order.
+     */
+    @Override
+    public int sequencePending(int limit) {
+        MapSqlParameterSource none = new MapSqlParameterSource();
+        List<Long> last = jdbcTemplate.queryForList(LOCK_COUNTER, none, Long.class);
+        if (last.isEmpty()) {
+            jdbcTemplate.update(SEED, none);
+            last = jdbcTemplate.queryForList(LOCK_COUNTER, none, Long.class);
+        }
+
+        List<Long> pending = jdbcTemplate.queryForList(
+            SELECT_PENDING,
+            new MapSqlParameterSource("limit", limit),
+            Long.class
+        );
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long first = last.get(0) + 1;
+        SqlParameterSource[] batch = new SqlParameterSource[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            batch[i] = new MapSqlParameterSource()
+                .addValue("sequence", first + i)
+                .addValue("id", pending.get(i));
+        }
+        jdbcTemplate.batchUpdate("update product_changes set change_seq = :sequence where id = :id", batch);
+        jdbcTemplate.update(
+            "update catalog_change_sequence set last_seq = :last where id = 1",
+            new MapSqlParameterSource("last", first + pending.size() - 1)
+        );
+        return pending.size();
+    }
+}
@@ -0,0 +1,100 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.FacetCount;
+import com.qeetmart.product.specification.ProductFacet;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductFacetRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Map<String, List<FacetCount>> countFacets(
+        ProductFilter filter,
+        Set<ProductFacet> facets,
+        List<BigDecimal> priceBoundaries
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("""
+            with filtered as (
+                select p.id, p.brand, p.category_id, p.status, p.price
+                from products p
+                where\s""");
+        sql.append(ProductFilterSql.where(filter, params)).append(")\n");
+
+        List<String> selects = new ArrayList<>();
+        for (ProductFacet facet : facets) {
+            selects.add(switch (facet) {
+                case BRAND -> grouped(facet, "f.brand");
+                case CATEGORY -> grouped(facet, "f.category_id");
+                case STATUS -> grouped(facet, "f.status");
+                case COLOR -> variantGrouped(facet, "v.color");
+                case SIZE -> variantGrouped(facet, "v.size");
+                case PRICE -> priceBuckets(priceBoundaries, params);
+            });
+        }
+        sql.append(String.join("\nunion all\n", selects));
+
+        Map<ProductFacet, List<FacetCount>> counts = new EnumMap<>(ProductFacet.class);
+        facets.forEach(facet -> counts.put(facet, new ArrayList<>()));
+        long[] priceCounts = new long[priceBoundaries.size() + 1];
+        jdbcTemplate.query(sql.toString(), params, rs -> {
+            ProductFacet facet = ProductFacet.valueOf(rs.getString("facet"));
+            if (facet == ProductFacet.PRICE) {
+                priceCounts[Integer.parseInt(rs.getString("facet_value"))] = rs.getLong("facet_count");
+            } else {
+                counts.get(facet).add(new FacetCount(rs.getString("facet_value"), rs.getLong("facet_count")));
+            }
+        });
+
+        Map<String, List<FacetCount>> result = new LinkedHashMap<>();
+        counts.forEach((facet, values) -> {
+            if (facet == ProductFacet.PRICE) {
+                for (int bucket = 0; bucket < priceCounts.length; bucket++) {
+                    if (priceCounts[bucket] > 0) {
+                        values.add(new FacetCount(ProductFacet.priceBucketLabel(bucket, priceBoundaries), priceCounts[bucket]));
+                    }
+                }
+            } else {
+                values.sort(Comparator.comparingLong(FacetCount::getCount).reversed().thenComparing(FacetCount::getValue));
+            }
+            result.put(facet.getKey(), values);
+        });
+        return result;
+    }
+
+    private String grouped(ProductFacet facet, String column) {
+        return "select '" + facet.name() + "' as facet, cast(" + column + " as varchar(100)) as facet_value, "
+            + "count(*) as facet_count from filtered f group by " + column;
+    }
+
+    private String variantGrouped(ProductFacet facet, String column) {
+        return "select '" + facet.name() + "' as facet, cast(" + column + " as varchar(100)) as facet_value, "
+            + "count(distinct f.id) as facet_count from filtered f join product_variants v on v.product_id = f.id "
+            + "where " + column + " is not null group by " + column;
+    }
+
+    private String priceBuckets(List<BigDecimal> boundaries, MapSqlParameterSource params) {
+        StringBuilder bucket = new StringBuilder("case");
+        for (int i = 0; i < boundaries.size(); i++) {
+            bucket.append(" when f.price < :priceBoundary").append(i).append(" then ").append(i);
+            params.addValue("priceBoundary" + i, boundaries.get(i));
+        }
+        bucket.append(" else ").append(boundaries.size()).append(" end");
+
+        return grouped(ProductFacet.PRICE, bucket.toString());
+    }
+}
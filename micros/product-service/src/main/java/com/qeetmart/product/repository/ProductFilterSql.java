@@ -0,0 +1,40 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import java.util.Locale;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+final class ProductFilterSql {
+
+    private ProductFilterSql() {
+    }
+
+    /**
+     * Renders the live-product predicate for {@code filter} against the {@code products} alias {@code p},
+     * matching {@link com.qeetmart.product.specification.ProductSpecification#matches} so the same indexes apply.
+     */
+    static String where(ProductFilter filter, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder("p.is_deleted = false");
+        if (filter.getCategoryId() != null) {
+            sql.append(" and p.category_id = :categoryId");
+            params.addValue("categoryId", filter.getCategoryId());
+        }
+        if (filter.hasBrand()) {
+            sql.append(" and lower(p.brand) = :brand");
+            params.addValue("brand", filter.getBrand().toLowerCase(Locale.ROOT));
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" and p.status = :status");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (filter.getMinPrice() != null) {
+            sql.append(" and p.max_effective_price >= :minPrice");
+            params.addValue("minPrice", filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            sql.append(" and p.min_effective_price <= :maxPrice");
+            params.addValue("maxPrice", filter.getMaxPrice());
+        }
+        return sql.toString();
+    }
+}
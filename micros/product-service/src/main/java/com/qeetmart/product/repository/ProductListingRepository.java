@@ -0,0 +1,191 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import com.qeetmart.product.entity.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Listing queries for every combination of {@link ProductFilter} criteria, registered as named queries at startup.
+ * A filter maps to one fixed query by the bitmask of the criteria it sets, so each shape is parsed and translated
+ * once and always renders the same SQL, which keeps it in the driver's prepared statement cache. Criteria queries
+ * built from {@link com.qeetmart.product.specification.ProductSpecification} are recompiled on every call.
+ */
+@Slf4j
+@Repository
+public class ProductListingRepository {
+
+    private static final int CATEGORY = 1;
+    private static final int BRAND = 1 << 1;
+    private static final int STATUS = 1 << 2;
+    private static final int MIN_PRICE = 1 << 3;
+    private static final int MAX_PRICE = 1 << 4;
+    private static final int SHAPES = 1 << 5;
+
+    private static final String SELECT = "select p from Product p";
+    private static final String COUNT = "select count(p) from Product p";
+    private static final String VERSION = "select new com.qeetmart.product.dto.response.ResourceVersion("
+        + "max(p.updatedAt), count(p)) from Product p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    private Set<String> sortableAttributes;
+
+    @PostConstruct
+    void registerQueries() {
+        try (EntityManager registrar = entityManagerFactory.createEntityManager()) {
+            for (int mask = 0; mask < SHAPES; mask++) {
+                String where = where(mask);
+                entityManagerFactory.addNamedQuery(name("select", mask), registrar.createQuery(SELECT + where));
+                entityManagerFactory.addNamedQuery(name("count", mask), registrar.createQuery(COUNT + where));
+                entityManagerFactory.addNamedQuery(name("version", mask), registrar.createQuery(VERSION + where));
+            }
+            sortableAttributes = registrar.getMetamodel().entity(Product.class).getSingularAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC)
+                .map(Attribute::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        }
+        log.info("Registered {} product listing query shapes", SHAPES);
+    }
+
+    /**
+     * Returns the page, or empty if the sort references something other than a basic product attribute, which
+     * only the criteria path knows how to render.
+     */
+    public Optional<Page<Product>> findPage(ProductFilter filter, Pageable pageable) {
+        int mask = mask(filter);
+        TypedQuery<Product> query;
+        if (pageable.getSort().isUnsorted()) {
+            query = entityManager.createNamedQuery(name("select", mask), Product.class);
+        } else {
+            Optional<String> orderBy = orderBy(pageable.getSort());
+            if (orderBy.isEmpty()) {
+                return Optional.empty();
+            }
+            query = entityManager.createQuery(SELECT + where(mask) + orderBy.get(), Product.class);
+        }
+
+        bind(query, filter, mask);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Product> content = query.getResultList();
+        return Optional.of(PageableExecutionUtils.getPage(content, pageable, () -> count(filter, mask)));
+    }
+
+    public ResourceVersion findVersion(ProductFilter filter) {
+        int mask = mask(filter);
+        TypedQuery<ResourceVersion> query = entityManager.createNamedQuery(
+            name("version", mask),
+            ResourceVersion.class
+        );
+        return bind(query, filter, mask).getSingleResult();
+    }
+
+    private long count(ProductFilter filter, int mask) {
+        TypedQuery<Long> query = entityManager.createNamedQuery(name("count", mask), Long.class);
+        return bind(query, filter, mask).getSingleResult();
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query, ProductFilter filter, int mask) {
+        if ((mask & CATEGORY) != 0) {
+            query.setParameter("categoryId", filter.getCategoryId());
+        }
+        if ((mask & BRAND) != 0) {
+            query.setParameter("brand", filter.getBrand().toLowerCase(Locale.ROOT));
+        }
+        if ((mask & STATUS) != 0) {
+            query.setParameter("status", filter.getStatus());
+        }
+        if ((mask & MIN_PRICE) != 0) {
+            query.setParameter("minPrice", filter.getMinPrice());
+        }
+        if ((mask & MAX_PRICE) != 0) {
+            query.setParameter("maxPrice", filter.getMaxPrice());
+        }
+        return query;
+    }
+
+    private Optional<String> orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder(" order by ");
+        for (Sort.Order order : sort) {
+            if (!sortableAttributes.contains(order.getProperty())) {
+                return Optional.empty();
+            }
+            if (orderBy.length() > " order by ".length()) {
+                orderBy.append(", ");
+            }
+            String path = "p." + order.getProperty();
+            orderBy.append(order.isIgnoreCase() ? "lower(" + path + ")" : path)
+                .append(order.isAscending() ? " asc" : " desc");
+        }
+        return Optional.of(orderBy.toString());
+    }
+
+    private static int mask(ProductFilter filter) {
+        int mask = 0;
+        if (filter.getCategoryId() != null) {
+            mask |= CATEGORY;
+        }
+        if (filter.hasBrand()) {
+            mask |= BRAND;
+        }
+        if (filter.getStatus() != null) {
+            mask |= STATUS;
+        }
+        if (filter.getMinPrice() != null) {
+            mask |= MIN_PRICE;
+        }
+        if (filter.getMaxPrice() != null) {
+            mask |= MAX_PRICE;
+        }
+        return mask;
+    }
+
+    private static String where(int mask) {
+        StringBuilder where = new StringBuilder(" where p.isDeleted = false");
+        if ((mask & CATEGORY) != 0) {
+            where.append(" and p.category.id = :categoryId");
+        }
+        if ((mask & BRAND) != 0) {
+            where.append(" and lower(p.brand) = :brand");
+        }
+        if ((mask & STATUS) != 0) {
+            where.append(" and p.status = :status");
+        }
+        if ((mask & MIN_PRICE) != 0) {
+            where.append(" and p.maxEffectivePrice >= :minPrice");
+        }
+        if ((mask & MAX_PRICE) != 0) {
+            where.append(" and p.minEffectivePrice <= :maxPrice");
+        }
+        return where.toString();
+    }
+
+    private static String name(String kind, int mask) {
+        return "Product.listing." + kind + "." + mask;
+    }
+}
@@ -1,13 +1,57 @@
 package com.qeetmart.product.repository;
 
+import com.qeetmart.product.entity.Category;
 import com.qeetmart.product.entity.Product;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+    ProductRepositoryCustom {
 
     Optional<Product> findByIdAndIsDeletedFalse(Long id);
 
     boolean existsByCategoryIdAndIsDeletedFalse(Long categoryId);
+
+    @Query("select p.updatedAt from Product p where p.id = :productId and p.isDeleted = false")
+    Optional<Instant> findUpdatedAtById(@Param("productId") Long productId);
+
+    @Query("select p from Product p left join fetch p.variants where p.id in :ids and p.isDeleted = false")
+    List<Product> findAllWithVariantsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Product p set p.category = :target, p.updatedAt = :now
+        where p.category.id = :sourceId and p.isDeleted = true
+        """)
+    int reassignSoftDeleted(
+        @Param("sourceId") Long sourceId,
+        @Param("target") Category target,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Recomputes the denormalized effective price range of the given products from their base price and variants.
+     * Runs in the caller's transaction after flushing pending changes, so listings never see a stale range.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        update products set
+            min_effective_price = price + coalesce(
+                (select min(v.additional_price) from product_variants v where v.product_id = products.id), 0),
+            max_effective_price = price + coalesce(
+                (select max(v.additional_price) from product_variants v where v.product_id = products.id), 0)
+        where id in (:ids)
+        """, nativeQuery = true)
+    int refreshEffectivePrices(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.category.id = :categoryId and p.isDeleted = true")
+    int deleteSoftDeletedByCategoryId(@Param("categoryId") Long categoryId);
 }
@@ -0,0 +1,27 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductField;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import com.qeetmart.product.entity.Product;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ProductRepositoryCustom {
+
+    ResourceVersion findVersion(Specification<Product> spec);
+
+    ResourceVersion findVariantVersion(Specification<Product> spec);
+
+    Optional<Product> findDetailById(Long productId, Set<ProductInclude> includes);
+
+    Page<Map<String, Object>> findProjected(Specification<Product> spec, List<ProductField> fields, Pageable pageable);
+
+    List<Map<String, Object>> findProjectedByIds(Collection<Long> ids, List<ProductField> fields);
+}
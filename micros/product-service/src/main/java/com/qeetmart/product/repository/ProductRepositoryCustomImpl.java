@@ -0,0 +1,163 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductField;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import com.qeetmart.product.entity.Product;
+import com.qeetmart.product.entity.ProductVariant;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public ResourceVersion findVersion(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ResourceVersion> query = cb.createQuery(ResourceVersion.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.construct(ResourceVersion.class, cb.greatest(root.<Instant>get("updatedAt")), cb.count(root)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public ResourceVersion findVariantVersion(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ResourceVersion> query = cb.createQuery(ResourceVersion.class);
+        Root<Product> root = query.from(Product.class);
+        Join<Product, ProductVariant> variants = root.join("variants");
+        query.select(cb.construct(
+            ResourceVersion.class,
+            cb.greatest(variants.<Instant>get("updatedAt")),
+            cb.count(variants)
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Optional<Product> findDetailById(Long productId, Set<ProductInclude> includes) {
+        EntityGraph<Product> graph = entityManager.createEntityGraph(Product.class);
+        includes.forEach(include -> graph.addAttributeNodes(include.getKey()));
+
+        return entityManager.createQuery(
+                "select p from Product p where p.id = :productId and p.isDeleted = false",
+                Product.class
+            )
+            .setParameter("productId", productId)
+            .setHint("jakarta.persistence.fetchgraph", graph)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public Page<Map<String, Object>> findProjected(
+        Specification<Product> spec,
+        List<ProductField> fields,
+        Pageable pageable
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(selections(root, fields));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedByIds(Collection<Long> ids, List<ProductField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(selections(root, fields)).where(root.get("id").in(ids), cb.isFalse(root.get("isDeleted")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Selection<?>> selections(Root<Product> root, List<ProductField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (ProductField field : fields) {
+            Path<?> path = root;
+            for (String attribute : field.getAttributePath().split("\\.")) {
+                path = path.get(attribute);
+            }
+            selections.add(path.alias(field.getKey()));
+        }
+        return selections;
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, List<ProductField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            row.put(field.getKey(), tuple.get(field.getKey()));
+        }
+        return row;
+    }
+}
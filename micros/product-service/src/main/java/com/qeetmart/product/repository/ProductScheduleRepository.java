@@ -0,0 +1,204 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductScheduleRepository {
+
+    private static final String COLUMNS =
+        "id, product_id, target_status, target_price, apply_at, state, created_at, finished_at";
+
+    private static final String INSERT_SCHEDULE = """
+        insert into product_schedules (product_id, target_status, target_price, apply_at, state, created_at)
+        values (:productId, :targetStatus, :targetPrice, :applyAt, 'PENDING', :createdAt)
+        """;
+
+    private static final String FIND_PENDING = "select " + COLUMNS + """
+         from product_schedules
+        where state = 'PENDING' and apply_at < :before
+          and (apply_at > :afterApplyAt or (apply_at = :afterApplyAt and id > :afterId))
+        order by apply_at, id
+        limit :limit
+        """;
+
+    private static final String LOCK_PENDING = "select " + COLUMNS + """
+         from product_schedules
+        where id in (:ids) and state = 'PENDING'
+        order by apply_at, id
+        for update skip locked
+        """;
+
+    private static final String APPLY_PRICE = """
+        update products
+        set price = :price,
+            min_effective_price = min_effective_price - price + :price,
+            max_effective_price = max_effective_price - price + :price,
+            updated_at = :now
+        where id = :productId and is_deleted = false
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ScheduleRow insert(
+        Long productId,
+        ProductStatus targetStatus,
+        BigDecimal targetPrice,
+        Instant applyAt,
+        Instant createdAt
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("productId", productId)
+            .addValue("targetStatus", targetStatus == null ? null : targetStatus.name())
+            .addValue("targetPrice", targetPrice)
+            .addValue("applyAt", OffsetDateTime.ofInstant(applyAt, ZoneOffset.UTC))
+            .addValue("createdAt", OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(INSERT_SCHEDULE, params, keyHolder, new String[] {"id"});
+        long id = ((Number) keyHolder.getKeys().values().iterator().next()).longValue();
+        return new ScheduleRow(
+            id, productId, targetStatus, targetPrice, applyAt, ProductScheduleState.PENDING, createdAt, null
+        );
+    }
+
+    public Optional<ScheduleRow> findById(Long productId, Long scheduleId) {
+        return jdbcTemplate.query(
+            "select " + COLUMNS + " from product_schedules where id = :id and product_id = :productId",
+            new MapSqlParameterSource().addValue("id", scheduleId).addValue("productId", productId),
+            (rs, rowNum) -> mapRow(rs)
+        ).stream().findFirst();
+    }
+
+    public List<ScheduleRow> findByProductId(Long productId) {
+        return jdbcTemplate.query(
+            "select " + COLUMNS + " from product_schedules where product_id = :productId order by apply_at, id",
+            new MapSqlParameterSource("productId", productId),
+            (rs, rowNum) -> mapRow(rs)
+        );
+    }
+
+    /**
+     * Pages pending schedules due before {@code before}, seeking on {@code (apply_at, id)} so every page is a range
+     * scan of the pending index.
+     */
+    public List<ScheduleRow> findPending(Instant before, Instant afterApplyAt, long afterId, int limit) {
+        return jdbcTemplate.query(FIND_PENDING, new MapSqlParameterSource()
+            .addValue("before", OffsetDateTime.ofInstant(before, ZoneOffset.UTC))
+            .addValue("afterApplyAt", OffsetDateTime.ofInstant(afterApplyAt, ZoneOffset.UTC))
+            .addValue("afterId", afterId)
+            .addValue("limit", limit), (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * Locks the given schedules that are still pending, skipping rows another replica is applying, so each schedule
+     * is applied once however many replicas hold it in memory.
+     */
+    public List<ScheduleRow> lockPending(Collection<Long> scheduleIds) {
+        return jdbcTemplate.query(
+            LOCK_PENDING,
+            new MapSqlParameterSource("ids", scheduleIds),
+            (rs, rowNum) -> mapRow(rs)
+        );
+    }
+
+    public List<Long> findLiveProductIds(Collection<Long> productIds) {
+        return jdbcTemplate.queryForList(
+            "select id from products where id in (:ids) and is_deleted = false",
+            new MapSqlParameterSource("ids", productIds),
+            Long.class
+        );
+    }
+
+    public int applyStatus(ProductStatus status, Collection<Long> productIds, Instant now) {
+        return jdbcTemplate.update(
+            "update products set status = :status, updated_at = :now where id in (:ids) and is_deleted = false",
+            new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("ids", productIds)
+                .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+        );
+    }
+
+    /**
+     * Sets each product's base price in one batch, shifting the effective price range by the same amount the way
+     * a bulk reprice does.
+     */
+    public void applyPrices(Map<Long, BigDecimal> prices, Instant now) {
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        SqlParameterSource[] batch = prices.entrySet().stream()
+            .map(price -> new MapSqlParameterSource()
+                .addValue("productId", price.getKey())
+                .addValue("price", price.getValue())
+                .addValue("now", timestamp))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(APPLY_PRICE, batch);
+    }
+
+    public int finish(Collection<Long> scheduleIds, ProductScheduleState state, Instant now) {
+        return jdbcTemplate.update(
+            "update product_schedules set state = :state, finished_at = :now where id in (:ids) and state = 'PENDING'",
+            new MapSqlParameterSource()
+                .addValue("state", state.name())
+                .addValue("ids", scheduleIds)
+                .addValue("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+        );
+    }
+
+    /**
+     * Removes the schedule history of the soft-deleted products in a category, ahead of hard-deleting them.
+     */
+    public int deleteBySoftDeletedProductsInCategory(Long categoryId) {
+        return jdbcTemplate.update(
+            """
+            delete from product_schedules
+            where product_id in (select id from products where category_id = :categoryId and is_deleted = true)
+            """,
+            new MapSqlParameterSource("categoryId", categoryId)
+        );
+    }
+
+    private ScheduleRow mapRow(ResultSet rs) throws SQLException {
+        String targetStatus = rs.getString("target_status");
+        OffsetDateTime finishedAt = rs.getObject("finished_at", OffsetDateTime.class);
+        return new ScheduleRow(
+            rs.getLong("id"),
+            rs.getLong("product_id"),
+            targetStatus == null ? null : ProductStatus.valueOf(targetStatus),
+            rs.getBigDecimal("target_price"),
+            rs.getObject("apply_at", OffsetDateTime.class).toInstant(),
+            ProductScheduleState.valueOf(rs.getString("state")),
+            rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+            finishedAt == null ? null : finishedAt.toInstant()
+        );
+    }
+
+    public record ScheduleRow(
+        long id,
+        long productId,
+        ProductStatus targetStatus,
+        BigDecimal targetPrice,
+        Instant applyAt,
+        ProductScheduleState state,
+        Instant createdAt,
+        Instant finishedAt
+    ) {
+    }
+}
@@ -1,9 +1,14 @@
 package com.qeetmart.product.repository;
 
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.ProductVariant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductVariantRepository extends JpaRepository<ProductVariant, Long> {
 
@@ -11,7 +16,40 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
 
     Optional<ProductVariant> findByIdAndProductId(Long variantId, Long productId);
 
-    boolean existsBySkuIgnoreCase(String sku);
+    @Query("""
+        select case when exists (
+            select 1 from ProductVariant v where lower(v.sku) = lower(:sku)
+        ) then true else false end
+        """)
+    boolean existsBySkuIgnoreCase(@Param("sku") String sku);
 
-    boolean existsBySkuIgnoreCaseAndIdNot(String sku, Long id);
+    @Query("""
+        select case when exists (
+            select 1 from ProductVariant v where lower(v.sku) = lower(:sku) and v.id <> :id
+        ) then true else false end
+        """)
+    boolean existsBySkuIgnoreCaseAndIdNot(@Param("sku") String sku, @Param("id") Long id);
+
+    @Query("select lower(v.sku) from ProductVariant v where lower(v.sku) in :skus")
+    List<String> findExistingSkusIgnoreCase(@Param("skus") Collection<String> skus);
+
+    @Query("select v from ProductVariant v where lower(v.sku) in :skus and v.product.isDeleted = false")
+    List<ProductVariant> findAllBySkuInIgnoreCase(@Param("skus") Collection<String> skus);
+
+    @Query("select v from ProductVariant v where lower(v.sku) = :sku and v.product.isDeleted = false")
+    Optional<ProductVariant> findLiveBySkuIgnoreCase(@Param("sku") String normalizedSku);
+
+    @Query("""
+        select new com.qeetmart.product.dto.response.ResourceVersion(max(v.updatedAt), count(v))
+        from ProductVariant v
+        where v.product.id = :productId and v.product.isDeleted = false
+        """)
+    ResourceVersion findVersionByProductId(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        delete from ProductVariant v
+        where v.product.id in (select p.id from Product p where p.category.id = :categoryId and p.isDeleted = true)
+        """)
+    int deleteBySoftDeletedProductsInCategory(@Param("categoryId") Long categoryId);
 }
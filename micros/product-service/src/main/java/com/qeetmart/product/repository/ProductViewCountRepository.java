@@ -0,0 +1,96 @@
+package com.qeetmart.product.repository;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductViewCountRepository {
+
+    private static final String INSERT_COUNT = """
+        insert into product_view_counts (product_id, view_count, updated_at)
+        values (:productId, :views, :updatedAt)
+        on conflict do nothing
+        """;
+
+    private static final String ADD_VIEWS = """
+        update product_view_counts
+        set view_count = view_count + :views, updated_at = :updatedAt
+        where product_id = :productId
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the given view deltas. New ids are inserted in one batch; ids that already had a row (the insert
+     * reports zero rows) are incremented in a second batch, which is safe against concurrent flushes from other
+     * replicas and does not need {@code on conflict do update}.
+     */
+    public void addViews(Map<Long, Long> views, Instant updatedAt) {
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(updatedAt, ZoneOffset.UTC);
+        List<SqlParameterSource> batch = new ArrayList<>(views.size());
+        views.forEach((productId, count) -> batch.add(new MapSqlParameterSource()
+            .addValue("productId", productId)
+            .addValue("views", count)
+            .addValue("updatedAt", timestamp)));
+
+        SqlParameterSource[] rows = batch.toArray(SqlParameterSource[]::new);
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_COUNT, rows);
+        List<SqlParameterSource> existing = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            if (inserted[i] == 0) {
+                existing.add(rows[i]);
+            }
+        }
+        if (!existing.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_VIEWS, existing.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    /**
+     * Pages live product ids matching {@code filter} by persisted view count, products without views last and
+     * ties broken by id.
+     */
+    public Page<Long> findIdsByPopularity(ProductFilter filter, Sort.Direction direction, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset());
+        String where = ProductFilterSql.where(filter, params);
+
+        List<Long> ids = jdbcTemplate.queryForList(
+            "select p.id from products p left join product_view_counts v on v.product_id = p.id"
+                + " where " + where
+                + " order by coalesce(v.view_count, 0) " + direction.name() + ", p.id"
+                + " limit :limit offset :offset",
+            params,
+            Long.class
+        );
+        Long total = jdbcTemplate.queryForObject("select count(*) from products p where " + where, params, Long.class);
+        return new PageImpl<>(ids, pageable, total == null ? 0 : total);
+    }
+
+    public Optional<Instant> findLastUpdatedAt() {
+        Timestamp lastUpdated = jdbcTemplate.queryForObject(
+            "select max(updated_at) from product_view_counts",
+            new MapSqlParameterSource(),
+            Timestamp.class
+        );
+        return Optional.ofNullable(lastUpdated).map(Timestamp::toInstant);
+    }
+}
@@ -0,0 +1,202 @@
+package com.qeetmart.product.schedule;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.repository.ProductScheduleRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository.ScheduleRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies scheduled status and price changes without polling the products table. Pending schedules due within
+ * {@code app.catalog.schedules.horizon} are loaded from {@code product_schedules} into a {@link TimingWheel}, at
+ * startup and then every {@code load-interval}, so a restart recovers whatever was pending, overdue rows included.
+ * Each tick applies the schedules that came due in chunks, one transaction per chunk: the rows are locked and
+ * re-checked first, so a schedule cancelled meanwhile or already applied by another replica is left alone.
+ */
+@Slf4j
+@Component
+public class ProductScheduler {
+
+    private final ProductScheduleRepository productScheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogProperties.Schedules settings;
+    private final MeterRegistry meterRegistry;
+
+    private final TimingWheel<Long> wheel;
+    private final Set<Long> loaded = new HashSet<>();
+
+    public ProductScheduler(
+        ProductScheduleRepository productScheduleRepository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        CatalogProperties catalogProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.productScheduleRepository = productScheduleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.settings = catalogProperties.getSchedules();
+        this.meterRegistry = meterRegistry;
+        this.wheel = new TimingWheel<>(settings.getTick(), settings.getWheelSlots(), Instant.now());
+        Gauge.builder("catalog.schedules.loaded", this, ProductScheduler::loadedCount).register(meterRegistry);
+    }
+
+    /**
+     * Adds a schedule created on this replica right away when it falls within the horizon, instead of waiting for
+     * the next load.
+     */
+    public void offer(long scheduleId, Instant applyAt) {
+        if (settings.isEnabled() && applyAt.isBefore(Instant.now().plus(settings.getHorizon()))) {
+            load(scheduleId, applyAt);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.schedules.load-interval:PT1M}")
+    public void loadPending() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        Instant before = Instant.now().plus(settings.getHorizon());
+        Instant afterApplyAt = Instant.EPOCH;
+        long afterId = 0;
+        int added = 0;
+        while (loadedCount() < settings.getMaxLoaded()) {
+            List<ScheduleRow> page = productScheduleRepository.findPending(
+                before, afterApplyAt, afterId, settings.getLoadPageSize()
+            );
+            for (ScheduleRow row : page) {
+                if (load(row.id(), row.applyAt())) {
+                    added++;
+                }
+            }
+            if (page.size() < settings.getLoadPageSize()) {
+                break;
+            }
+            ScheduleRow last = page.get(page.size() - 1);
+            afterApplyAt = last.applyAt();
+            afterId = last.id();
+        }
+        if (added > 0) {
+            log.debug("Loaded {} product schedules due before {}", added, before);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.catalog.schedules.tick:PT1S}")
+    public void tick() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        List<Long> due;
+        synchronized (this) {
+            due = wheel.advance(Instant.now());
+            due.forEach(loaded::remove);
+        }
+        int chunkSize = settings.getApplyChunkSize();
+        for (int from = 0; from < due.size(); from += chunkSize) {
+            apply(due.subList(from, Math.min(from + chunkSize, due.size())));
+        }
+    }
+
+    private synchronized boolean load(long scheduleId, Instant applyAt) {
+        if (loaded.size() >= settings.getMaxLoaded() || !loaded.add(scheduleId)) {
+            return false;
+        }
+        wheel.add(scheduleId, applyAt);
+        return true;
+    }
+
+    private synchronized int loadedCount() {
+        return loaded.size();
+    }
+
+    /**
+     * A failed chunk is only logged: its schedules are still pending, so the next load picks them up again.
+     */
+    private void apply(List<Long> scheduleIds) {
+        try {
+            meterRegistry.timer("catalog.schedules.apply").record(() ->
+                transactionTemplate.executeWithoutResult(status -> applyChunk(scheduleIds))
+            );
+        } catch (RuntimeException ex) {
+            log.warn("Failed to apply {} product schedules; they will be retried", scheduleIds.size(), ex);
+        }
+    }
+
+    /**
+     * Rows come back in {@code apply_at} order, so when one chunk holds several changes to the same product the
+     * latest wins. Status changes are grouped into one UPDATE per target status and prices go out as one batch.
+     */
+    private void applyChunk(List<Long> scheduleIds) {
+        List<ScheduleRow> rows = productScheduleRepository.lockPending(scheduleIds);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Set<Long> live = new HashSet<>(productScheduleRepository.findLiveProductIds(
+            rows.stream().map(ScheduleRow::productId).distinct().toList()
+        ));
+        Map<Long, ProductStatus> statuses = new LinkedHashMap<>();
+        Map<Long, BigDecimal> prices = new LinkedHashMap<>();
+        List<Long> applied = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (ScheduleRow row : rows) {
+            if (!live.contains(row.productId())) {
+                skipped.add(row.id());
+                continue;
+            }
+            if (row.targetStatus() != null) {
+                statuses.put(row.productId(), row.targetStatus());
+            }
+            if (row.targetPrice() != null) {
+                prices.put(row.productId(), row.targetPrice());
+            }
+            applied.add(row.id());
+            meterRegistry.timer("catalog.schedules.lag").record(Duration.between(row.applyAt(), now));
+        }
+
+        Map<ProductStatus, List<Long>> byStatus = new EnumMap<>(ProductStatus.class);
+        statuses.forEach((productId, status) ->
+            byStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(productId)
+        );
+        byStatus.forEach((status, productIds) -> productScheduleRepository.applyStatus(status, productIds, now));
+        if (!prices.isEmpty()) {
+            productScheduleRepository.applyPrices(prices, now);
+        }
+
+        if (!applied.isEmpty()) {
+            productScheduleRepository.finish(applied, ProductScheduleState.APPLIED, now);
+            Set<Long> changed = new LinkedHashSet<>(statuses.keySet());
+            changed.addAll(prices.keySet());
+            eventPublisher.publishEvent(new ProductsChangedEvent(ProductChangeType.UPDATED, changed));
+        }
+        if (!skipped.isEmpty()) {
+            productScheduleRepository.finish(skipped, ProductScheduleState.SKIPPED, now);
+        }
+        meterRegistry.counter("catalog.schedules.applied").increment(applied.size());
+        meterRegistry.counter("catalog.schedules.skipped").increment(skipped.size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.qeetmart.product.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashed timing wheel: a ring of slots, one per tick, where an entry goes into the slot its deadline falls in.
+ * Adding is O(1) and a tick only visits its own slot, so the cost of time passing does not grow with the number of
+ * loaded entries. Deadlines further out than one turn share slots with nearer ones and are kept until their turn
+ * comes round. Overdue entries fire on the next tick. Not thread-safe; {@link ProductScheduler} guards it.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> slots;
+    private long nextTick;
+    private int size;
+
+    TimingWheel(Duration tick, int slotCount, Instant start) {
+        this.tickMillis = tick.toMillis();
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.nextTick = start.toEpochMilli() / tickMillis;
+    }
+
+    void add(T value, Instant deadline) {
+        long dueTick = Math.max(-Math.floorDiv(-deadline.toEpochMilli(), tickMillis), nextTick);
+        slots.get(slotOf(dueTick)).add(new Entry<>(value, dueTick));
+        size++;
+    }
+
+    /**
+     * Removes and returns every entry due at or before {@code now}. After a stall longer than a full turn each slot
+     * is visited once rather than once per missed tick.
+     */
+    List<T> advance(Instant now) {
+        long lastTick = now.toEpochMilli() / tickMillis;
+        List<T> due = new ArrayList<>();
+        if (lastTick < nextTick) {
+            return due;
+        }
+
+        long firstTick = Math.max(nextTick, lastTick - slots.size() + 1);
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            Iterator<Entry<T>> entries = slots.get(slotOf(tick)).iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.dueTick() <= lastTick) {
+                    due.add(entry.value());
+                    entries.remove();
+                }
+            }
+        }
+        size -= due.size();
+        nextTick = lastTick + 1;
+        return due;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+
+    private record Entry<T>(T value, long dueTick) {
+    }
+}
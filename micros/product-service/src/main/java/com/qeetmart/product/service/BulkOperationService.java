@@ -0,0 +1,11 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.response.BulkOperationResponse;
+
+public interface BulkOperationService {
+
+    BulkOperationResponse submit(BulkOperationRequest request);
+
+    BulkOperationResponse getOperation(String operationId);
+}
@@ -0,0 +1,15 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.response.ArchivedProductResponse;
+import com.qeetmart.product.dto.response.CatalogArchiveResponse;
+import com.qeetmart.product.dto.response.PagedResponse;
+import org.springframework.data.domain.Pageable;
+
+public interface CatalogArchiveService {
+
+    CatalogArchiveResponse archiveDeletedProducts();
+
+    PagedResponse<ArchivedProductResponse> getArchivedProducts(Pageable pageable);
+
+    ArchivedProductResponse getArchivedProduct(Long productId);
+}
@@ -0,0 +1,8 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.response.ProductChangesResponse;
+
+public interface CatalogChangeFeedService {
+
+    ProductChangesResponse getChanges(long cursor, Integer limit);
+}
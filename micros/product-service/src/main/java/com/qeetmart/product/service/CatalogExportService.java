@@ -0,0 +1,10 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.io.CatalogFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CatalogExportService {
+
+    long exportCatalog(CatalogFormat format, OutputStream output) throws IOException;
+}
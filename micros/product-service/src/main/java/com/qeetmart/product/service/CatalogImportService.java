@@ -0,0 +1,10 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.response.CatalogImportResponse;
+import com.qeetmart.product.io.CatalogFormat;
+import java.io.InputStream;
+
+public interface CatalogImportService {
+
+    CatalogImportResponse importCatalog(InputStream input, CatalogFormat format);
+}
@@ -1,8 +1,12 @@
 package com.qeetmart.product.service;
 
 import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.CategoryReassignRequest;
 import com.qeetmart.product.dto.request.CategoryUpdateRequest;
+import com.qeetmart.product.dto.response.CategoryReassignResponse;
 import com.qeetmart.product.dto.response.CategoryResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import java.time.Instant;
 import java.util.List;
 
 public interface CategoryService {
@@ -11,9 +15,15 @@ public interface CategoryService {
 
     List<CategoryResponse> getCategories();
 
+    ResourceVersion getCategoriesVersion();
+
     CategoryResponse getCategoryById(Long categoryId);
 
+    Instant getCategoryLastModified(Long categoryId);
+
     CategoryResponse updateCategory(Long categoryId, CategoryUpdateRequest request);
 
     void deleteCategory(Long categoryId);
+
+    CategoryReassignResponse reassignProducts(Long categoryId, CategoryReassignRequest request);
 }
@@ -0,0 +1,12 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductAvailabilityResponse;
+import java.util.List;
+
+public interface ProductAvailabilityService {
+
+    ProductAvailabilityResponse getAvailability(Long productId);
+
+    BatchResponse<ProductAvailabilityResponse, Long> getAvailability(List<Long> productIds);
+}
@@ -0,0 +1,14 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.request.ProductScheduleRequest;
+import com.qeetmart.product.dto.response.ProductScheduleResponse;
+import java.util.List;
+
+public interface ProductScheduleService {
+
+    ProductScheduleResponse createSchedule(Long productId, ProductScheduleRequest request);
+
+    List<ProductScheduleResponse> getSchedules(Long productId);
+
+    void cancelSchedule(Long productId, Long scheduleId);
+}
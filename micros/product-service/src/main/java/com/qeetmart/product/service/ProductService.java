@@ -1,23 +1,59 @@
 package com.qeetmart.product.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductField;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.request.ProductFilter;
 import com.qeetmart.product.dto.request.ProductUpdateRequest;
+import com.qeetmart.product.dto.response.BatchResponse;
 import com.qeetmart.product.dto.response.PagedResponse;
 import com.qeetmart.product.dto.response.ProductResponse;
-import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.dto.response.ResourceVersion;
+import com.qeetmart.product.specification.ProductFacet;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 public interface ProductService {
 
     ProductResponse createProduct(ProductCreateRequest request);
 
-    PagedResponse<ProductResponse> getProducts(Long categoryId, String brand, ProductStatus status, Pageable pageable);
+    PagedResponse<ProductResponse> getProducts(ProductFilter filter, Set<ProductFacet> facets, Pageable pageable);
+
+    PagedResponse<Map<String, Object>> getProductFields(
+        ProductFilter filter,
+        Set<ProductFacet> facets,
+        List<ProductField> fields,
+        Pageable pageable
+    );
+
+    /**
+     * Returns up to {@code limit} products matching the filter with ids above {@code afterId}, in id order, without
+     * counting the matches.
+     */
+    List<ProductResponse> getProductsAfter(ProductFilter filter, long afterId, int limit);
+
+    ResourceVersion getProductsVersion(ProductFilter filter, Set<ProductFacet> facets, Sort sort);
 
     ProductResponse getProductById(Long productId);
 
+    ProductResponse getProductDetail(Long productId, Set<ProductInclude> includes);
+
+    Instant getProductLastModified(Long productId);
+
+    BatchResponse<ProductResponse, Long> getProductsByIds(List<Long> productIds);
+
     ProductResponse updateProduct(Long productId, ProductUpdateRequest request);
 
+    /**
+     * Applies a JSON Merge Patch to the product's {@link ProductUpdateRequest} representation.
+     */
+    ProductResponse patchProduct(Long productId, JsonNode patch);
+
     void deleteProduct(Long productId);
 
     List<ProductResponse> searchProducts(String query);
@@ -1,8 +1,11 @@
 package com.qeetmart.product.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
 import com.qeetmart.product.dto.request.ProductVariantUpdateRequest;
+import com.qeetmart.product.dto.response.BatchResponse;
 import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import java.util.List;
 
 public interface ProductVariantService {
@@ -11,7 +14,18 @@ public interface ProductVariantService {
 
     List<ProductVariantResponse> getVariants(Long productId);
 
+    ResourceVersion getVariantsVersion(Long productId);
+
+    BatchResponse<ProductVariantResponse, String> getVariantsBySkus(List<String> skus);
+
+    ProductVariantResponse getVariantBySku(String sku);
+
     ProductVariantResponse updateVariant(Long productId, Long variantId, ProductVariantUpdateRequest request);
 
+    /**
+     * Applies a JSON Merge Patch to the variant's {@link ProductVariantUpdateRequest} representation.
+     */
+    ProductVariantResponse patchVariant(Long productId, Long variantId, JsonNode patch);
+
     void deleteVariant(Long productId, Long variantId);
 }
@@ -0,0 +1,8 @@
+package com.qeetmart.product.service;
+
+import com.qeetmart.product.dto.response.TrendingProductsResponse;
+
+public interface TrendingProductService {
+
+    TrendingProductsResponse getTrending(String window, Integer limit);
+}
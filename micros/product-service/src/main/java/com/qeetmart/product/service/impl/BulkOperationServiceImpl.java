@@ -0,0 +1,198 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.request.BulkOperationType;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.BulkOperationResponse;
+import com.qeetmart.product.dto.response.BulkOperationState;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.repository.BulkOperationRepository;
+import com.qeetmart.product.repository.CategoryRepository;
+import com.qeetmart.product.repository.ProductBulkRepository;
+import com.qeetmart.product.service.BulkOperationService;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs bulk operations in chunks on the {@code catalogBulkOperationExecutor}, one operation at a time per replica.
+ * Progress is stored in {@code catalog_bulk_operations} and updated in each chunk's transaction, so a status poll
+ * answered by any replica sees exactly the committed chunks. Operations still queued when the replica shuts down,
+ * and the one interrupted by the shutdown, are marked failed; a replica that crashes leaves its operation RUNNING,
+ * with the progress it had committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkOperationServiceImpl implements BulkOperationService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final BulkOperationRepository bulkOperationRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties catalogProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor catalogBulkOperationExecutor;
+
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public BulkOperationResponse submit(BulkOperationRequest request) {
+        validate(request);
+        long matched = productBulkRepository.count(request.getFilter());
+        if (request.isDryRun()) {
+            return BulkOperationResponse.builder()
+                .operation(request.getOperation())
+                .state(BulkOperationState.COMPLETED)
+                .dryRun(true)
+                .matched(matched)
+                .build();
+        }
+
+        String id = UUID.randomUUID().toString();
+        bulkOperationRepository.insert(id, request.getOperation(), matched, Instant.now());
+        bulkOperationRepository.deleteFinishedBeyond(catalogProperties.getBulkOperations().getRetainedOperations());
+        BulkOperationResponse operation = getOperation(id);
+        queued.add(id);
+        catalogBulkOperationExecutor.execute(() -> run(id, request));
+        return operation;
+    }
+
+    @Override
+    public BulkOperationResponse getOperation(String operationId) {
+        return bulkOperationRepository.findById(operationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Bulk operation not found with id: " + operationId));
+    }
+
+    /**
+     * Runs before the executor shuts down, which discards its queue.
+     */
+    @PreDestroy
+    void shutdown() {
+        int failed = bulkOperationRepository.failQueued(
+            List.copyOf(queued),
+            "Shut down before starting",
+            Instant.now()
+        );
+        if (failed > 0) {
+            log.warn("Failed {} queued bulk operations on shutdown", failed);
+        }
+    }
+
+    private void run(String id, BulkOperationRequest request) {
+        queued.remove(id);
+        if (!bulkOperationRepository.markRunning(id, Instant.now())) {
+            return;
+        }
+
+        int chunkSize = catalogProperties.getBulkOperations().getChunkSize();
+        try {
+            long lastId = 0;
+            boolean completed = false;
+            while (!completed && !Thread.currentThread().isInterrupted()) {
+                long afterId = lastId;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> chunk = productBulkRepository.findIdsAfter(request.getFilter(), afterId, chunkSize);
+                    if (!chunk.isEmpty()) {
+                        int updated = productBulkRepository.apply(request, chunk, Instant.now());
+                        bulkOperationRepository.chunkCommitted(id, updated);
+                        eventPublisher.publishEvent(new ProductsChangedEvent(
+                            request.getOperation() == BulkOperationType.SOFT_DELETE
+                                ? ProductChangeType.DELETED
+                                : ProductChangeType.UPDATED,
+                            chunk
+                        ));
+                    }
+                    return chunk;
+                });
+                completed = ids == null || ids.size() < chunkSize;
+                if (!completed) {
+                    lastId = ids.get(ids.size() - 1);
+                }
+            }
+
+            if (!completed) {
+                interrupted(id, request);
+                return;
+            }
+            bulkOperationRepository.complete(id, Instant.now());
+            BulkOperationResponse result = getOperation(id);
+            log.info(
+                "Bulk {} {} updated {} of {} matched products in {} chunks",
+                result.getOperation(),
+                result.getId(),
+                result.getProcessed(),
+                result.getMatched(),
+                result.getChunksCommitted()
+            );
+        } catch (RuntimeException ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                interrupted(id, request);
+                return;
+            }
+            bulkOperationRepository.fail(id, ex.getMessage(), Instant.now());
+            log.warn("Bulk {} {} failed", request.getOperation(), id, ex);
+        }
+    }
+
+    /**
+     * Records the stop with the interrupt cleared, so the pool hands out a connection, then restores it.
+     */
+    private void interrupted(String id, BulkOperationRequest request) {
+        Thread.interrupted();
+        try {
+            bulkOperationRepository.fail(id, "Interrupted before completion", Instant.now());
+            log.warn("Bulk {} {} interrupted before completion", request.getOperation(), id);
+        } finally {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void validate(BulkOperationRequest request) {
+        ProductFilter filter = request.getFilter();
+        if (filter.getCategoryId() == null && !filter.hasBrand() && filter.getStatus() == null
+            && !filter.hasPriceRange()) {
+            throw new BadRequestException(
+                "Bulk operations require at least one of categoryId, brand, status, minPrice or maxPrice"
+            );
+        }
+        filter.validatePriceRange();
+
+        switch (request.getOperation()) {
+            case REPRICE -> {
+                if (request.getPercentage() == null || request.getPercentage().compareTo(BigDecimal.ZERO) == 0) {
+                    throw new BadRequestException("REPRICE requires a non-zero percentage");
+                }
+            }
+            case SET_STATUS -> {
+                if (request.getTargetStatus() == null) {
+                    throw new BadRequestException("SET_STATUS requires targetStatus");
+                }
+            }
+            case MOVE_CATEGORY -> {
+                if (request.getTargetCategoryId() == null) {
+                    throw new BadRequestException("MOVE_CATEGORY requires targetCategoryId");
+                }
+                if (!categoryRepository.existsById(request.getTargetCategoryId())) {
+                    throw new ResourceNotFoundException("Category not found with id: " + request.getTargetCategoryId());
+                }
+            }
+            case SOFT_DELETE -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.response.ArchivedProductResponse;
+import com.qeetmart.product.dto.response.CatalogArchiveResponse;
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.exception.ConflictException;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.mapper.ProductMapper;
+import com.qeetmart.product.repository.ArchivedProductRepository;
+import com.qeetmart.product.repository.CatalogArchiveRepository;
+import com.qeetmart.product.repository.CatalogArchiveRepository.ArchivedCounts;
+import com.qeetmart.product.service.CatalogArchiveService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogArchiveServiceImpl implements CatalogArchiveService {
+
+    private final CatalogArchiveRepository catalogArchiveRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductMapper productMapper;
+    private final CatalogProperties catalogProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${app.catalog.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (catalogProperties.getArchive().isEnabled() && !running.get()) {
+            archiveDeletedProducts();
+        }
+    }
+
+    @Override
+    public CatalogArchiveResponse archiveDeletedProducts() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An archive run is already in progress");
+        }
+        try {
+            return meterRegistry.timer("catalog.archive.run").record(this::archiveChunks);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<ArchivedProductResponse> getArchivedProducts(Pageable pageable) {
+        return PagedResponse.fromPage(
+            archivedProductRepository.findAll(pageable)
+                .map(product -> productMapper.toArchivedProductResponse(product, false))
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedProductResponse getArchivedProduct(Long productId) {
+        return archivedProductRepository.findWithVariantsById(productId)
+            .map(product -> productMapper.toArchivedProductResponse(product, true))
+            .orElseThrow(() -> new ResourceNotFoundException("Archived product not found with id: " + productId));
+    }
+
+    /**
+     * Walks soft-deleted products past the retention window in id order, archiving one chunk per transaction.
+     * After each chunk the run sleeps as long as needed to stay within the configured rows-per-second budget,
+     * so a large backlog drains gradually instead of competing with live traffic for I/O and locks.
+     */
+    private CatalogArchiveResponse archiveChunks() {
+        CatalogProperties.Archive settings = catalogProperties.getArchive();
+        Instant cutoff = Instant.now().minus(settings.getRetention());
+        long startedAt = System.nanoTime();
+        long productsArchived = 0;
+        long variantsArchived = 0;
+        int chunksCommitted = 0;
+
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Long> ids = catalogArchiveRepository.findArchivableIds(cutoff, afterId, settings.getChunkSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            ArchivedCounts counts = transactionTemplate.execute(status ->
+                catalogArchiveRepository.archive(ids, Instant.now())
+            );
+            productsArchived += counts.products();
+            variantsArchived += counts.variants();
+            chunksCommitted++;
+            meterRegistry.counter("catalog.archive.products").increment(counts.products());
+            meterRegistry.counter("catalog.archive.variants").increment(counts.variants());
+
+            if (ids.size() < settings.getChunkSize() || !throttle(startedAt, productsArchived + variantsArchived)) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info(
+            "Archived {} products and {} variants deleted before {} in {} chunks ({} ms)",
+            productsArchived,
+            variantsArchived,
+            cutoff,
+            chunksCommitted,
+            durationMillis
+        );
+        return CatalogArchiveResponse.builder()
+            .cutoff(cutoff)
+            .productsArchived(productsArchived)
+            .variantsArchived(variantsArchived)
+            .chunksCommitted(chunksCommitted)
+            .durationMillis(durationMillis)
+            .build();
+    }
+
+    private boolean throttle(long startedAt, long rowsMoved) {
+        long budgetNanos = rowsMoved * TimeUnit.SECONDS.toNanos(1) / catalogProperties.getArchive().getRowsPerSecond();
+        long aheadNanos = budgetNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.response.ProductChangeResponse;
+import com.qeetmart.product.dto.response.ProductChangesResponse;
+import com.qeetmart.product.entity.Product;
+import com.qeetmart.product.entity.ProductChange;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.mapper.ProductMapper;
+import com.qeetmart.product.repository.ProductChangeRepository;
+import com.qeetmart.product.repository.ProductRepository;
+import com.qeetmart.product.service.CatalogChangeFeedService;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeFeedServiceImpl implements CatalogChangeFeedService {
+
+    private final ProductChangeRepository productChangeRepository;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final CatalogProperties catalogProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductChangesResponse getChanges(long cursor, Integer limit) {
+        CatalogProperties.Changes settings = catalogProperties.getChanges();
+        int pageSize = limit == null ? settings.getDefaultPageSize() : limit;
+        if (cursor < 0) {
+            throw new BadRequestException("Cursor must not be negative");
+        }
+        if (pageSize < 1 || pageSize > settings.getMaxPageSize()) {
+            throw new BadRequestException("Limit must be between 1 and " + settings.getMaxPageSize());
+        }
+
+        List<ProductChange> changes = productChangeRepository.findAfter(cursor, PageRequest.ofSize(pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        Map<Long, Product> live = productRepository.findAllById(
+                changes.stream().map(ProductChange::getProductId).distinct().toList()
+            ).stream()
+            .filter(product -> !product.isDeleted())
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return ProductChangesResponse.builder()
+            .changes(changes.stream()
+                .map(change -> ProductChangeResponse.builder()
+                    .sequence(change.getSequence())
+                    .productId(change.getProductId())
+                    .type(change.getType())
+                    .changedAt(change.getChangedAt())
+                    .product(live.containsKey(change.getProductId())
+                        ? productMapper.toProductResponse(live.get(change.getProductId()))
+                        : null)
+                    .build())
+                .toList())
+            .nextCursor(changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getSequence())
+            .hasMore(hasMore)
+            .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.qeetmart.product.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.io.CatalogFormat;
+import com.qeetmart.product.io.CatalogRowWriter;
+import com.qeetmart.product.io.CsvRowWriter;
+import com.qeetmart.product.io.NdjsonRowWriter;
+import com.qeetmart.product.repository.CatalogJdbcRepository;
+import com.qeetmart.product.service.CatalogExportService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogExportServiceImpl implements CatalogExportService {
+
+    private final CatalogJdbcRepository catalogJdbcRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties catalogProperties;
+
+    @Override
+    public long exportCatalog(CatalogFormat format, OutputStream output) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        int fetchSize = catalogProperties.getExport().getFetchSize();
+
+        try (CatalogRowWriter writer = openWriter(format, output)) {
+            transactionTemplate.executeWithoutResult(status ->
+                catalogJdbcRepository.streamActiveCatalog(fetchSize, row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+            );
+            return writer.getProductsWritten();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private CatalogRowWriter openWriter(CatalogFormat format, OutputStream output) throws IOException {
+        return format == CatalogFormat.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output, objectMapper);
+    }
+}
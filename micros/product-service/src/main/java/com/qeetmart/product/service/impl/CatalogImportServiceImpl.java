@@ -0,0 +1,403 @@
+package com.qeetmart.product.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
+import com.qeetmart.product.dto.response.CatalogImportError;
+import com.qeetmart.product.dto.response.CatalogImportResponse;
+import com.qeetmart.product.entity.Category;
+import com.qeetmart.product.entity.Product;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.entity.ProductVariant;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.io.CatalogFormat;
+import com.qeetmart.product.io.CatalogRowReader;
+import com.qeetmart.product.io.CsvRowReader;
+import com.qeetmart.product.io.NdjsonRowReader;
+import com.qeetmart.product.repository.CatalogJdbcRepository;
+import com.qeetmart.product.repository.CategoryRepository;
+import com.qeetmart.product.repository.ProductVariantRepository;
+import com.qeetmart.product.service.CatalogImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final CatalogJdbcRepository catalogJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties catalogProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public CatalogImportResponse importCatalog(InputStream input, CatalogFormat format) {
+        long startedAt = System.nanoTime();
+        ImportRun run = new ImportRun(loadCategories());
+
+        try (CatalogRowReader reader = openReader(input, format)) {
+            PendingProduct group = null;
+            while (true) {
+                CatalogImportRow row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException ex) {
+                    run.rowsRead++;
+                    run.fail(reader.getLineNumber(), null, null, ex.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+
+                run.rowsRead++;
+                int line = reader.getLineNumber();
+                if (group != null && group.continuedBy(row)) {
+                    run.addVariantRow(group, line, row);
+                    continue;
+                }
+
+                run.complete(group);
+                group = run.startGroup(line, row);
+            }
+            run.complete(group);
+            run.flush();
+        } catch (IOException ex) {
+            throw new BadRequestException("Failed to read import stream: " + ex.getMessage());
+        }
+
+        long durationNanos = Math.max(System.nanoTime() - startedAt, 1);
+        return CatalogImportResponse.builder()
+            .rowsRead(run.rowsRead)
+            .rowsFailed(run.rowsFailed)
+            .productsCreated(run.productsCreated)
+            .variantsCreated(run.variantsCreated)
+            .chunksCommitted(run.chunksCommitted)
+            .durationMillis(durationNanos / 1_000_000)
+            .rowsPerSecond(run.rowsRead * 1_000_000_000d / durationNanos)
+            .errorsTruncated(run.errorsTruncated)
+            .errors(run.errors)
+            .build();
+    }
+
+    private CatalogRowReader openReader(InputStream input, CatalogFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        return format == CatalogFormat.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader, objectMapper);
+    }
+
+    private CategoryLookup loadCategories() {
+        CategoryLookup lookup = new CategoryLookup();
+        for (Category category : categoryRepository.findAll()) {
+            lookup.ids.add(category.getId());
+            lookup.idsByName.put(category.getName().toLowerCase(Locale.ROOT), category.getId());
+        }
+        return lookup;
+    }
+
+    private String violations(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private static String normalizeSku(String sku) {
+        return sku.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class CategoryLookup {
+
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<String, Long> idsByName = new HashMap<>();
+
+        private Long resolve(CatalogImportRow row) {
+            if (row.getCategoryId() != null) {
+                if (!ids.contains(row.getCategoryId())) {
+                    throw new IllegalArgumentException("Category not found with id: " + row.getCategoryId());
+                }
+                return row.getCategoryId();
+            }
+            if (row.getCategoryName() != null && !row.getCategoryName().isBlank()) {
+                Long id = idsByName.get(row.getCategoryName().trim().toLowerCase(Locale.ROOT));
+                if (id == null) {
+                    throw new IllegalArgumentException("Category not found with name: " + row.getCategoryName());
+                }
+                return id;
+            }
+            throw new IllegalArgumentException("categoryId or categoryName is required");
+        }
+    }
+
+    private static class PendingProduct {
+
+        private final int line;
+        private final String productKey;
+        private final ProductCreateRequest request;
+        private final String rejection;
+        private final List<PendingVariant> variants = new ArrayList<>();
+
+        private PendingProduct(int line, String productKey, ProductCreateRequest request, String rejection) {
+            this.line = line;
+            this.productKey = productKey;
+            this.request = request;
+            this.rejection = rejection;
+        }
+
+        private boolean continuedBy(CatalogImportRow row) {
+            return productKey != null && productKey.equals(blankToNull(row.getProductKey()));
+        }
+    }
+
+    private record PendingVariant(int line, ProductVariantCreateRequest request) {
+    }
+
+    private class ImportRun {
+
+        private final CategoryLookup categories;
+        private final int chunkSize = catalogProperties.getBulkImport().getChunkSize();
+        private final int maxReportedErrors = catalogProperties.getBulkImport().getMaxReportedErrors();
+        private final List<PendingProduct> chunk = new ArrayList<>();
+        private final List<CatalogImportError> errors = new ArrayList<>();
+        private int chunkRows;
+        private long rowsRead;
+        private long rowsFailed;
+        private long productsCreated;
+        private long variantsCreated;
+        private int chunksCommitted;
+        private boolean errorsTruncated;
+
+        private ImportRun(CategoryLookup categories) {
+            this.categories = categories;
+        }
+
+        private PendingProduct startGroup(int line, CatalogImportRow row) {
+            String productKey = blankToNull(row.getProductKey());
+            ProductCreateRequest request = new ProductCreateRequest();
+            String rejection = null;
+            try {
+                request.setName(trim(row.getName()));
+                request.setDescription(row.getDescription());
+                request.setBrand(trim(row.getBrand()));
+                request.setPrice(row.getPrice());
+                request.setCurrency(trim(row.getCurrency()));
+                request.setStatus(parseStatus(row.getStatus()));
+                request.setCategoryId(categories.resolve(row));
+
+                Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    rejection = violations(violations);
+                }
+            } catch (IllegalArgumentException ex) {
+                rejection = ex.getMessage();
+            }
+
+            PendingProduct group = new PendingProduct(line, productKey, request, rejection);
+            if (rejection != null) {
+                fail(line, productKey, row.getSku(), rejection);
+            } else {
+                addVariant(group, line, row);
+            }
+            return group;
+        }
+
+        private void addVariantRow(PendingProduct group, int line, CatalogImportRow row) {
+            if (group.rejection != null) {
+                fail(line, group.productKey, row.getSku(), "Product row at line " + group.line + " was rejected");
+                return;
+            }
+            addVariant(group, line, row);
+        }
+
+        private void addVariant(PendingProduct group, int line, CatalogImportRow row) {
+            chunkRows++;
+            if (row.getSku() == null || row.getSku().isBlank()) {
+                return;
+            }
+
+            ProductVariantCreateRequest request = new ProductVariantCreateRequest();
+            request.setSku(row.getSku().trim());
+            request.setColor(row.getColor());
+            request.setSize(row.getSize());
+            request.setAdditionalPrice(row.getAdditionalPrice());
+
+            Set<ConstraintViolation<ProductVariantCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                fail(line, group.productKey, row.getSku(), violations(violations));
+                return;
+            }
+            group.variants.add(new PendingVariant(line, request));
+        }
+
+        private void complete(PendingProduct group) {
+            if (group == null || group.rejection != null) {
+                return;
+            }
+            chunk.add(group);
+            if (chunkRows >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            Set<String> chunkSkus = new HashSet<>();
+            for (PendingProduct group : chunk) {
+                for (PendingVariant variant : group.variants) {
+                    chunkSkus.add(normalizeSku(variant.request().getSku()));
+                }
+            }
+            Set<String> existingSkus = chunkSkus.isEmpty()
+                ? Set.of()
+                : new HashSet<>(productVariantRepository.findExistingSkusIgnoreCase(chunkSkus));
+
+            Instant now = Instant.now();
+            List<Product> products = new ArrayList<>(chunk.size());
+            List<ProductVariant> variants = new ArrayList<>();
+            Set<Integer> rejectedLines = new HashSet<>();
+            Set<String> seenSkus = new HashSet<>();
+
+            for (PendingProduct group : chunk) {
+                ProductCreateRequest request = group.request;
+                Product product = Product.builder()
+                    .name(request.getName())
+                    .description(request.getDescription())
+                    .brand(request.getBrand())
+                    .category(Category.builder().id(request.getCategoryId()).build())
+                    .price(request.getPrice())
+                    .minEffectivePrice(request.getPrice())
+                    .maxEffectivePrice(request.getPrice())
+                    .currency(request.getCurrency())
+                    .status(request.getStatus())
+                    .build();
+                products.add(product);
+
+                BigDecimal minAdditionalPrice = null;
+                BigDecimal maxAdditionalPrice = null;
+                for (PendingVariant pending : group.variants) {
+                    String sku = pending.request().getSku();
+                    String normalized = normalizeSku(sku);
+                    if (existingSkus.contains(normalized) || !seenSkus.add(normalized)) {
+                        fail(pending.line(), group.productKey, sku, "Variant with SKU '" + sku + "' already exists");
+                        rejectedLines.add(pending.line());
+                        continue;
+                    }
+                    BigDecimal additionalPrice = pending.request().getAdditionalPrice() == null
+                        ? BigDecimal.ZERO
+                        : pending.request().getAdditionalPrice();
+                    variants.add(ProductVariant.builder()
+                        .product(product)
+                        .sku(sku)
+                        .color(pending.request().getColor())
+                        .size(pending.request().getSize())
+                        .additionalPrice(additionalPrice)
+                        .build());
+                    minAdditionalPrice = minAdditionalPrice == null
+                        ? additionalPrice
+                        : minAdditionalPrice.min(additionalPrice);
+                    maxAdditionalPrice = maxAdditionalPrice == null
+                        ? additionalPrice
+                        : maxAdditionalPrice.max(additionalPrice);
+                }
+                if (minAdditionalPrice != null) {
+                    product.setMinEffectivePrice(request.getPrice().add(minAdditionalPrice));
+                    product.setMaxEffectivePrice(request.getPrice().add(maxAdditionalPrice));
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    catalogJdbcRepository.insertProducts(products, now);
+                    catalogJdbcRepository.insertVariants(variants, now);
+                    eventPublisher.publishEvent(new ProductsChangedEvent(
+                        ProductChangeType.CREATED,
+                        products.stream().map(Product::getId).toList()
+                    ));
+                });
+                productsCreated += products.size();
+                variantsCreated += variants.size();
+                chunksCommitted++;
+            } catch (DataAccessException ex) {
+                String message = "Chunk rolled back: " + ex.getMostSpecificCause().getMessage();
+                for (PendingProduct group : chunk) {
+                    if (!rejectedLines.contains(group.line)) {
+                        fail(group.line, group.productKey, null, message);
+                    }
+                    for (PendingVariant variant : group.variants) {
+                        if (variant.line() != group.line && !rejectedLines.contains(variant.line())) {
+                            fail(variant.line(), group.productKey, variant.request().getSku(), message);
+                        }
+                    }
+                }
+            }
+
+            chunk.clear();
+            chunkRows = 0;
+        }
+
+        private void fail(int line, String productKey, String sku, String message) {
+            rowsFailed++;
+            if (errors.size() >= maxReportedErrors) {
+                errorsTruncated = true;
+                return;
+            }
+            errors.add(CatalogImportError.builder()
+                .line(line)
+                .productKey(productKey)
+                .sku(sku)
+                .message(message)
+                .build());
+        }
+    }
+
+    private static ProductStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ProductStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,18 +1,36 @@
 package com.qeetmart.product.service.impl;
 
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.request.BulkOperationType;
 import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.CategoryReassignRequest;
 import com.qeetmart.product.dto.request.CategoryUpdateRequest;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.CategoryReassignResponse;
 import com.qeetmart.product.dto.response.CategoryResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.Category;
+import com.qeetmart.product.event.CategoriesChangedEvent;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.exception.BadRequestException;
 import com.qeetmart.product.exception.ConflictException;
 import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.mapper.ProductMapper;
 import com.qeetmart.product.repository.CategoryRepository;
+import com.qeetmart.product.repository.ProductBulkRepository;
 import com.qeetmart.product.repository.ProductRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository;
+import com.qeetmart.product.repository.ProductVariantRepository;
 import com.qeetmart.product.service.CategoryService;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +38,13 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final ProductScheduleRepository productScheduleRepository;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogProperties catalogProperties;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -33,19 +58,34 @@ public class CategoryServiceImpl implements CategoryService {
             .description(request.getDescription())
             .build();
 
-        return toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(CategoriesChangedEvent.of(saved.getId()));
+        return productMapper.toCategoryResponse(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CategoryResponse> getCategories() {
-        return categoryRepository.findAll().stream().map(this::toResponse).toList();
+        return categoryRepository.findAll().stream().map(productMapper::toCategoryResponse).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getCategoriesVersion() {
+        return categoryRepository.findVersion();
     }
 
     @Override
     @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long categoryId) {
-        return toResponse(getCategoryEntity(categoryId));
+        return productMapper.toCategoryResponse(getCategoryEntity(categoryId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Instant getCategoryLastModified(Long categoryId) {
+        return categoryRepository.findUpdatedAtById(categoryId)
+            .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
     }
 
     @Override
@@ -60,31 +100,100 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(request.getName().trim());
         category.setDescription(request.getDescription());
 
-        return toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(CategoriesChangedEvent.of(categoryId));
+        return productMapper.toCategoryResponse(saved);
     }
 
     @Override
     @Transactional
     public void deleteCategory(Long categoryId) {
-        Category category = getCategoryEntity(categoryId);
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with id: " + categoryId);
+        }
+        deleteEmptyCategory(categoryId);
+        eventPublisher.publishEvent(CategoriesChangedEvent.of(categoryId));
+    }
+
+    /**
+     * Moves live products in keyset chunks, each committed in its own transaction with one change event, so no
+     * transaction holds row locks on the whole category and the change log, outbox and read model refresh that
+     * follow each commit only ever handle one chunk. Soft-deleted products, which nothing downstream tracks, then
+     * move in one set-based statement in the final transaction, together with deleting the source if requested.
+     */
+    @Override
+    public CategoryReassignResponse reassignProducts(Long categoryId, CategoryReassignRequest request) {
+        Long targetCategoryId = request.getTargetCategoryId();
+        if (categoryId.equals(targetCategoryId)) {
+            throw new BadRequestException("Target category must differ from the source category");
+        }
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with id: " + categoryId);
+        }
+        if (!categoryRepository.existsById(targetCategoryId)) {
+            throw new ResourceNotFoundException("Category not found with id: " + targetCategoryId);
+        }
+
+        BulkOperationRequest move = new BulkOperationRequest();
+        move.setOperation(BulkOperationType.MOVE_CATEGORY);
+        move.setFilter(ProductFilter.builder().categoryId(categoryId).build());
+        move.setTargetCategoryId(targetCategoryId);
+        int chunkSize = catalogProperties.getBulkOperations().getChunkSize();
+        Instant now = Instant.now();
+
+        int moved = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            int[] updated = new int[1];
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> chunk = productBulkRepository.findIdsAfter(move.getFilter(), afterId, chunkSize);
+                if (!chunk.isEmpty()) {
+                    updated[0] = productBulkRepository.apply(move, chunk, now);
+                    eventPublisher.publishEvent(new ProductsChangedEvent(ProductChangeType.UPDATED, chunk));
+                }
+                return chunk;
+            });
+            moved += updated[0];
+            if (ids == null || ids.size() < chunkSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        Integer movedDeleted = transactionTemplate.execute(status -> {
+            int count = productRepository.reassignSoftDeleted(categoryId, getCategoryEntity(targetCategoryId), now);
+            if (request.isDeleteSource()) {
+                deleteEmptyCategory(categoryId);
+            }
+            eventPublisher.publishEvent(new CategoriesChangedEvent(List.of(categoryId, targetCategoryId)));
+            return count;
+        });
+
+        return CategoryReassignResponse.builder()
+            .sourceCategoryId(categoryId)
+            .targetCategoryId(targetCategoryId)
+            .productsMoved(moved + (movedDeleted == null ? 0 : movedDeleted))
+            .sourceDeleted(request.isDeleteSource())
+            .build();
+    }
+
+    /**
+     * Deletes a category with set-based statements instead of cascading through {@code Category.products}, which
+     * would load every product, soft-deleted ones included, and remove them one by one.
+     */
+    private void deleteEmptyCategory(Long categoryId) {
         if (productRepository.existsByCategoryIdAndIsDeletedFalse(categoryId)) {
             throw new ConflictException("Category cannot be deleted because active products are linked to it");
         }
-        categoryRepository.delete(category);
+        productVariantRepository.deleteBySoftDeletedProductsInCategory(categoryId);
+        productScheduleRepository.deleteBySoftDeletedProductsInCategory(categoryId);
+        productRepository.deleteSoftDeletedByCategoryId(categoryId);
+        categoryRepository.deleteCategoryById(categoryId);
     }
 
     private Category getCategoryEntity(Long categoryId) {
         return categoryRepository.findById(categoryId)
             .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
     }
-
-    private CategoryResponse toResponse(Category category) {
-        return CategoryResponse.builder()
-            .id(category.getId())
-            .name(category.getName())
-            .description(category.getDescription())
-            .createdAt(category.getCreatedAt())
-            .updatedAt(category.getUpdatedAt())
-            .build();
-    }
 }
@@ -0,0 +1,162 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.config.InventoryProperties;
+import com.qeetmart.product.dto.response.AvailabilitySource;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductAvailabilityResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.inventory.InventoryClient;
+import com.qeetmart.product.inventory.StockLevel;
+import com.qeetmart.product.inventory.StockLevelCache;
+import com.qeetmart.product.service.ProductAvailabilityService;
+import com.qeetmart.product.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Combines catalog data with stock levels from inventory-service. Products are read first and stock is only looked
+ * up for the ones that exist and are {@link ProductStatus#ACTIVE}, since every other status is answered from the
+ * catalog alone; the lookups of a batch then run in parallel. Every answer is bounded by
+ * {@code app.inventory.timeout}, counted from the start of the request: a product whose stock is not known by then is
+ * reported {@link ProductStatus#OUT_OF_STOCK} rather than delaying the page. Lookups that finish late still refresh
+ * the stock cache for the next request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductAvailabilityServiceImpl implements ProductAvailabilityService {
+
+    private final ProductService productService;
+    private final InventoryClient inventoryClient;
+    private final StockLevelCache stockLevelCache;
+    private final InventoryProperties inventoryProperties;
+    private final CatalogProperties catalogProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ProductAvailabilityResponse getAvailability(Long productId) {
+        long deadline = deadline();
+        ProductResponse product = productService.getProductById(productId);
+        if (product.getStatus() != ProductStatus.ACTIVE) {
+            return catalogAvailability(product);
+        }
+        return resolve(product, lookUp(productId), deadline);
+    }
+
+    @Override
+    public BatchResponse<ProductAvailabilityResponse, Long> getAvailability(List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        int maxSize = catalogProperties.getBatch().getMaxSize();
+        if (ids.isEmpty() || ids.size() > maxSize) {
+            throw new BadRequestException("Batch size must be between 1 and " + maxSize);
+        }
+
+        long deadline = deadline();
+        BatchResponse<ProductResponse, Long> products = productService.getProductsByIds(ids);
+        Map<Long, StockLookup> lookups = new HashMap<>();
+        for (ProductResponse product : products.getContent()) {
+            if (product.getStatus() == ProductStatus.ACTIVE) {
+                lookups.put(product.getId(), lookUp(product.getId()));
+            }
+        }
+
+        return BatchResponse.<ProductAvailabilityResponse, Long>builder()
+            .content(products.getContent().stream()
+                .map(product -> product.getStatus() == ProductStatus.ACTIVE
+                    ? resolve(product, lookups.get(product.getId()), deadline)
+                    : catalogAvailability(product))
+                .toList())
+            .missing(products.getMissing())
+            .build();
+    }
+
+    private long deadline() {
+        return System.nanoTime() + inventoryProperties.getTimeout().toNanos();
+    }
+
+    private StockLookup lookUp(Long productId) {
+        Optional<StockLevel> cached = stockLevelCache.get(productId);
+        if (cached.isPresent()) {
+            count("cached");
+            return new StockLookup(CompletableFuture.completedFuture(cached.get()), true);
+        }
+        CompletableFuture<StockLevel> stock = inventoryClient.fetchStock(productId);
+        stock.thenAccept(level -> stockLevelCache.put(productId, level));
+        return new StockLookup(stock, false);
+    }
+
+    private ProductAvailabilityResponse catalogAvailability(ProductResponse product) {
+        return availability(product, product.getStatus(), null, AvailabilitySource.CATALOG);
+    }
+
+    private ProductAvailabilityResponse resolve(ProductResponse product, StockLookup lookup, long deadline) {
+        StockLevel stock;
+        try {
+            stock = lookup.stock().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            count("timeout");
+            return fallback(product);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                count("rejected");
+            } else {
+                count("error");
+                log.warn("Stock lookup for product {} failed: {}", product.getId(), ex.getCause().toString());
+            }
+            return fallback(product);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return fallback(product);
+        }
+
+        if (!lookup.cached()) {
+            count("success");
+        }
+        return availability(
+            product,
+            stock.inStock() ? ProductStatus.ACTIVE : ProductStatus.OUT_OF_STOCK,
+            stock.availableQuantity(),
+            lookup.cached() ? AvailabilitySource.CACHE : AvailabilitySource.INVENTORY
+        );
+    }
+
+    private ProductAvailabilityResponse fallback(ProductResponse product) {
+        return availability(product, ProductStatus.OUT_OF_STOCK, null, AvailabilitySource.FALLBACK);
+    }
+
+    private ProductAvailabilityResponse availability(
+        ProductResponse product,
+        ProductStatus status,
+        Integer availableQuantity,
+        AvailabilitySource source
+    ) {
+        return ProductAvailabilityResponse.builder()
+            .productId(product.getId())
+            .status(status)
+            .availableQuantity(availableQuantity)
+            .source(source)
+            .build();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("catalog.availability.inventory.lookups", "outcome", outcome).increment();
+    }
+
+    private record StockLookup(CompletableFuture<StockLevel> stock, boolean cached) {
+    }
+}
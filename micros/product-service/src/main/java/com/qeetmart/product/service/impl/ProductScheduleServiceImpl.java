@@ -0,0 +1,82 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.dto.request.ProductScheduleRequest;
+import com.qeetmart.product.dto.response.ProductScheduleResponse;
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.exception.ConflictException;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.repository.ProductRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository.ScheduleRow;
+import com.qeetmart.product.schedule.ProductScheduler;
+import com.qeetmart.product.service.ProductScheduleService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ProductScheduleServiceImpl implements ProductScheduleService {
+
+    private final ProductScheduleRepository productScheduleRepository;
+    private final ProductRepository productRepository;
+    private final ProductScheduler productScheduler;
+
+    @Override
+    public ProductScheduleResponse createSchedule(Long productId, ProductScheduleRequest request) {
+        if (request.getTargetStatus() == null && request.getTargetPrice() == null) {
+            throw new BadRequestException("A schedule requires targetStatus, targetPrice or both");
+        }
+        if (productRepository.findByIdAndIsDeletedFalse(productId).isEmpty()) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+
+        ScheduleRow schedule = productScheduleRepository.insert(
+            productId,
+            request.getTargetStatus(),
+            request.getTargetPrice(),
+            request.getApplyAt(),
+            Instant.now()
+        );
+        productScheduler.offer(schedule.id(), schedule.applyAt());
+        return toResponse(schedule);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductScheduleResponse> getSchedules(Long productId) {
+        if (productRepository.findByIdAndIsDeletedFalse(productId).isEmpty()) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        return productScheduleRepository.findByProductId(productId).stream().map(this::toResponse).toList();
+    }
+
+    @Override
+    @Transactional
+    public void cancelSchedule(Long productId, Long scheduleId) {
+        ScheduleRow schedule = productScheduleRepository.findById(productId, scheduleId)
+            .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + scheduleId));
+        boolean cancelled = schedule.state() == ProductScheduleState.PENDING
+            && productScheduleRepository.finish(Set.of(scheduleId), ProductScheduleState.CANCELLED, Instant.now()) > 0;
+        if (!cancelled) {
+            throw new ConflictException("Schedule " + scheduleId + " is no longer pending");
+        }
+    }
+
+    private ProductScheduleResponse toResponse(ScheduleRow schedule) {
+        return ProductScheduleResponse.builder()
+            .id(schedule.id())
+            .productId(schedule.productId())
+            .targetStatus(schedule.targetStatus())
+            .targetPrice(schedule.targetPrice())
+            .applyAt(schedule.applyAt())
+            .state(schedule.state())
+            .createdAt(schedule.createdAt())
+            .finishedAt(schedule.finishedAt())
+            .build();
+    }
+}
@@ -1,21 +1,51 @@
 package com.qeetmart.product.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qeetmart.product.config.CatalogProperties;
 import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductField;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.request.ProductFilter;
 import com.qeetmart.product.dto.request.ProductUpdateRequest;
+import com.qeetmart.product.dto.response.BatchResponse;
 import com.qeetmart.product.dto.response.PagedResponse;
 import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.Category;
 import com.qeetmart.product.entity.Product;
-import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
 import com.qeetmart.product.exception.BadRequestException;
 import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.mapper.ProductMapper;
+import com.qeetmart.product.readmodel.CatalogReadModel;
+import com.qeetmart.product.readmodel.ReadModelPage;
 import com.qeetmart.product.repository.CategoryRepository;
+import com.qeetmart.product.repository.ProductFacetRepository;
+import com.qeetmart.product.repository.ProductListingRepository;
 import com.qeetmart.product.repository.ProductRepository;
+import com.qeetmart.product.repository.ProductViewCountRepository;
 import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.specification.ProductFacet;
 import com.qeetmart.product.specification.ProductSpecification;
+import com.qeetmart.product.web.JsonMergePatch;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +54,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    private static final String POPULARITY = "popularity";
+    private static final String PRICE = "price";
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductFacetRepository productFacetRepository;
+    private final ProductListingRepository productListingRepository;
+    private final ProductViewCountRepository productViewCountRepository;
+    private final ProductMapper productMapper;
+    private final CatalogReadModel catalogReadModel;
+    private final CatalogProperties catalogProperties;
+    private final JsonMergePatch jsonMergePatch;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -38,45 +79,139 @@ public class ProductServiceImpl implements ProductService {
             .brand(request.getBrand().trim())
             .category(category)
             .price(request.getPrice())
+            .minEffectivePrice(request.getPrice())
+            .maxEffectivePrice(request.getPrice())
             .currency(request.getCurrency().trim())
             .status(request.getStatus())
             .build();
 
-        return toResponse(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.CREATED, saved.getId()));
+        return productMapper.toProductResponse(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PagedResponse<ProductResponse> getProducts(Long categoryId, String brand, ProductStatus status, Pageable pageable) {
-        Specification<Product> spec = Specification.where(ProductSpecification.isNotDeleted())
-            .and(ProductSpecification.hasCategoryId(categoryId))
-            .and(ProductSpecification.hasBrand(brand))
-            .and(ProductSpecification.hasStatus(status));
+    public PagedResponse<ProductResponse> getProducts(ProductFilter filter, Set<ProductFacet> facets, Pageable pageable) {
+        PagedResponse<ProductResponse> response = findPopularPage(filter, pageable)
+            .or(() -> catalogReadModel.findPage(filter, pageable))
+            .map(page -> toPagedResponse(page, pageable))
+            .orElseGet(() -> PagedResponse.fromPage(findListingPage(filter, byEffectivePrice(pageable))
+                .map(productMapper::toProductResponse)
+            ));
+
+        return withFacets(response, filter, facets);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> getProductFields(
+        ProductFilter filter,
+        Set<ProductFacet> facets,
+        List<ProductField> fields,
+        Pageable pageable
+    ) {
+        PagedResponse<Map<String, Object>> response = findPopularPage(filter, pageable)
+            .or(() -> catalogReadModel.findPage(filter, pageable))
+            .map(page -> toPagedFields(page, fields, pageable))
+            .orElseGet(() -> PagedResponse.fromPage(productRepository.findProjected(
+                ProductSpecification.matches(filter),
+                fields,
+                byEffectivePrice(pageable)
+            )));
+        return withFacets(response, filter, facets);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getProductsAfter(ProductFilter filter, long afterId, int limit) {
+        return productRepository.findBy(
+                ProductSpecification.matches(filter).and(ProductSpecification.hasIdAfter(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(limit).all()
+            ).stream()
+            .map(productMapper::toProductResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getProductsVersion(ProductFilter filter, Set<ProductFacet> facets, Sort sort) {
+        ResourceVersion version = catalogReadModel.findVersion(filter)
+            .orElseGet(() -> productListingRepository.findVersion(filter));
+        if (sort.getOrderFor(POPULARITY) != null) {
+            Instant viewsUpdatedAt = productViewCountRepository.findLastUpdatedAt().orElse(null);
+            if (viewsUpdatedAt != null
+                && (version.getLastModified() == null || viewsUpdatedAt.isAfter(version.getLastModified()))) {
+                version = new ResourceVersion(viewsUpdatedAt, version.getCount());
+            }
+        }
+        boolean variantDependent = filter.hasPriceRange()
+            || sort.getOrderFor(PRICE) != null
+            || (facets != null && facets.stream().anyMatch(ProductFacet::isVariantFacet));
+        if (!variantDependent) {
+            return version;
+        }
 
-        return PagedResponse.fromPage(productRepository.findAll(spec, pageable).map(this::toResponse));
+        ResourceVersion variantVersion = productRepository.findVariantVersion(ProductSpecification.matches(filter));
+        Instant lastModified = version.getLastModified();
+        if (lastModified == null
+            || (variantVersion.getLastModified() != null && variantVersion.getLastModified().isAfter(lastModified))) {
+            lastModified = variantVersion.getLastModified();
+        }
+        return new ResourceVersion(lastModified, version.getCount() + variantVersion.getCount());
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductById(Long productId) {
-        return toResponse(getProductEntity(productId));
+        return productMapper.toProductResponse(getProductEntity(productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductResponse getProductDetail(Long productId, Set<ProductInclude> includes) {
+        return productRepository.findDetailById(productId, includes)
+            .map(product -> productMapper.toProductDetail(product, includes))
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Instant getProductLastModified(Long productId) {
+        return productRepository.findUpdatedAtById(productId)
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<ProductResponse, Long> getProductsByIds(List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        validateBatchSize(ids.size());
+
+        Map<Long, Product> found = productRepository.findAllWithVariantsByIdIn(ids).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return BatchResponse.<ProductResponse, Long>builder()
+            .content(ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toProductResponseWithVariants)
+                .toList())
+            .missing(ids.stream().filter(id -> !found.containsKey(id)).toList())
+            .build();
     }
 
     @Override
     @Transactional
     public ProductResponse updateProduct(Long productId, ProductUpdateRequest request) {
-        Product product = getProductEntity(productId);
-        Category category = getCategoryEntity(request.getCategoryId());
-
-        product.setName(request.getName().trim());
-        product.setDescription(request.getDescription());
-        product.setBrand(request.getBrand().trim());
-        product.setCategory(category);
-        product.setPrice(request.getPrice());
-        product.setCurrency(request.getCurrency().trim());
-        product.setStatus(request.getStatus());
+        return applyUpdate(getProductEntity(productId), request);
+    }
 
-        return toResponse(productRepository.save(product));
+    @Override
+    @Transactional
+    public ProductResponse patchProduct(Long productId, JsonNode patch) {
+        Product product = getProductEntity(productId);
+        return applyUpdate(product, jsonMergePatch.apply(patch, productMapper.toUpdateRequest(product)));
     }
 
     @Override
@@ -85,6 +220,7 @@ public class ProductServiceImpl implements ProductService {
         Product product = getProductEntity(productId);
         product.setDeleted(true);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.DELETED, productId));
     }
 
     @Override
@@ -97,7 +233,130 @@ public class ProductServiceImpl implements ProductService {
         Specification<Product> spec = Specification.where(ProductSpecification.isNotDeleted())
             .and(ProductSpecification.searchByNameOrBrand(query.trim()));
 
-        return productRepository.findAll(spec).stream().map(this::toResponse).toList();
+        return productRepository.findAll(spec).stream().map(productMapper::toProductResponse).toList();
+    }
+
+    /**
+     * Serves {@code sort=popularity} from the persisted view counts. The order is resolved to ids first and the
+     * products loaded afterwards, the same way read-model pages are, since the counts are not mapped on the entity.
+     */
+    private Optional<ReadModelPage> findPopularPage(ProductFilter filter, Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor(POPULARITY);
+        if (order == null) {
+            return Optional.empty();
+        }
+        if (pageable.getSort().toList().size() > 1) {
+            throw new BadRequestException("sort=popularity cannot be combined with other sort properties");
+        }
+
+        Page<Long> page = productViewCountRepository.findIdsByPopularity(filter, order.getDirection(), pageable);
+        return Optional.of(new ReadModelPage(page.getContent(), page.getTotalElements()));
+    }
+
+    private Page<Product> findListingPage(ProductFilter filter, Pageable pageable) {
+        return productListingRepository.findPage(filter, pageable)
+            .orElseGet(() -> productRepository.findAll(ProductSpecification.matches(filter), pageable));
+    }
+
+    /**
+     * Maps {@code sort=price} onto the denormalized cheapest variant price, so listings order by what a product
+     * can actually be bought for rather than its base price.
+     */
+    private Pageable byEffectivePrice(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor(PRICE) == null) {
+            return pageable;
+        }
+        Sort mapped = Sort.by(sort.stream()
+            .map(order -> order.getProperty().equals(PRICE) ? order.withProperty("minEffectivePrice") : order)
+            .toList());
+        return pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), mapped)
+            : Pageable.unpaged(mapped);
+    }
+
+    private PagedResponse<ProductResponse> toPagedResponse(ReadModelPage page, Pageable pageable) {
+        Map<Long, Product> found = productRepository.findAllById(page.getIds()).stream()
+            .filter(product -> !product.isDeleted())
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductResponse> content = page.getIds().stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .map(productMapper::toProductResponse)
+            .toList();
+        return PagedResponse.fromPage(new PageImpl<>(content, pageable, page.getTotal()));
+    }
+
+    private PagedResponse<Map<String, Object>> toPagedFields(
+        ReadModelPage page,
+        List<ProductField> fields,
+        Pageable pageable
+    ) {
+        Map<Object, Map<String, Object>> found = productRepository.findProjectedByIds(page.getIds(), fields).stream()
+            .collect(Collectors.toMap(row -> row.get(ProductField.ID.getKey()), Function.identity()));
+
+        List<Map<String, Object>> content = page.getIds().stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return PagedResponse.fromPage(new PageImpl<>(content, pageable, page.getTotal()));
+    }
+
+    private <T> PagedResponse<T> withFacets(PagedResponse<T> response, ProductFilter filter, Set<ProductFacet> facets) {
+        if (facets != null && !facets.isEmpty()) {
+            List<BigDecimal> priceBuckets = catalogProperties.getFacets().getPriceBuckets();
+            response.setFacets(catalogReadModel.countFacets(filter, facets, priceBuckets)
+                .orElseGet(() -> productFacetRepository.countFacets(filter, facets, priceBuckets)));
+        }
+        return response;
+    }
+
+    private void validateBatchSize(int size) {
+        int maxSize = catalogProperties.getBatch().getMaxSize();
+        if (size == 0 || size > maxSize) {
+            throw new BadRequestException("Batch size must be between 1 and " + maxSize);
+        }
+    }
+
+    /**
+     * Writes only the fields that differ, so the dynamic UPDATE names just those columns and a request that changes
+     * nothing writes nothing and publishes no change. The category is only looked up when it changes, and the
+     * effective prices are only recomputed when the price does.
+     */
+    private ProductResponse applyUpdate(Product product, ProductUpdateRequest request) {
+        boolean changed = false;
+        if (!product.getCategory().getId().equals(request.getCategoryId())) {
+            product.setCategory(getCategoryEntity(request.getCategoryId()));
+            changed = true;
+        }
+        changed |= change(product.getName(), request.getName().trim(), product::setName);
+        changed |= change(product.getDescription(), request.getDescription(), product::setDescription);
+        changed |= change(product.getBrand(), request.getBrand().trim(), product::setBrand);
+        changed |= change(product.getCurrency(), request.getCurrency().trim(), product::setCurrency);
+        changed |= change(product.getStatus(), request.getStatus(), product::setStatus);
+        boolean repriced = product.getPrice().compareTo(request.getPrice()) != 0;
+        if (repriced) {
+            product.setPrice(request.getPrice());
+        }
+        if (!changed && !repriced) {
+            return productMapper.toProductResponse(product);
+        }
+
+        Product saved = productRepository.save(product);
+        if (repriced) {
+            productRepository.refreshEffectivePrices(List.of(product.getId()));
+        }
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, product.getId()));
+        return productMapper.toProductResponse(saved);
+    }
+
+    private static <T> boolean change(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
     }
 
     private Product getProductEntity(Long productId) {
@@ -109,20 +368,4 @@ public class ProductServiceImpl implements ProductService {
         return categoryRepository.findById(categoryId)
             .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
     }
-
-    private ProductResponse toResponse(Product product) {
-        return ProductResponse.builder()
-            .id(product.getId())
-            .name(product.getName())
-            .description(product.getDescription())
-            .brand(product.getBrand())
-            .categoryId(product.getCategory().getId())
-            .price(product.getPrice())
-            .currency(product.getCurrency())
-            .status(product.getStatus())
-            .createdAt(product.getCreatedAt())
-            .updatedAt(product.getUpdatedAt())
-            .deleted(product.isDeleted())
-            .build();
-    }
 }
@@ -1,19 +1,38 @@
 package com.qeetmart.product.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.qeetmart.product.config.CatalogProperties;
 import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
 import com.qeetmart.product.dto.request.ProductVariantUpdateRequest;
+import com.qeetmart.product.dto.response.BatchResponse;
 import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.dto.response.ResourceVersion;
 import com.qeetmart.product.entity.Product;
 import com.qeetmart.product.entity.ProductVariant;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.exception.BadRequestException;
 import com.qeetmart.product.exception.ConflictException;
 import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.mapper.ProductMapper;
+import com.qeetmart.product.readmodel.SkuIndex;
 import com.qeetmart.product.repository.ProductRepository;
 import com.qeetmart.product.repository.ProductVariantRepository;
 import com.qeetmart.product.service.ProductVariantService;
+import com.qeetmart.product.web.JsonMergePatch;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,6 +41,11 @@ public class ProductVariantServiceImpl implements ProductVariantService {
 
     private final ProductVariantRepository productVariantRepository;
     private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final SkuIndex skuIndex;
+    private final CatalogProperties catalogProperties;
+    private final JsonMergePatch jsonMergePatch;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -37,40 +61,155 @@ public class ProductVariantServiceImpl implements ProductVariantService {
             .additionalPrice(safeAdditionalPrice(request.getAdditionalPrice()))
             .build();
 
-        return toResponse(productVariantRepository.save(variant));
+        ProductVariant saved = productVariantRepository.save(variant);
+        productRepository.refreshEffectivePrices(List.of(productId));
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, productId));
+        return productMapper.toVariantResponse(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductVariantResponse> getVariants(Long productId) {
         getProductEntity(productId);
-        return productVariantRepository.findAllByProductId(productId).stream().map(this::toResponse).toList();
+        return productVariantRepository.findAllByProductId(productId).stream().map(productMapper::toVariantResponse).toList();
     }
 
     @Override
-    @Transactional
-    public ProductVariantResponse updateVariant(Long productId, Long variantId, ProductVariantUpdateRequest request) {
-        getProductEntity(productId);
-        ProductVariant variant = productVariantRepository.findByIdAndProductId(variantId, productId)
-            .orElseThrow(() -> new ResourceNotFoundException("Variant not found with id: " + variantId));
+    @Transactional(readOnly = true)
+    public ResourceVersion getVariantsVersion(Long productId) {
+        return productVariantRepository.findVersionByProductId(productId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BatchResponse<ProductVariantResponse, String> getVariantsBySkus(List<String> skus) {
+        Map<String, String> requested = new LinkedHashMap<>();
+        skus.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(sku -> !sku.isEmpty())
+            .forEach(sku -> requested.putIfAbsent(normalizeSku(sku), sku));
+
+        int maxSize = catalogProperties.getBatch().getMaxSize();
+        if (requested.isEmpty() || requested.size() > maxSize) {
+            throw new BadRequestException("Batch size must be between 1 and " + maxSize);
+        }
+
+        Map<String, ProductVariantResponse> found = findLiveBySkus(requested.keySet());
+
+        return BatchResponse.<ProductVariantResponse, String>builder()
+            .content(requested.keySet().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList())
+            .missing(requested.entrySet().stream()
+                .filter(entry -> !found.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList())
+            .build();
+    }
 
-        validateSkuForUpdate(request.getSku(), variantId);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductVariantResponse getVariantBySku(String sku) {
+        String normalized = normalizeSku(sku.trim());
+        if (normalized.isEmpty()) {
+            throw new BadRequestException("SKU must not be blank");
+        }
+
+        ProductVariantResponse variant = findLiveBySkus(List.of(normalized)).get(normalized);
+        if (variant == null) {
+            throw new ResourceNotFoundException("Variant not found with SKU: " + sku);
+        }
+        return variant;
+    }
 
-        variant.setSku(request.getSku().trim());
-        variant.setColor(request.getColor());
-        variant.setSize(request.getSize());
-        variant.setAdditionalPrice(safeAdditionalPrice(request.getAdditionalPrice()));
+    @Override
+    @Transactional
+    public ProductVariantResponse updateVariant(Long productId, Long variantId, ProductVariantUpdateRequest request) {
+        return applyUpdate(getVariantEntity(productId, variantId), request);
+    }
 
-        return toResponse(productVariantRepository.save(variant));
+    @Override
+    @Transactional
+    public ProductVariantResponse patchVariant(Long productId, Long variantId, JsonNode patch) {
+        ProductVariant variant = getVariantEntity(productId, variantId);
+        return applyUpdate(variant, jsonMergePatch.apply(patch, productMapper.toUpdateRequest(variant)));
     }
 
     @Override
     @Transactional
     public void deleteVariant(Long productId, Long variantId) {
+        ProductVariant variant = getVariantEntity(productId, variantId);
+        productVariantRepository.delete(variant);
+        productRepository.refreshEffectivePrices(List.of(productId));
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, productId));
+    }
+
+    /**
+     * Answers SKUs the in-memory {@link SkuIndex} holds straight from it, so a scanner hit costs no database
+     * round trip; the callers only join a transaction, never start one, so a hit does not check out a connection
+     * either. Only misses, and every SKU while the index is loading or disabled, go to the {@code lower(sku)}
+     * index, in one query.
+     */
+    private Map<String, ProductVariantResponse> findLiveBySkus(Collection<String> normalizedSkus) {
+        Map<String, ProductVariantResponse> found = new HashMap<>();
+        for (String sku : normalizedSkus) {
+            skuIndex.find(sku).ifPresent(variant -> found.put(sku, productMapper.toVariantResponse(variant)));
+        }
+
+        List<String> unresolved = normalizedSkus.stream().filter(sku -> !found.containsKey(sku)).toList();
+        if (!unresolved.isEmpty()) {
+            productVariantRepository.findAllBySkuInIgnoreCase(unresolved).forEach(variant ->
+                found.putIfAbsent(normalizeSku(variant.getSku()), productMapper.toVariantResponse(variant))
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Writes only the fields that differ, like product updates. The SKU uniqueness query only runs when the SKU
+     * changes other than in case, since the variant's own row is the only one that could match otherwise.
+     */
+    private ProductVariantResponse applyUpdate(ProductVariant variant, ProductVariantUpdateRequest request) {
+        String sku = request.getSku().trim();
+        if (!normalizeSku(sku).equals(normalizeSku(variant.getSku()))) {
+            validateSkuForUpdate(sku, variant.getId());
+        }
+
+        boolean changed = change(variant.getSku(), sku, variant::setSku);
+        changed |= change(variant.getColor(), request.getColor(), variant::setColor);
+        changed |= change(variant.getSize(), request.getSize(), variant::setSize);
+        BigDecimal additionalPrice = safeAdditionalPrice(request.getAdditionalPrice());
+        boolean repriced = variant.getAdditionalPrice().compareTo(additionalPrice) != 0;
+        if (repriced) {
+            variant.setAdditionalPrice(additionalPrice);
+        }
+        if (!changed && !repriced) {
+            return productMapper.toVariantResponse(variant);
+        }
+
+        Long productId = variant.getProduct().getId();
+        ProductVariant saved = productVariantRepository.save(variant);
+        if (repriced) {
+            productRepository.refreshEffectivePrices(List.of(productId));
+        }
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, productId));
+        return productMapper.toVariantResponse(saved);
+    }
+
+    private static <T> boolean change(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    private ProductVariant getVariantEntity(Long productId, Long variantId) {
         getProductEntity(productId);
-        ProductVariant variant = productVariantRepository.findByIdAndProductId(variantId, productId)
+        return productVariantRepository.findByIdAndProductId(variantId, productId)
             .orElseThrow(() -> new ResourceNotFoundException("Variant not found with id: " + variantId));
-        productVariantRepository.delete(variant);
     }
 
     private Product getProductEntity(Long productId) {
@@ -90,20 +229,11 @@ public class ProductVariantServiceImpl implements ProductVariantService {
         }
     }
 
-    private BigDecimal safeAdditionalPrice(BigDecimal value) {
-        return value == null ? BigDecimal.ZERO : value;
+    private String normalizeSku(String sku) {
+        return sku.toLowerCase(Locale.ROOT);
     }
 
-    private ProductVariantResponse toResponse(ProductVariant variant) {
-        return ProductVariantResponse.builder()
-            .id(variant.getId())
-            .productId(variant.getProduct().getId())
-            .sku(variant.getSku())
-            .color(variant.getColor())
-            .size(variant.getSize())
-            .additionalPrice(variant.getAdditionalPrice())
-            .createdAt(variant.getCreatedAt())
-            .updatedAt(variant.getUpdatedAt())
-            .build();
+    private BigDecimal safeAdditionalPrice(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
     }
 }
@@ -0,0 +1,62 @@
+package com.qeetmart.product.service.impl;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.response.TrendingProductResponse;
+import com.qeetmart.product.dto.response.TrendingProductsResponse;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.popularity.TrendingProductsTracker;
+import com.qeetmart.product.popularity.TrendingSnapshot;
+import com.qeetmart.product.service.TrendingProductService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingProductServiceImpl implements TrendingProductService {
+
+    private final TrendingProductsTracker trendingProductsTracker;
+    private final CatalogProperties catalogProperties;
+
+    @Override
+    public TrendingProductsResponse getTrending(String window, Integer limit) {
+        CatalogProperties.Trending settings = catalogProperties.getTrending();
+        Duration bucket = settings.getBucketDuration();
+        Duration maxWindow = bucket.multipliedBy(settings.getBuckets());
+        Duration duration = parseWindow(window);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxWindow) > 0) {
+            throw new BadRequestException("Window must be positive and at most " + maxWindow);
+        }
+        int size = limit == null ? settings.getDefaultLimit() : limit;
+        if (size < 1 || size > settings.getHeavyHitters()) {
+            throw new BadRequestException("Limit must be between 1 and " + settings.getHeavyHitters());
+        }
+
+        int bucketCount = (int) ((duration.toMillis() + bucket.toMillis() - 1) / bucket.toMillis());
+        TrendingSnapshot snapshot = trendingProductsTracker.top(bucketCount, size);
+        double epsilon = Math.E / settings.getSketchWidth();
+
+        return TrendingProductsResponse.builder()
+            .from(snapshot.from())
+            .to(snapshot.to())
+            .totalViews(snapshot.events())
+            .maxOvercount((long) Math.ceil(epsilon * snapshot.events()))
+            .confidence(1 - Math.exp(-settings.getSketchDepth()))
+            .products(snapshot.entries().stream()
+                .map(entry -> TrendingProductResponse.builder()
+                    .productId(entry.productId())
+                    .views(entry.count())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    private Duration parseWindow(String window) {
+        try {
+            return DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Window must be a duration such as 15m or PT15M");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.qeetmart.product.specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public enum ProductFacet {
+    BRAND("brand"),
+    CATEGORY("categoryId"),
+    STATUS("status"),
+    COLOR("color"),
+    SIZE("size"),
+    PRICE("price");
+
+    private final String key;
+
+    ProductFacet(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isVariantFacet() {
+        return this == COLOR || this == SIZE;
+    }
+
+    public static String priceBucketLabel(int bucket, List<BigDecimal> boundaries) {
+        String lower = bucket == 0 ? "0" : boundaries.get(bucket - 1).toPlainString();
+        return bucket == boundaries.size() ? lower + "+" : lower + "-" + boundaries.get(bucket).toPlainString();
+    }
+}
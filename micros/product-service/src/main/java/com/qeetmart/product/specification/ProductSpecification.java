@@ -1,7 +1,10 @@
 package com.qeetmart.product.specification;
 
+import com.qeetmart.product.dto.request.ProductFilter;
 import com.qeetmart.product.entity.Product;
 import com.qeetmart.product.entity.ProductStatus;
+import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class ProductSpecification {
@@ -9,10 +12,22 @@ public final class ProductSpecification {
     private ProductSpecification() {
     }
 
+    public static Specification<Product> matches(ProductFilter filter) {
+        return Specification.where(isNotDeleted())
+            .and(hasCategoryId(filter.getCategoryId()))
+            .and(hasBrand(filter.getBrand()))
+            .and(hasStatus(filter.getStatus()))
+            .and(hasPriceInRange(filter.getMinPrice(), filter.getMaxPrice()));
+    }
+
     public static Specification<Product> isNotDeleted() {
         return (root, query, cb) -> cb.isFalse(root.get("isDeleted"));
     }
 
+    public static Specification<Product> hasIdAfter(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
     public static Specification<Product> hasCategoryId(Long categoryId) {
         return (root, query, cb) -> categoryId == null
             ? cb.conjunction()
@@ -31,6 +46,23 @@ public final class ProductSpecification {
             : cb.equal(root.get("status"), status);
     }
 
+    /**
+     * Matches products with at least one purchasable price inside the range, i.e. whose effective price range
+     * overlaps it.
+     */
+    public static Specification<Product> hasPriceInRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, cb) -> {
+            Predicate predicate = cb.conjunction();
+            if (minPrice != null) {
+                predicate = cb.and(predicate, cb.greaterThanOrEqualTo(root.get("maxEffectivePrice"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicate = cb.and(predicate, cb.lessThanOrEqualTo(root.get("minEffectivePrice"), maxPrice));
+            }
+            return predicate;
+        };
+    }
+
     public static Specification<Product> searchByNameOrBrand(String queryText) {
         return (root, query, cb) -> {
             String like = "%" + queryText.toLowerCase() + "%";
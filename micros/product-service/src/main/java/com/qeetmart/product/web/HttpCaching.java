@@ -0,0 +1,105 @@
+package com.qeetmart.product.web;
+
+import com.qeetmart.product.dto.response.ResourceVersion;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+public final class HttpCaching {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpCaching() {
+    }
+
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader("If-None-Match") != null || request.getHeader("If-Modified-Since") != null;
+    }
+
+    public static String strongETag(String resource, Long id, Instant updatedAt) {
+        return "\"" + resource + "-" + id + "-" + micros(updatedAt) + "\"";
+    }
+
+    public static String strongETag(String resource, ResourceVersion version) {
+        return "\"" + resource + "-" + version.getCount() + "-" + micros(version.getLastModified()) + "\"";
+    }
+
+    public static String weakETag(String resource, ResourceVersion version) {
+        return "W/" + strongETag(resource, version);
+    }
+
+    public static String weakETag(String resource, Fingerprint fingerprint) {
+        return "W/\"" + resource + "-" + fingerprint + "\"";
+    }
+
+    /**
+     * Tags a validator with the representation the request negotiates, so a JSON ETag never revalidates a CBOR or
+     * protobuf body of the same resource or the other way round. JSON keeps the plain tag.
+     */
+    public static String negotiated(String eTag, WebRequest request) {
+        MediaType representation = Negotiation.representation(request);
+        if (MediaType.APPLICATION_JSON.equalsTypeAndSubtype(representation)) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "+" + representation.getSubtype() + "\"";
+    }
+
+    public static long lastModified(Instant updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.toEpochMilli();
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, String eTag, Instant lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Writes a body that is already encoded as JSON, bypassing message conversion.
+     */
+    public static ResponseEntity<byte[]> ok(byte[] json, String eTag, Instant lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .cacheControl(REVALIDATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(eTag);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(json);
+    }
+
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public static final class Fingerprint {
+
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private long hash = FNV_OFFSET;
+
+        public Fingerprint add(Long value) {
+            long bits = value == null ? -1 : value;
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                hash ^= (bits >>> shift) & 0xff;
+                hash *= FNV_PRIME;
+            }
+            return this;
+        }
+
+        public Fingerprint add(Instant instant) {
+            return add(micros(instant));
+        }
+
+        @Override
+        public String toString() {
+            return Long.toHexString(hash);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.qeetmart.product.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.qeetmart.product.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies RFC 7396 JSON Merge Patch documents to update requests: a member replaces the field, an explicit
+ * {@code null} removes it and absent members keep the current value. Nested objects merge member by member while
+ * arrays and scalars are replaced whole. Unknown members are rejected rather than ignored, and the merged request is
+ * validated like a full update.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(JsonNode patch, T current) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+
+        T patched;
+        try {
+            JsonNode merged = merge(objectMapper.valueToTree(current), patch);
+            patched = objectMapper.readerFor(current.getClass())
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(merged);
+        } catch (UnrecognizedPropertyException ex) {
+            throw new BadRequestException("Unknown field in merge patch: " + ex.getPropertyName());
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Invalid merge patch: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new BadRequestException("Invalid merge patch");
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    /**
+     * The MergePatch function of RFC 7396, section 2, applied to a copy of {@code target}.
+     */
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = target != null && target.isObject()
+            ? ((ObjectNode) target).deepCopy()
+            : ((ObjectNode) patch).objectNode();
+        patch.fields().forEachRemaining(member -> {
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.qeetmart.product.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+public final class Negotiation {
+
+    private static final List<MediaType> PRODUCED = List.of(
+        MediaType.APPLICATION_JSON,
+        MediaType.APPLICATION_CBOR,
+        ProtobufResponseConverter.PROTOBUF
+    );
+
+    private Negotiation() {
+    }
+
+    /**
+     * Whether the {@code Accept} header names {@code type} explicitly; wildcards do not count.
+     */
+    public static boolean accepts(WebRequest request, MediaType type) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(type::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * The encoding a response to this request is written in: the most preferred acceptable type the service
+     * produces, by quality and then specificity, with wildcards resolving to JSON the way converter order does.
+     * Lets validators tell representations apart before the body is written.
+     */
+    public static MediaType representation(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+            .thenComparing(MediaType::isWildcardType)
+            .thenComparing(MediaType::isWildcardSubtype));
+        for (MediaType type : acceptable) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType produced : PRODUCED) {
+                if (type.includes(produced)) {
+                    return produced;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public static boolean acceptsBinary(WebRequest request) {
+        return accepts(request, MediaType.APPLICATION_CBOR) || accepts(request, ProtobufResponseConverter.PROTOBUF);
+    }
+}
@@ -0,0 +1,57 @@
+package com.qeetmart.product.web;
+
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.protobuf.ProductProtobuf;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes products and product pages as {@code application/x-protobuf}. Write-only; requests stay JSON.
+ */
+public class ProtobufResponseConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProtobufResponseConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductResponse.class.isAssignableFrom(clazz) || PagedResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        byte[] encoded;
+        try {
+            encoded = body instanceof ProductResponse product
+                ? ProductProtobuf.encode(product)
+                : ProductProtobuf.encode((PagedResponse<?>) body);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotWritableException(ex.getMessage(), ex);
+        }
+        outputMessage.getBody().write(encoded);
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        return null;
+    }
+}
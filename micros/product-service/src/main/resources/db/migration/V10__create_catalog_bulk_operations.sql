@@ -0,0 +1,19 @@
+-- Progress of bulk operations. The replica that runs an operation updates its row in each chunk's transaction, so
+-- a status poll answered by any replica sees exactly the chunks that have committed.
+create table if not exists catalog_bulk_operations (
+    id varchar(36) primary key,
+    operation varchar(20) not null,
+    state varchar(20) not null,
+    matched bigint not null,
+    processed bigint not null default 0,
+    chunks_committed integer not null default 0,
+    submitted_at timestamp(6) with time zone not null,
+    started_at timestamp(6) with time zone,
+    finished_at timestamp(6) with time zone,
+    error varchar(1000),
+    constraint ck_catalog_bulk_operations_operation
+        check (operation in ('REPRICE', 'SET_STATUS', 'SOFT_DELETE', 'MOVE_CATEGORY')),
+    constraint ck_catalog_bulk_operations_state check (state in ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+create index if not exists idx_catalog_bulk_operations_submitted on catalog_bulk_operations (submitted_at);
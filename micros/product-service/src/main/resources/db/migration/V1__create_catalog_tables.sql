@@ -0,0 +1,37 @@
+create table if not exists categories (
+    id bigint generated by default as identity primary key,
+    name varchar(100) not null,
+    description varchar(500),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    constraint uk_categories_name unique (name)
+);
+
+create table if not exists products (
+    id bigint generated by default as identity primary key,
+    name varchar(150) not null,
+    description varchar(1000),
+    brand varchar(100) not null,
+    category_id bigint not null,
+    price numeric(19, 2) not null,
+    currency varchar(3) not null,
+    status varchar(30) not null,
+    is_deleted boolean not null default false,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    constraint fk_products_category foreign key (category_id) references categories (id),
+    constraint ck_products_status check (status in ('ACTIVE', 'INACTIVE', 'OUT_OF_STOCK', 'DISCONTINUED'))
+);
+
+create table if not exists product_variants (
+    id bigint generated by default as identity primary key,
+    product_id bigint not null,
+    sku varchar(100) not null,
+    color varchar(50),
+    size varchar(50),
+    additional_price numeric(19, 2) not null default 0,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    constraint uk_product_variants_sku unique (sku),
+    constraint fk_product_variants_product foreign key (product_id) references products (id)
+);
@@ -0,0 +1,12 @@
+-- Listing predicates always include is_deleted = false, so the filter indexes are partial over live rows.
+create index if not exists idx_products_live_category on products (category_id, id) where is_deleted = false;
+create index if not exists idx_products_live_brand on products (lower(brand), id) where is_deleted = false;
+create index if not exists idx_products_live_status on products (status, id) where is_deleted = false;
+
+-- Category deletes cascade through every product of the category, live or not.
+create index if not exists idx_products_category on products (category_id);
+
+create index if not exists idx_product_variants_product on product_variants (product_id);
+create index if not exists idx_product_variants_sku_lower on product_variants (lower(sku));
+
+create index if not exists idx_categories_name_lower on categories (lower(name));
@@ -0,0 +1,33 @@
+-- Soft-deleted products and their variants are moved here by the archive job once past the retention window.
+create table if not exists products_archive (
+    id bigint primary key,
+    name varchar(150) not null,
+    description varchar(1000),
+    brand varchar(100) not null,
+    category_id bigint not null,
+    price numeric(19, 2) not null,
+    currency varchar(3) not null,
+    status varchar(30) not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    archived_at timestamp(6) with time zone not null
+);
+
+create table if not exists product_variants_archive (
+    id bigint primary key,
+    product_id bigint not null,
+    sku varchar(100) not null,
+    color varchar(50),
+    size varchar(50),
+    additional_price numeric(19, 2) not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    archived_at timestamp(6) with time zone not null,
+    constraint fk_product_variants_archive_product foreign key (product_id) references products_archive (id)
+);
+
+create index if not exists idx_product_variants_archive_product on product_variants_archive (product_id);
+create index if not exists idx_products_archive_archived on products_archive (archived_at desc, id desc);
+
+-- The archive job walks soft-deleted rows in id order; live listings never touch this index.
+create index if not exists idx_products_deleted on products (id, updated_at) where is_deleted = true;
@@ -0,0 +1,15 @@
+create table if not exists catalog_change_sequence (
+    id smallint primary key,
+    last_seq bigint not null
+);
+
+insert into catalog_change_sequence (id, last_seq) values (1, 0) on conflict do nothing;
+
+-- Change feed consumers page through this table by primary key, so reads cost O(changes) rather than O(catalog).
+create table if not exists product_changes (
+    change_seq bigint primary key,
+    product_id bigint not null,
+    change_type varchar(20) not null,
+    changed_at timestamp(6) with time zone not null,
+    constraint ck_product_changes_type check (change_type in ('CREATED', 'UPDATED', 'DELETED'))
+);
@@ -0,0 +1,8 @@
+-- Written in the same transaction as catalog mutations and drained by the invalidation relay.
+create table if not exists catalog_outbox (
+    id bigint generated by default as identity primary key,
+    origin varchar(64) not null,
+    scope varchar(20) not null,
+    entity_ids text not null,
+    created_at timestamp(6) with time zone not null
+);
@@ -0,0 +1,8 @@
+-- Written behind the request path by the view flusher; one row per product that has been viewed at least once.
+create table if not exists product_view_counts (
+    product_id bigint primary key,
+    view_count bigint not null,
+    updated_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_product_view_counts_updated on product_view_counts (updated_at);
@@ -0,0 +1,14 @@
+-- Cheapest and dearest variant price (base price plus additional price, or the base price alone when a product has
+-- no variants), kept in step by the services so price filters and sorting never join the variants.
+alter table products add column if not exists min_effective_price numeric(19, 2);
+alter table products add column if not exists max_effective_price numeric(19, 2);
+
+update products p set
+    min_effective_price = p.price + coalesce((select min(v.additional_price) from product_variants v where v.product_id = p.id), 0),
+    max_effective_price = p.price + coalesce((select max(v.additional_price) from product_variants v where v.product_id = p.id), 0);
+
+alter table products alter column min_effective_price set not null;
+alter table products alter column max_effective_price set not null;
+
+create index if not exists idx_products_live_min_price on products (min_effective_price, id) where is_deleted = false;
+create index if not exists idx_products_live_max_price on products (max_effective_price, id) where is_deleted = false;
@@ -0,0 +1,17 @@
+-- Scheduled status and price changes. Replicas load pending rows due within a horizon into memory and apply them
+-- when due; the partial index keeps that lookup proportional to the pending schedules, not the whole history.
+create table if not exists product_schedules (
+    id bigint generated by default as identity primary key,
+    product_id bigint not null references products (id),
+    target_status varchar(20),
+    target_price numeric(19, 2),
+    apply_at timestamp(6) with time zone not null,
+    state varchar(20) not null,
+    created_at timestamp(6) with time zone not null,
+    finished_at timestamp(6) with time zone,
+    constraint ck_product_schedules_change check (target_status is not null or target_price is not null),
+    constraint ck_product_schedules_state check (state in ('PENDING', 'APPLIED', 'SKIPPED', 'CANCELLED'))
+);
+
+create index if not exists idx_product_schedules_pending on product_schedules (apply_at, id) where state = 'PENDING';
+create index if not exists idx_product_schedules_product on product_schedules (product_id, apply_at);
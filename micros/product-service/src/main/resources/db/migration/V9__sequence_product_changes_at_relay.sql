@@ -0,0 +1,10 @@
+-- Writers append unsequenced rows; the change sequencer numbers them after commit, so the counter row is no
+-- longer locked by every catalog write and feed cursors still never pass a gap that fills in later.
+alter table product_changes add column id bigint generated by default as identity;
+
+alter table product_changes drop constraint product_changes_pkey;
+alter table product_changes add constraint pk_product_changes primary key (id);
+alter table product_changes alter column change_seq drop not null;
+
+create unique index if not exists uk_product_changes_seq on product_changes (change_seq);
+create index if not exists idx_product_changes_unsequenced on product_changes (id) where change_seq is null;
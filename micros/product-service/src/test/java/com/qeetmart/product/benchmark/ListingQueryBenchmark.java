@@ -0,0 +1,114 @@
+package com.qeetmart.product.benchmark;
+
+import com.qeetmart.product.ProductServiceApplication;
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.repository.ProductListingRepository;
+import com.qeetmart.product.repository.ProductRepository;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.specification.ProductSpecification;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Listing page plus count through the precompiled named queries of {@link ProductListingRepository} against the
+ * criteria path they replace, on the test H2 database so the difference is mostly query translation. Run with
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args=ListingQueryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListingQueryBenchmark {
+
+    private static final int PRODUCTS = 500;
+
+    @Param({"category", "category+brand+status+price"})
+    private String shape;
+
+    private ConfigurableApplicationContext context;
+    private ProductListingRepository productListingRepository;
+    private ProductRepository productRepository;
+    private TransactionTemplate transactionTemplate;
+    private ProductFilter filter;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+            ProductServiceApplication.class,
+            "--server.port=0",
+            "--app.grpc.enabled=false",
+            "--logging.level.root=WARN"
+        );
+        productListingRepository = context.getBean(ProductListingRepository.class);
+        productRepository = context.getBean(ProductRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Benchmark");
+        Long categoryId = context.getBean(CategoryService.class).createCategory(category).getId();
+        ProductService productService = context.getBean(ProductService.class);
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductCreateRequest product = new ProductCreateRequest();
+            product.setName("Benchmark product " + i);
+            product.setBrand(i % 4 == 0 ? "Northwind" : "Contoso");
+            product.setCategoryId(categoryId);
+            product.setPrice(BigDecimal.valueOf(10 + i % 90));
+            product.setCurrency("USD");
+            product.setStatus(i % 5 == 0 ? ProductStatus.INACTIVE : ProductStatus.ACTIVE);
+            productService.createProduct(product);
+        }
+
+        filter = shape.equals("category")
+            ? ProductFilter.builder().categoryId(categoryId).build()
+            : ProductFilter.builder()
+                .categoryId(categoryId)
+                .brand("northwind")
+                .status(ProductStatus.ACTIVE)
+                .minPrice(new BigDecimal("20"))
+                .maxPrice(new BigDecimal("80"))
+                .build();
+        pageable = PageRequest.of(1, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object namedQuery() {
+        return transactionTemplate.execute(status -> productListingRepository.findPage(filter, pageable));
+    }
+
+    @Benchmark
+    public Object criteriaQuery() {
+        return transactionTemplate.execute(status ->
+            productRepository.findAll(ProductSpecification.matches(filter), pageable)
+        );
+    }
+}
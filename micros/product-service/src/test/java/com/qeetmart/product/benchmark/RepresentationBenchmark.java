@@ -0,0 +1,150 @@
+package com.qeetmart.product.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.google.protobuf.CodedInputStream;
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.protobuf.ProductProtobuf;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encode and decode cost of a listing page in each negotiable representation, optionally gzipped the way
+ * {@code server.compression} would. Payload sizes are printed at setup. Run with
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args=RepresentationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepresentationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private PagedResponse<ProductResponse> page;
+    private byte[] jsonBytes;
+    private byte[] cborBytes;
+    private byte[] protobufBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+        Instant now = Instant.now();
+        List<ProductResponse> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(ProductResponse.builder()
+                .id(id)
+                .name("Product " + id)
+                .description("A reasonably long product description for product " + id)
+                .brand(id % 2 == 0 ? "Northwind" : "Contoso")
+                .categoryId(3L)
+                .price(new BigDecimal("49.99"))
+                .currency("USD")
+                .status(ProductStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        }
+        page = PagedResponse.<ProductResponse>builder()
+            .content(content)
+            .page(0)
+            .size(pageSize)
+            .totalElements(10_000)
+            .totalPages(10_000 / pageSize)
+            .last(false)
+            .build();
+
+        jsonBytes = json.writeValueAsBytes(page);
+        cborBytes = cbor.writeValueAsBytes(page);
+        protobufBytes = ProductProtobuf.encode(page);
+        System.out.printf(
+            "%nbytes for %d products: json=%d (gzip %d) cbor=%d (gzip %d) protobuf=%d (gzip %d)%n",
+            pageSize,
+            jsonBytes.length, gzip(jsonBytes).length,
+            cborBytes.length, gzip(cborBytes).length,
+            protobufBytes.length, gzip(protobufBytes).length
+        );
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return compress(json.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return compress(cbor.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() throws IOException {
+        return compress(ProductProtobuf.encode(page));
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return json.readTree(jsonBytes);
+    }
+
+    @Benchmark
+    public Object decodeCbor() throws IOException {
+        return cbor.readTree(cborBytes);
+    }
+
+    /**
+     * Walks every field without a generated message class, which is what a client's parser has to do at least.
+     */
+    @Benchmark
+    public int decodeProtobuf() throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(protobufBytes);
+        int fields = 0;
+        while (input.readTag() != 0) {
+            input.skipField(input.getLastTag());
+            fields++;
+        }
+        return fields;
+    }
+
+    private byte[] compress(byte[] encoded) throws IOException {
+        return gzip ? gzip(encoded) : encoded;
+    }
+
+    private static byte[] gzip(byte[] encoded) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(encoded);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.qeetmart.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.event.CategoriesChangedEvent;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * The version must not move before the change is visible, or a page loaded in between would be cached under the
+     * new version with the old data.
+     */
+    @Test
+    void bumpsOnlyAfterCommit() {
+        long before = catalogVersion.current();
+
+        long during = transactionTemplate.execute(status -> {
+            eventPublisher.publishEvent(new ProductsChangedEvent(ProductChangeType.UPDATED, List.of(1L)));
+            eventPublisher.publishEvent(new CategoriesChangedEvent(List.of(1L)));
+            return catalogVersion.current();
+        });
+
+        assertThat(during).isEqualTo(before);
+        assertThat(catalogVersion.current()).isGreaterThanOrEqualTo(before + 2);
+    }
+
+    @Test
+    void rolledBackChangeKeepsTheVersion() {
+        long before = catalogVersion.current();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new ProductsChangedEvent(ProductChangeType.UPDATED, List.of(1L)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(catalogVersion.current()).isEqualTo(before);
+    }
+
+    @Test
+    void bumpsImmediatelyOutsideATransaction() {
+        long before = catalogVersion.current();
+
+        eventPublisher.publishEvent(new ProductsChangedEvent(ProductChangeType.UPDATED, List.of(1L)));
+
+        assertThat(catalogVersion.current()).isGreaterThan(before);
+    }
+}
@@ -0,0 +1,158 @@
+package com.qeetmart.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.event.CategoriesChangedEvent;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.invalidation.CatalogInvalidatedEvent;
+import com.qeetmart.product.invalidation.InvalidationScope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class PageCacheTest {
+
+    /**
+     * Every body in these tests is a ten-character string, which encodes to twelve bytes of JSON.
+     */
+    private static final int ENTRY_BYTES = 12;
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hitReturnsTheEncodedPageAndItsValidators() {
+        PageCache cache = cache(10, DataSize.ofKilobytes(1));
+        Instant lastModified = Instant.parse("2026-01-02T03:04:05Z");
+
+        cache.put("a", cache.version(), "page-aaaaa", "W/\"a\"", lastModified);
+
+        CachedPage page = cache.get("a").orElseThrow();
+        assertThat(new String(page.body(), StandardCharsets.UTF_8)).isEqualTo("\"page-aaaaa\"");
+        assertThat(page.eTag()).isEqualTo("W/\"a\"");
+        assertThat(page.lastModified()).isEqualTo(lastModified);
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        PageCache cache = cache(2, DataSize.ofKilobytes(1));
+        put(cache, "a");
+        put(cache, "b");
+
+        cache.get("a");
+        put(cache, "c");
+
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(bytes()).isEqualTo(2 * ENTRY_BYTES);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        PageCache cache = cache(10, DataSize.ofBytes(3 * ENTRY_BYTES));
+        put(cache, "a");
+        put(cache, "b");
+        put(cache, "c");
+
+        cache.get("a");
+        put(cache, "d");
+
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(cache.get("d")).isPresent();
+        assertThat(bytes()).isEqualTo(3 * ENTRY_BYTES);
+    }
+
+    @Test
+    void replacingAnEntryDoesNotCountItTwice() {
+        PageCache cache = cache(10, DataSize.ofBytes(2 * ENTRY_BYTES));
+        put(cache, "a");
+        put(cache, "b");
+
+        put(cache, "a");
+
+        assertThat(bytes()).isEqualTo(2 * ENTRY_BYTES);
+        assertThat(cache.get("b")).isPresent();
+    }
+
+    @Test
+    void pageLargerThanTheCacheIsReturnedButNotStored() {
+        PageCache cache = cache(10, DataSize.ofBytes(ENTRY_BYTES - 1));
+
+        CachedPage page = cache.put("a", cache.version(), "page-aaaaa", "W/\"a\"", null);
+
+        assertThat(page.body()).hasSize(ENTRY_BYTES);
+        assertThat(page.eTag()).isEqualTo("W/\"a\"");
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(bytes()).isZero();
+    }
+
+    @Test
+    void everyCatalogChangeMakesCachedPagesStale() {
+        PageCache cache = cache(10, DataSize.ofKilobytes(1));
+        List<Runnable> changes = List.of(
+            () -> catalogVersion.onProductsChanged(new ProductsChangedEvent(ProductChangeType.UPDATED, List.of(1L))),
+            () -> catalogVersion.onCategoriesChanged(new CategoriesChangedEvent(List.of(1L))),
+            () -> catalogVersion.onCatalogInvalidated(
+                new CatalogInvalidatedEvent(InvalidationScope.PRODUCTS, List.of(1L))
+            )
+        );
+
+        for (Runnable change : changes) {
+            put(cache, "a");
+            assertThat(cache.get("a")).isPresent();
+
+            change.run();
+
+            assertThat(cache.get("a")).isEmpty();
+        }
+    }
+
+    /**
+     * A page loaded while a change commits is stored under the version read before loading, so the change makes
+     * it stale instead of the cache serving it under the new version.
+     */
+    @Test
+    void pageLoadedAcrossAChangeIsStale() {
+        PageCache cache = cache(10, DataSize.ofKilobytes(1));
+        long version = cache.version();
+
+        catalogVersion.onProductsChanged(new ProductsChangedEvent(ProductChangeType.UPDATED, List.of(1L)));
+        cache.put("a", version, "page-aaaaa", null, null);
+
+        assertThat(cache.get("a")).isEmpty();
+        put(cache, "a");
+        assertThat(cache.get("a")).isPresent();
+    }
+
+    private PageCache cache(int maxEntries, DataSize maxSize) {
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.getPageCache().setEnabled(true);
+        catalogProperties.getPageCache().setMaxEntries(maxEntries);
+        catalogProperties.getPageCache().setMaxSize(maxSize);
+        return new PageCache(catalogProperties, catalogVersion, new ObjectMapper(), meterRegistry);
+    }
+
+    private static void put(PageCache cache, String key) {
+        cache.put(key, cache.version(), "page-" + key.repeat(5), null, null);
+    }
+
+    private double bytes() {
+        return meterRegistry.get("catalog.page.cache.bytes").gauge().value();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("catalog.page.cache.requests").tag("result", result).counter().count();
+    }
+}
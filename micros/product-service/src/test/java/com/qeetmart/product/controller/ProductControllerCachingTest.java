@@ -0,0 +1,130 @@
+package com.qeetmart.product.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.web.ProtobufResponseConverter;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductControllerCachingTest {
+
+    private static final List<String> REPRESENTATIONS = List.of(
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        ProtobufResponseConverter.PROTOBUF.toString()
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long categoryId;
+    private Long productId;
+
+    @BeforeAll
+    void createProduct() {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Negotiated caching");
+        categoryId = categoryService.createCategory(category).getId();
+
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName("Representation");
+        product.setBrand("Vary");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("15.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        productId = productService.createProduct(product).getId();
+    }
+
+    @Test
+    void productETagDiffersPerRepresentation() throws Exception {
+        assertDistinctValidators("/products/" + productId);
+    }
+
+    @Test
+    void listingETagDiffersPerRepresentation() throws Exception {
+        assertDistinctValidators("/products?categoryId=" + categoryId);
+    }
+
+    @Test
+    void wildcardAndQualityResolveToTheNegotiatedETag() throws Exception {
+        String json = eTag("/products/" + productId, MediaType.APPLICATION_JSON_VALUE);
+        String cbor = eTag("/products/" + productId, MediaType.APPLICATION_CBOR_VALUE);
+
+        assertThat(eTag("/products/" + productId, "*/*")).isEqualTo(json);
+        assertThat(eTag("/products/" + productId, "application/json;q=0.5, application/cbor")).isEqualTo(cbor);
+        assertThat(eTag("/products/" + productId, "application/cbor;q=0.5, application/*")).isEqualTo(json);
+    }
+
+    @Test
+    void notModifiedCarriesVary() throws Exception {
+        String cbor = eTag("/products/" + productId, MediaType.APPLICATION_CBOR_VALUE);
+
+        mockMvc.perform(get("/products/" + productId)
+                .with(jwt())
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cbor))
+            .andExpect(status().isNotModified())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    /**
+     * Each representation gets its own ETag, revalidates against it, and does not revalidate against another's.
+     */
+    private void assertDistinctValidators(String uri) throws Exception {
+        Set<String> eTags = new HashSet<>();
+        for (String accept : REPRESENTATIONS) {
+            String eTag = eTag(uri, accept);
+            eTags.add(eTag);
+            mockMvc.perform(get(uri).with(jwt()).header(HttpHeaders.ACCEPT, accept).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        }
+        assertThat(eTags).hasSize(REPRESENTATIONS.size());
+
+        String json = eTag(uri, MediaType.APPLICATION_JSON_VALUE);
+        for (String accept : REPRESENTATIONS.subList(1, REPRESENTATIONS.size())) {
+            mockMvc.perform(get(uri).with(jwt()).header(HttpHeaders.ACCEPT, accept).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, accept));
+        }
+    }
+
+    private String eTag(String uri, String accept) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).with(jwt()).header(HttpHeaders.ACCEPT, accept))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,96 @@
+package com.qeetmart.product.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.web.JsonMergePatch;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductControllerPatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long categoryId;
+
+    @BeforeAll
+    void createCategory() {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Merge patch");
+        categoryId = categoryService.createCategory(category).getId();
+    }
+
+    @Test
+    void mergePatchUpdatesOnlyTheGivenFields() throws Exception {
+        Long productId = createProduct();
+
+        mockMvc.perform(mergePatch(productId, "{\"description\": null, \"price\": 12.5}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.price").value(12.5))
+            .andExpect(jsonPath("$.name").value("Patched lamp"));
+
+        ProductResponse stored = productService.getProductById(productId);
+        assertThat(stored.getDescription()).isNull();
+        assertThat(stored.getPrice()).isEqualByComparingTo("12.50");
+        assertThat(stored.getBrand()).isEqualTo("Lumen");
+    }
+
+    @Test
+    void invalidMergedProductIsRejected() throws Exception {
+        Long productId = createProduct();
+
+        mockMvc.perform(mergePatch(productId, "{\"name\": null}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.name").exists());
+        mockMvc.perform(mergePatch(productId, "{\"weight\": 3}"))
+            .andExpect(status().isBadRequest());
+
+        assertThat(productService.getProductById(productId).getName()).isEqualTo("Patched lamp");
+    }
+
+    private MockHttpServletRequestBuilder mergePatch(Long productId, String body) {
+        return patch("/products/" + productId)
+            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+            .contentType(JsonMergePatch.MEDIA_TYPE)
+            .content(body);
+    }
+
+    private Long createProduct() {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName("Patched lamp");
+        product.setDescription("Brass reading lamp");
+        product.setBrand("Lumen");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+}
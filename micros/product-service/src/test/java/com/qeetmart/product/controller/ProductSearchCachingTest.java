@@ -0,0 +1,130 @@
+package com.qeetmart.product.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductUpdateRequest;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "app.catalog.page-cache.enabled=true")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductSearchCachingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long categoryId;
+
+    @BeforeAll
+    void createCategory() {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Search caching");
+        categoryId = categoryService.createCategory(category).getId();
+    }
+
+    @Test
+    void cachedSearchKeepsItsValidators() throws Exception {
+        createProduct("Quokka lamp");
+
+        MvcResult miss = search("quokka", MediaType.APPLICATION_JSON);
+        MvcResult hit = search("QUOKKA ", MediaType.APPLICATION_JSON);
+
+        String eTag = miss.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/\"products-search-");
+        assertThat(hit.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(hit.getResponse().getContentAsString()).isEqualTo(miss.getResponse().getContentAsString());
+        assertThat(hit.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+
+        mockMvc.perform(get("/products/search").param("query", "quokka").with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void changedResultsGetANewTag() throws Exception {
+        ProductResponse product = createProduct("Wombat chair");
+        String before = search("wombat", MediaType.APPLICATION_JSON).getResponse().getHeader(HttpHeaders.ETAG);
+
+        createProduct("Wombat stool");
+        String added = search("wombat", MediaType.APPLICATION_JSON).getResponse().getHeader(HttpHeaders.ETAG);
+        productService.updateProduct(product.getId(), rename(product, "Armchair"));
+        String dropped = search("wombat", MediaType.APPLICATION_JSON).getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(added).isNotEqualTo(before);
+        assertThat(dropped).isNotEqualTo(added).isNotEqualTo(before);
+        mockMvc.perform(get("/products/search").param("query", "wombat").with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, added))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void uncachedRepresentationIsTaggedToo() throws Exception {
+        createProduct("Numbat rug");
+        String json = search("numbat", MediaType.APPLICATION_JSON).getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult cbor = search("numbat", MediaType.APPLICATION_CBOR);
+
+        assertThat(cbor.getResponse().getHeader(HttpHeaders.ETAG))
+            .isEqualTo(json.substring(0, json.length() - 1) + "+cbor\"");
+        mockMvc.perform(get("/products/search").param("query", "numbat").with(jwt())
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cbor.getResponse().getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+    }
+
+    private MvcResult search(String query, MediaType accept) throws Exception {
+        return mockMvc.perform(get("/products/search").param("query", query).with(jwt()).accept(accept))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+            .andReturn();
+    }
+
+    private ProductResponse createProduct(String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Marsupial");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("30.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product);
+    }
+
+    private ProductUpdateRequest rename(ProductResponse product, String name) {
+        ProductUpdateRequest update = new ProductUpdateRequest();
+        update.setName(name);
+        update.setBrand("Furniture");
+        update.setCategoryId(categoryId);
+        update.setPrice(product.getPrice());
+        update.setCurrency(product.getCurrency());
+        update.setStatus(product.getStatus());
+        return update;
+    }
+}
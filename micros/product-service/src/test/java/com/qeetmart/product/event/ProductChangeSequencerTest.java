@@ -0,0 +1,126 @@
+package com.qeetmart.product.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.repository.ProductChangeRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class ProductChangeSequencerTest {
+
+    @Autowired
+    private ProductChangeRepository productChangeRepository;
+
+    @Autowired
+    private ProductChangeSequencer productChangeSequencer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * A change inserted first but committed last must be numbered after the one that committed first, otherwise a
+     * reader that already moved past the later sequence would never see it.
+     */
+    @Test
+    void sequenceFollowsCommitOrder() throws Exception {
+        long slow = 9_000_001L;
+        long fast = 9_000_002L;
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                productChangeRepository.append(ProductChangeType.UPDATED, List.of(slow), Instant.now());
+                appended.countDown();
+                await(release);
+            })
+        );
+        assertThat(appended.await(10, TimeUnit.SECONDS)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status ->
+            productChangeRepository.append(ProductChangeType.UPDATED, List.of(fast), Instant.now())
+        );
+        productChangeSequencer.sequence();
+        assertThat(sequenceOf(fast)).isNotNull();
+
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+        assertThat(sequenceOf(slow)).isNull();
+        productChangeSequencer.sequence();
+
+        assertThat(sequenceOf(slow)).isGreaterThan(sequenceOf(fast));
+    }
+
+    @Test
+    void sequencesAreContiguousAndUnique() {
+        long productId = 9_000_100L;
+        List<Long> ids = List.of(productId, productId + 1, productId + 2);
+        transactionTemplate.executeWithoutResult(status ->
+            productChangeRepository.append(ProductChangeType.CREATED, ids, Instant.now())
+        );
+        productChangeRepository.append(ProductChangeType.DELETED, List.of(productId), Instant.now());
+
+        productChangeSequencer.sequence();
+
+        Map<String, Object> numbered = jdbcTemplate.queryForMap("""
+            select count(*) as total, count(distinct change_seq) as distinct_total,
+                min(change_seq) as first_seq, max(change_seq) as last_seq
+            from product_changes where change_seq is not null
+            """);
+        long total = ((Number) numbered.get("total")).longValue();
+        assertThat(((Number) numbered.get("distinct_total")).longValue()).isEqualTo(total);
+        assertThat(((Number) numbered.get("last_seq")).longValue() - ((Number) numbered.get("first_seq")).longValue())
+            .isEqualTo(total - 1);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from product_changes where change_seq is null", Long.class
+        )).isZero();
+        assertThat(jdbcTemplate.queryForList(
+            "select change_type from product_changes where product_id = ? order by change_seq",
+            String.class,
+            productId
+        )).containsExactly("CREATED", "DELETED");
+    }
+
+    @Test
+    void recordsChangesPublishedOutsideTransaction() {
+        long productId = 9_000_200L;
+
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, productId));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from product_changes where product_id = ?", Long.class, productId
+        )).isOne();
+    }
+
+    private Long sequenceOf(long productId) {
+        return jdbcTemplate.queryForObject(
+            "select max(change_seq) from product_changes where product_id = ?", Long.class, productId
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
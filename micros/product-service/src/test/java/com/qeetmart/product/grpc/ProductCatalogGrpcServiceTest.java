@@ -0,0 +1,289 @@
+package com.qeetmart.product.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnknownFieldSet;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.qeetmart.product.config.JwtSecurityProperties;
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductInclude;
+import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.BatchGetProductsRequest;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.GetProductRequest;
+import com.qeetmart.product.grpc.ProductCatalogGrpc.ScanCatalogRequest;
+import com.qeetmart.product.protobuf.ProductProtobuf;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import com.qeetmart.product.service.ProductVariantService;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductCatalogGrpcServiceTest {
+
+    private static final MethodDescriptor.Marshaller<byte[]> BYTES = new MethodDescriptor.Marshaller<>() {
+
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    };
+
+    @Autowired
+    private ServerServiceDefinition productCatalogService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductVariantService productVariantService;
+
+    @Autowired
+    private JwtSecurityProperties jwtSecurityProperties;
+
+    private Server server;
+    private ManagedChannel channel;
+    private Channel authenticated;
+    private Long categoryId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeAll
+    void startServer() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(productCatalogService).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        authenticated = withToken(token());
+
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("gRPC Catalog");
+        categoryId = categoryService.createCategory(category).getId();
+        for (int i = 0; i < 5; i++) {
+            ProductCreateRequest product = new ProductCreateRequest();
+            product.setName("Scan " + i);
+            product.setBrand("Streamline");
+            product.setCategoryId(categoryId);
+            product.setPrice(new BigDecimal("10.00").add(BigDecimal.valueOf(i)));
+            product.setCurrency("USD");
+            product.setStatus(i == 2 ? ProductStatus.INACTIVE : ProductStatus.ACTIVE);
+            productIds.add(productService.createProduct(product).getId());
+        }
+        ProductVariantCreateRequest variant = new ProductVariantCreateRequest();
+        variant.setSku("GRPC-SCAN-0");
+        variant.setColor("red");
+        variant.setAdditionalPrice(new BigDecimal("2.50"));
+        productVariantService.createVariant(productIds.get(0), variant);
+    }
+
+    @AfterAll
+    void stopServer() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void getProductMatchesTheRestRepresentation() {
+        Long id = productIds.get(0);
+
+        byte[] plain = getProduct(authenticated, new GetProductRequest(id, List.of()));
+        byte[] detail = getProduct(authenticated, new GetProductRequest(id, List.of("category", "variants")));
+
+        assertThat(plain).isEqualTo(ProductProtobuf.encode(productService.getProductById(id)));
+        assertThat(detail).isEqualTo(ProductProtobuf.encode(
+            productService.getProductDetail(id, Set.of(ProductInclude.CATEGORY, ProductInclude.VARIANTS))
+        ));
+    }
+
+    @Test
+    void getProductReportsMissingProductsAndBadRequests() {
+        assertStatus(
+            () -> getProduct(authenticated, new GetProductRequest(999_999L, List.of())),
+            Status.Code.NOT_FOUND
+        );
+        assertStatus(
+            () -> getProduct(authenticated, new GetProductRequest(productIds.get(0), List.of("reviews"))),
+            Status.Code.INVALID_ARGUMENT
+        );
+    }
+
+    @Test
+    void callsNeedAValidBearerToken() {
+        GetProductRequest request = new GetProductRequest(productIds.get(0), List.of());
+
+        assertStatus(() -> getProduct(channel, request), Status.Code.UNAUTHENTICATED);
+        assertStatus(() -> getProduct(withToken("not-a-jwt"), request), Status.Code.UNAUTHENTICATED);
+    }
+
+    @Test
+    void batchGetProductsAnswersEachRequestInOrder() throws Exception {
+        List<Long> first = List.of(productIds.get(1), 999_999L, productIds.get(0));
+        List<Long> second = List.of(productIds.get(3));
+        CompletableFuture<List<byte[]>> responses = new CompletableFuture<>();
+        List<byte[]> received = new ArrayList<>();
+
+        StreamObserver<BatchGetProductsRequest> requests = ClientCalls.asyncBidiStreamingCall(
+            authenticated.newCall(withBytesResponse(ProductCatalogGrpc.BATCH_GET_PRODUCTS), CallOptions.DEFAULT),
+            new StreamObserver<>() {
+
+                @Override
+                public void onNext(byte[] value) {
+                    received.add(value);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    responses.completeExceptionally(t);
+                }
+
+                @Override
+                public void onCompleted() {
+                    responses.complete(received);
+                }
+            }
+        );
+        requests.onNext(new BatchGetProductsRequest(first));
+        requests.onNext(new BatchGetProductsRequest(second));
+        requests.onCompleted();
+
+        assertThat(responses.get(5, TimeUnit.SECONDS)).containsExactly(
+            ProductProtobuf.encode(productService.getProductsByIds(first)),
+            ProductProtobuf.encode(productService.getProductsByIds(second))
+        );
+    }
+
+    @Test
+    void scanCatalogStreamsMatchingProductsInIdOrderAcrossPages() {
+        List<Long> scanned = new ArrayList<>();
+        ClientCalls.blockingServerStreamingCall(
+            authenticated,
+            withBytesResponse(ProductCatalogGrpc.SCAN_CATALOG),
+            CallOptions.DEFAULT,
+            new ScanCatalogRequest(categoryId, "", "active", 2)
+        ).forEachRemaining(product -> scanned.add(productId(product)));
+
+        assertThat(scanned)
+            .containsExactly(productIds.get(0), productIds.get(1), productIds.get(3), productIds.get(4));
+    }
+
+    @Test
+    void scanCatalogRejectsInvalidFilters() {
+        assertStatus(() -> scan(new ScanCatalogRequest(categoryId, "", "RETIRED", 0)), Status.Code.INVALID_ARGUMENT);
+        assertStatus(() -> scan(new ScanCatalogRequest(categoryId, "", "", 5000)), Status.Code.INVALID_ARGUMENT);
+    }
+
+    private byte[] getProduct(Channel target, GetProductRequest request) {
+        return ClientCalls.blockingUnaryCall(
+            target,
+            withBytesResponse(ProductCatalogGrpc.GET_PRODUCT),
+            CallOptions.DEFAULT,
+            request
+        );
+    }
+
+    private void scan(ScanCatalogRequest request) {
+        ClientCalls.blockingServerStreamingCall(
+            authenticated,
+            withBytesResponse(ProductCatalogGrpc.SCAN_CATALOG),
+            CallOptions.DEFAULT,
+            request
+        ).forEachRemaining(product -> {
+        });
+    }
+
+    private static <ReqT> MethodDescriptor<ReqT, byte[]> withBytesResponse(MethodDescriptor<ReqT, ?> method) {
+        return method.toBuilder(method.getRequestMarshaller(), BYTES).build();
+    }
+
+    private static long productId(byte[] product) {
+        try {
+            return UnknownFieldSet.parseFrom(product).getField(1).getVarintList().get(0);
+        } catch (InvalidProtocolBufferException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void assertStatus(Runnable call, Status.Code code) {
+        assertThatThrownBy(call::run)
+            .isInstanceOfSatisfying(
+                StatusRuntimeException.class,
+                ex -> assertThat(ex.getStatus().getCode()).isEqualTo(code)
+            );
+    }
+
+    private Channel withToken(String token) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private String token() {
+        byte[] secret = Base64.getDecoder().decode(jwtSecurityProperties.getSecret());
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(
+            new ImmutableSecret<>(new SecretKeySpec(secret, "HmacSHA256"))
+        );
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuer(jwtSecurityProperties.getIssuer())
+            .subject("inventory-service")
+            .claim("role", "USER")
+            .issuedAt(now)
+            .expiresAt(now.plus(5, ChronoUnit.MINUTES))
+            .build();
+        return encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+            .getTokenValue();
+    }
+}
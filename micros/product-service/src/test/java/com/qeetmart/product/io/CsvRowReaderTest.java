@@ -0,0 +1,159 @@
+package com.qeetmart.product.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import com.qeetmart.product.exception.BadRequestException;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvRowReaderTest {
+
+    private static final String HEADER = "productKey,name,brand,categoryId,price,currency,status,sku\n";
+
+    @Test
+    void exportedRowsReadBack() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvRowWriter writer = new CsvRowWriter(out)) {
+            writer.write(exportRow(7, 10L, "SKU-7A", "Desk, \"oak\"", "Solid oak.\nSeats two,\r\nbarely."));
+            writer.write(exportRow(7, 11L, "SKU-7B", "Desk, \"oak\"", "Solid oak.\nSeats two,\r\nbarely."));
+            writer.write(exportRow(8, null, null, "Stool", null));
+        }
+
+        CsvRowReader reader = reader(out.toString(StandardCharsets.UTF_8));
+        List<CatalogImportRow> rows = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        for (CatalogImportRow row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+            lines.add(reader.getLineNumber());
+        }
+
+        assertThat(rows).hasSize(3);
+        assertThat(lines).containsExactly(2, 5, 8);
+        CatalogImportRow first = rows.get(0);
+        assertThat(first.getProductKey()).isEqualTo("7");
+        assertThat(first.getName()).isEqualTo("Desk, \"oak\"");
+        assertThat(first.getDescription()).isEqualTo("Solid oak.\nSeats two,\nbarely.");
+        assertThat(first.getBrand()).isEqualTo("Joinery");
+        assertThat(first.getCategoryId()).isEqualTo(3L);
+        assertThat(first.getPrice()).isEqualByComparingTo("149.90");
+        assertThat(first.getCurrency()).isEqualTo("USD");
+        assertThat(first.getStatus()).isEqualTo("ACTIVE");
+        assertThat(first.getSku()).isEqualTo("SKU-7A");
+        assertThat(first.getColor()).isEqualTo("natural");
+        assertThat(first.getAdditionalPrice()).isEqualByComparingTo("2.50");
+        assertThat(rows.get(1).getSku()).isEqualTo("SKU-7B");
+        CatalogImportRow stool = rows.get(2);
+        assertThat(stool.getDescription()).isNull();
+        assertThat(stool.getSku()).isNull();
+        assertThat(stool.getAdditionalPrice()).isNull();
+    }
+
+    @Test
+    void headerIsMatchedByNameInAnyOrderAndCase() throws IOException {
+        CsvRowReader reader = reader("\uFEFFSKU, Name ,CategoryName,extra\nS-1,Lamp,Lighting,ignored\n");
+
+        CatalogImportRow row = reader.next();
+
+        assertThat(row.getSku()).isEqualTo("S-1");
+        assertThat(row.getName()).isEqualTo("Lamp");
+        assertThat(row.getCategoryName()).isEqualTo("Lighting");
+        assertThat(row.getProductKey()).isNull();
+    }
+
+    @Test
+    void blankLinesAndShortRowsAreTolerated() throws IOException {
+        CsvRowReader reader = reader(HEADER + "\n   \n1,Lamp\n");
+
+        CatalogImportRow row = reader.next();
+
+        assertThat(reader.getLineNumber()).isEqualTo(4);
+        assertThat(row.getName()).isEqualTo("Lamp");
+        assertThat(row.getBrand()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void badValueFailsOnlyItsRow() throws IOException {
+        CsvRowReader reader = reader(HEADER
+            + "1,Lamp,Lumen,3,cheap,USD,ACTIVE,\n"
+            + "2,Desk,Joinery,x,1,USD,ACTIVE,\n"
+            + "3,Stool,Joinery,3,1,USD,ACTIVE,\n");
+
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid price: cheap");
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid categoryid: x");
+        assertThat(reader.next().getName()).isEqualTo("Stool");
+        assertThat(reader.getLineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    void unterminatedQuoteAtEndOfInputFailsTheLastRow() throws IOException {
+        CsvRowReader reader = reader(HEADER + "1,Lamp\n2,\"Desk\nstill open\n");
+
+        assertThat(reader.next().getName()).isEqualTo("Lamp");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unterminated quoted field");
+        assertThat(reader.getLineNumber()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void badHeadersAreRejected() {
+        assertThatThrownBy(() -> reader(""))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("CSV input must start with a header row");
+        assertThatThrownBy(() -> reader("  \nname\n"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("CSV input must start with a header row");
+        assertThatThrownBy(() -> reader("name,\"brand\n"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid CSV header: Unterminated quoted field");
+        assertThatThrownBy(() -> reader("name,sku,Name\n"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Duplicate CSV column: Name");
+        assertThatThrownBy(() -> reader("1,Lamp,Lumen\n"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("CSV header must include a name column");
+    }
+
+    private static CsvRowReader reader(String csv) throws IOException {
+        return new CsvRowReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    private static CatalogExportRow exportRow(
+        long productId,
+        Long variantId,
+        String sku,
+        String name,
+        String description
+    ) {
+        CatalogExportRow row = new CatalogExportRow();
+        row.setProductId(productId);
+        row.setName(name);
+        row.setDescription(description);
+        row.setBrand("Joinery");
+        row.setCategoryId(3);
+        row.setPrice(new BigDecimal("149.90"));
+        row.setCurrency("USD");
+        row.setStatus("ACTIVE");
+        row.setVariantId(variantId);
+        row.setSku(sku);
+        if (variantId != null) {
+            row.setColor("natural");
+            row.setAdditionalPrice(new BigDecimal("2.50"));
+        }
+        return row;
+    }
+}
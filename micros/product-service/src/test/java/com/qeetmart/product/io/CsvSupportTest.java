@@ -0,0 +1,67 @@
+package com.qeetmart.product.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CsvSupportTest {
+
+    @Test
+    void splitsOnUnquotedCommas() {
+        assertThat(CsvSupport.parseLine("a,b,,d,")).containsExactly("a", "b", "", "d", "");
+        assertThat(CsvSupport.parseLine("")).containsExactly("");
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndEscapedQuotes() {
+        assertThat(CsvSupport.parseLine("\"a,b\",\"say \"\"hi\"\"\",\"\"\"\",\"\""))
+            .containsExactly("a,b", "say \"hi\"", "\"", "");
+    }
+
+    @Test
+    void unterminatedQuoteIsRejected() {
+        assertThatThrownBy(() -> CsvSupport.parseLine("a,\"b"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unterminated quoted field");
+    }
+
+    @Test
+    void appendFieldQuotesOnlyWhenNeeded() {
+        assertThat(field("plain")).isEqualTo("plain");
+        assertThat(field(12)).isEqualTo("12");
+        assertThat(field(null)).isEmpty();
+        assertThat(field("a,b")).isEqualTo("\"a,b\"");
+        assertThat(field("6\" tall")).isEqualTo("\"6\"\" tall\"");
+        assertThat(field("two\nlines")).isEqualTo("\"two\nlines\"");
+        assertThat(field("carriage\rreturn")).isEqualTo("\"carriage\rreturn\"");
+    }
+
+    @Test
+    void appendedFieldsParseBack() {
+        String[] values = {"plain", "a,b", "\"quoted\"", "trailing\"", ",", "\"\"", " spaced "};
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            CsvSupport.appendField(line, values[i]);
+        }
+
+        assertThat(CsvSupport.parseLine(line.toString())).containsExactly(values);
+    }
+
+    @Test
+    void oddQuoteCountMeansAnOpenField() {
+        assertThat(CsvSupport.hasOddQuotes("a,b")).isFalse();
+        assertThat(CsvSupport.hasOddQuotes("\"a\",\"b \"\"c\"\"\"")).isFalse();
+        assertThat(CsvSupport.hasOddQuotes("1,\"first line")).isTrue();
+        assertThat(CsvSupport.hasOddQuotes("last \"\"line\",2")).isTrue();
+    }
+
+    private static String field(Object value) {
+        StringBuilder out = new StringBuilder();
+        CsvSupport.appendField(out, value);
+        return out.toString();
+    }
+}
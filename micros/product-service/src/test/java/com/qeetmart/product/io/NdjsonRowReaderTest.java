@@ -0,0 +1,158 @@
+package com.qeetmart.product.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.dto.request.CatalogImportRow;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NdjsonRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writerEmitsOneProductPerLineWithNestedVariants() throws IOException {
+        String ndjson = export();
+
+        String[] lines = ndjson.split("\n");
+        assertThat(ndjson).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode desk = objectMapper.readTree(lines[0]);
+        assertThat(desk.get("id").asLong()).isEqualTo(7);
+        assertThat(desk.get("description").asText()).isEqualTo("Solid oak.\nSeats \"two\".");
+        assertThat(desk.get("price").decimalValue()).isEqualByComparingTo("149.90");
+        assertThat(desk.get("createdAt").asText()).isEqualTo("2026-01-02T03:04:05Z");
+        assertThat(desk.get("variants")).hasSize(2);
+        assertThat(desk.get("variants").get(1).get("sku").asText()).isEqualTo("SKU-7B");
+        JsonNode stool = objectMapper.readTree(lines[1]);
+        assertThat(stool.get("variants")).isEmpty();
+        assertThat(stool.get("description").isNull()).isTrue();
+    }
+
+    @Test
+    void exportedProductsReadBackAsOneRowPerVariant() throws IOException {
+        NdjsonRowReader reader = reader(export());
+        List<CatalogImportRow> rows = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        for (CatalogImportRow row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+            lines.add(reader.getLineNumber());
+        }
+
+        assertThat(rows).extracting(CatalogImportRow::getProductKey).containsExactly("7", "7", "8");
+        assertThat(rows).extracting(CatalogImportRow::getSku).containsExactly("SKU-7A", "SKU-7B", null);
+        assertThat(lines).containsExactly(1, 1, 2);
+        CatalogImportRow first = rows.get(0);
+        assertThat(first.getName()).isEqualTo("Desk");
+        assertThat(first.getDescription()).isEqualTo("Solid oak.\nSeats \"two\".");
+        assertThat(first.getBrand()).isEqualTo("Joinery");
+        assertThat(first.getCategoryId()).isEqualTo(3L);
+        assertThat(first.getPrice()).isEqualByComparingTo("149.90");
+        assertThat(first.getCurrency()).isEqualTo("USD");
+        assertThat(first.getStatus()).isEqualTo("ACTIVE");
+        assertThat(first.getColor()).isEqualTo("natural");
+        assertThat(first.getAdditionalPrice()).isEqualByComparingTo("2.50");
+        assertThat(rows.get(2).getName()).isEqualTo("Stool");
+        assertThat(rows.get(2).getAdditionalPrice()).isNull();
+    }
+
+    @Test
+    void flatRowsAreReadAsIs() throws IOException {
+        NdjsonRowReader reader = reader("""
+            {"productKey":"p-1","name":"Lamp","categoryName":"Lighting","price":"12.5","sku":"L-1","size":"M"}
+
+            {"productKey":"p-1","sku":"L-2"}
+            """);
+
+        CatalogImportRow first = reader.next();
+        CatalogImportRow second = reader.next();
+
+        assertThat(first.getProductKey()).isEqualTo("p-1");
+        assertThat(first.getCategoryName()).isEqualTo("Lighting");
+        assertThat(first.getPrice()).isEqualByComparingTo("12.5");
+        assertThat(first.getSize()).isEqualTo("M");
+        assertThat(second.getSku()).isEqualTo("L-2");
+        assertThat(second.getName()).isNull();
+        assertThat(reader.getLineNumber()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void badLinesFailAloneAndReadingContinues() throws IOException {
+        NdjsonRowReader reader = reader("""
+            {"name":"Lamp",
+            ["not", "an", "object"]
+            {"name":"Desk","price":"cheap"}
+            {"id":9,"name":"Shelf","variants":[{"sku":"S-1"},"S-2"]}
+            {"id":10,"name":"Rack","variants":{"sku":"R-1"}}
+            {"name":"Stool"}
+            """);
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Malformed JSON");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Each line must be a JSON object");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Malformed JSON");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Each variant must be a JSON object");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("variants must be an array");
+        assertThat(reader.next().getName()).isEqualTo("Stool");
+        assertThat(reader.getLineNumber()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    private String export() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonRowWriter writer = new NdjsonRowWriter(out, objectMapper)) {
+            writer.write(exportRow(7, 10L, "SKU-7A", "Desk", "Solid oak.\nSeats \"two\"."));
+            writer.write(exportRow(7, 11L, "SKU-7B", "Desk", "Solid oak.\nSeats \"two\"."));
+            writer.write(exportRow(8, null, null, "Stool", null));
+            assertThat(writer.getProductsWritten()).isEqualTo(2);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private NdjsonRowReader reader(String ndjson) {
+        return new NdjsonRowReader(new BufferedReader(new StringReader(ndjson)), objectMapper);
+    }
+
+    private static CatalogExportRow exportRow(
+        long productId,
+        Long variantId,
+        String sku,
+        String name,
+        String description
+    ) {
+        CatalogExportRow row = new CatalogExportRow();
+        row.setProductId(productId);
+        row.setName(name);
+        row.setDescription(description);
+        row.setBrand("Joinery");
+        row.setCategoryId(3);
+        row.setPrice(new BigDecimal("149.90"));
+        row.setCurrency("USD");
+        row.setStatus("ACTIVE");
+        row.setCreatedAt(Instant.parse("2026-01-02T03:04:05Z"));
+        row.setUpdatedAt(Instant.parse("2026-01-03T03:04:05Z"));
+        row.setVariantId(variantId);
+        row.setSku(sku);
+        if (variantId != null) {
+            row.setColor("natural");
+            row.setAdditionalPrice(new BigDecimal("2.50"));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,98 @@
+package com.qeetmart.product.popularity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void exactWhileNoCountersCollide() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (int i = 0; i < 7; i++) {
+            sketch.add(42);
+        }
+        sketch.add(43);
+
+        assertThat(estimates(new long[] {42, 43, 44}, sketch)).containsExactly(7, 1, 0);
+        assertThat(sketch.total()).isEqualTo(8);
+    }
+
+    /**
+     * With width 272 and depth 5 every estimate should overcount by at most {@code e / 272 * n}, about 1% of the
+     * stream, except with probability {@code e^-5}; the stream is Zipf-like so a few ids dominate the counters.
+     */
+    @Test
+    void neverUndercountsAndOvercountStaysWithinBound() {
+        int width = 272;
+        int depth = 5;
+        int distinct = 5_000;
+        CountMinSketch sketch = new CountMinSketch(width, depth);
+        long[] actual = new long[distinct];
+        SplittableRandom random = new SplittableRandom(7);
+        int events = 200_000;
+        for (int i = 0; i < events; i++) {
+            int id = (int) (distinct * Math.pow(random.nextDouble(), 3));
+            actual[id]++;
+            sketch.add(id);
+        }
+
+        long[] estimates = estimates(LongStream.range(0, distinct).toArray(), sketch);
+        double bound = CountMinSketch.epsilon(width) * events;
+        int outsideBound = 0;
+        for (int id = 0; id < distinct; id++) {
+            assertThat(estimates[id]).as("id %d", id).isGreaterThanOrEqualTo(actual[id]);
+            if (estimates[id] - actual[id] > bound) {
+                outsideBound++;
+            }
+        }
+        assertThat((double) outsideBound / distinct).isLessThanOrEqualTo(CountMinSketch.delta(depth));
+    }
+
+    @Test
+    void accumulateSumsRowsAcrossSketches() {
+        CountMinSketch first = new CountMinSketch(64, 3);
+        CountMinSketch second = new CountMinSketch(64, 3);
+        first.add(5);
+        first.add(5);
+        second.add(5);
+
+        assertThat(estimates(new long[] {5}, first, second)).containsExactly(3);
+    }
+
+    @Test
+    void clearResetsCountersAndTotal() {
+        CountMinSketch sketch = new CountMinSketch(64, 3);
+        sketch.add(1);
+        sketch.clear();
+
+        assertThat(sketch.total()).isZero();
+        assertThat(estimates(new long[] {1}, sketch)).containsExactly(0);
+    }
+
+    @Test
+    void boundsFollowDimensions() {
+        assertThat(CountMinSketch.epsilon(2048)).isCloseTo(Math.E / 2048, within(1e-12));
+        assertThat(CountMinSketch.delta(4)).isCloseTo(Math.exp(-4), within(1e-12));
+        assertThat(CountMinSketch.sizeInBytes(2048, 4)).isEqualTo(2048L * 4 * Integer.BYTES);
+    }
+
+    private static long[] estimates(long[] productIds, CountMinSketch... sketches) {
+        int depth = sketches[0].depth();
+        long[] rowSums = new long[productIds.length * depth];
+        for (CountMinSketch sketch : sketches) {
+            sketch.accumulate(productIds, rowSums);
+        }
+        long[] estimates = new long[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            estimates[i] = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                estimates[i] = Math.min(estimates[i], rowSums[i * depth + row]);
+            }
+        }
+        return estimates;
+    }
+}
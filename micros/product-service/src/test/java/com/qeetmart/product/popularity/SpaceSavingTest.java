@@ -0,0 +1,103 @@
+package com.qeetmart.product.popularity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    @Test
+    void keepsEveryIdWhileSlotsRemain() {
+        SpaceSaving summary = new SpaceSaving(3);
+        summary.offer(1);
+        summary.offer(2);
+        summary.offer(1);
+
+        assertThat(ids(summary)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void newIdEvictsTheSmallestCount() {
+        SpaceSaving summary = new SpaceSaving(3);
+        offer(summary, 1, 5);
+        offer(summary, 2, 4);
+        offer(summary, 3, 2);
+
+        summary.offer(4);
+        assertThat(ids(summary)).containsExactlyInAnyOrder(1L, 2L, 4L);
+
+        // 4 inherited 3's count of 2 plus its own view, so it now holds the minimum at 3 and is the next to go.
+        summary.offer(5);
+        assertThat(ids(summary)).containsExactlyInAnyOrder(1L, 2L, 5L);
+    }
+
+    @Test
+    void repeatedOffersMoveAnIdAwayFromEviction() {
+        SpaceSaving summary = new SpaceSaving(2);
+        offer(summary, 1, 3);
+        summary.offer(2);
+        offer(summary, 2, 3);
+
+        summary.offer(3);
+
+        assertThat(ids(summary)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    /**
+     * Any id seen more than {@code n / capacity} times must survive, however much one-off noise is interleaved.
+     */
+    @Test
+    void retainsHeavyHittersAmongNoise() {
+        int capacity = 10;
+        SpaceSaving summary = new SpaceSaving(capacity);
+        List<Long> stream = new ArrayList<>();
+        for (long heavy = 1; heavy <= 3; heavy++) {
+            for (int i = 0; i < 250; i++) {
+                stream.add(heavy);
+            }
+        }
+        for (long noise = 1_000; noise < 2_000; noise++) {
+            stream.add(noise);
+        }
+        shuffle(stream, new SplittableRandom(11));
+        stream.forEach(summary::offer);
+
+        assertThat(250).isGreaterThan(stream.size() / capacity);
+        assertThat(ids(summary)).contains(1L, 2L, 3L).hasSize(capacity);
+    }
+
+    @Test
+    void clearEmptiesTheSummary() {
+        SpaceSaving summary = new SpaceSaving(2);
+        summary.offer(1);
+        summary.offer(2);
+        summary.clear();
+        summary.offer(3);
+
+        assertThat(ids(summary)).containsExactly(3L);
+    }
+
+    private static void offer(SpaceSaving summary, long productId, int times) {
+        for (int i = 0; i < times; i++) {
+            summary.offer(productId);
+        }
+    }
+
+    private static List<Long> ids(SpaceSaving summary) {
+        List<Long> ids = new ArrayList<>();
+        summary.forEachId(ids::add);
+        return ids;
+    }
+
+    private static void shuffle(List<Long> values, SplittableRandom random) {
+        for (int i = values.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Long value = values.get(i);
+            values.set(i, values.get(j));
+            values.set(j, value);
+        }
+    }
+}
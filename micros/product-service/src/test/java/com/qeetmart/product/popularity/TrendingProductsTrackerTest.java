@@ -0,0 +1,149 @@
+package com.qeetmart.product.popularity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.config.CatalogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class TrendingProductsTrackerTest {
+
+    private static final Instant START = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+
+    @Test
+    void ranksByCountWithinTheWindow() {
+        TrendingProductsTracker tracker = tracker(4);
+        record(tracker, 1, 3);
+        record(tracker, 2, 5);
+        record(tracker, 3, 1);
+
+        TrendingSnapshot snapshot = tracker.top(4, 2);
+
+        assertThat(snapshot.entries()).containsExactly(
+            new TrendingSnapshot.Entry(2, 5),
+            new TrendingSnapshot.Entry(1, 3)
+        );
+        assertThat(snapshot.events()).isEqualTo(9);
+        assertThat(snapshot.from()).isEqualTo(START.minus(Duration.ofMinutes(3)));
+        assertThat(snapshot.to()).isEqualTo(START.plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void sumsAcrossBucketsAndDropsBucketsOutsideTheQuery() {
+        TrendingProductsTracker tracker = tracker(4);
+        record(tracker, 1, 4);
+        clock.advance(Duration.ofMinutes(1));
+        record(tracker, 1, 2);
+        record(tracker, 2, 3);
+
+        assertThat(tracker.top(2, 10).entries()).containsExactly(
+            new TrendingSnapshot.Entry(1, 6),
+            new TrendingSnapshot.Entry(2, 3)
+        );
+        assertThat(tracker.top(1, 10).entries()).containsExactly(
+            new TrendingSnapshot.Entry(2, 3),
+            new TrendingSnapshot.Entry(1, 2)
+        );
+    }
+
+    @Test
+    void viewsAgeOutOfTheWindow() {
+        TrendingProductsTracker tracker = tracker(3);
+        record(tracker, 1, 5);
+        clock.advance(Duration.ofMinutes(2));
+        record(tracker, 2, 1);
+
+        assertThat(tracker.top(3, 10).entries()).extracting(TrendingSnapshot.Entry::productId).containsExactly(1L, 2L);
+
+        clock.advance(Duration.ofMinutes(1));
+        TrendingSnapshot snapshot = tracker.top(3, 10);
+        assertThat(snapshot.entries()).containsExactly(new TrendingSnapshot.Entry(2, 1));
+        assertThat(snapshot.events()).isOne();
+    }
+
+    /**
+     * After a full turn of the ring the first bucket's slot is reused; the old counts must not leak into it.
+     */
+    @Test
+    void reusedBucketStartsEmpty() {
+        TrendingProductsTracker tracker = tracker(3);
+        record(tracker, 1, 5);
+        clock.advance(Duration.ofMinutes(3));
+        record(tracker, 2, 1);
+
+        TrendingSnapshot snapshot = tracker.top(3, 10);
+
+        assertThat(snapshot.entries()).containsExactly(new TrendingSnapshot.Entry(2, 1));
+        assertThat(snapshot.events()).isOne();
+    }
+
+    @Test
+    void idleWindowIsEmpty() {
+        TrendingProductsTracker tracker = tracker(3);
+        record(tracker, 1, 5);
+        clock.advance(Duration.ofHours(1));
+
+        TrendingSnapshot snapshot = tracker.top(3, 10);
+
+        assertThat(snapshot.entries()).isEmpty();
+        assertThat(snapshot.events()).isZero();
+    }
+
+    @Test
+    void disabledTrackerRecordsNothing() {
+        CatalogProperties properties = new CatalogProperties();
+        properties.getTrending().setEnabled(false);
+        TrendingProductsTracker tracker = new TrendingProductsTracker(properties, new SimpleMeterRegistry(), clock);
+        tracker.record(1);
+
+        assertThat(tracker.top(3, 10).entries()).isEmpty();
+    }
+
+    private TrendingProductsTracker tracker(int buckets) {
+        CatalogProperties properties = new CatalogProperties();
+        properties.getTrending().setBucketDuration(Duration.ofMinutes(1));
+        properties.getTrending().setBuckets(buckets);
+        return new TrendingProductsTracker(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    private static void record(TrendingProductsTracker tracker, long productId, int views) {
+        for (int i = 0; i < views; i++) {
+            tracker.record(productId);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.qeetmart.product.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.PagedResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import java.math.BigDecimal;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "app.catalog.read-model.enabled=true")
+class CatalogReadModelTest {
+
+    private static final long OUT_OF_RANGE_ID = Integer.MAX_VALUE + 1L;
+
+    @Autowired
+    private CatalogReadModel catalogReadModel;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * An id the bitmaps cannot hold will be there on every reload too, so the read model must switch itself off
+     * for good instead of reloading on each change.
+     */
+    @Test
+    void outOfRangeIdFallsBackToDatabasePermanently() throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !catalogReadModel.isReady(); attempt++) {
+            Thread.sleep(50);
+        }
+        assertThat(catalogReadModel.isReady()).isTrue();
+
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Read model overflow");
+        Long categoryId = categoryService.createCategory(category).getId();
+        Long inRange = createProduct(categoryId, "In range");
+        Long overflowing = createProduct(categoryId, "Out of range");
+        jdbcTemplate.update("update products set id = ? where id = ?", OUT_OF_RANGE_ID, overflowing);
+
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, OUT_OF_RANGE_ID));
+        assertThat(catalogReadModel.isReady()).isFalse();
+
+        eventPublisher.publishEvent(ProductsChangedEvent.of(ProductChangeType.UPDATED, inRange));
+        Thread.sleep(500);
+        assertThat(catalogReadModel.isReady()).isFalse();
+        assertThat(catalogReadModel.findPage(new ProductFilter(), PageRequest.of(0, 10))).isEmpty();
+
+        ProductFilter filter = ProductFilter.builder().categoryId(categoryId).build();
+        PagedResponse<ProductResponse> page = productService.getProducts(filter, Set.of(), PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(ProductResponse::getId).containsExactly(inRange, OUT_OF_RANGE_ID);
+    }
+
+    private Long createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Overflow");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("3.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+}
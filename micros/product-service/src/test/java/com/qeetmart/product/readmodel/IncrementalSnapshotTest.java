@@ -0,0 +1,192 @@
+package com.qeetmart.product.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class IncrementalSnapshotTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void changesDuringALoadAreAppliedOnceItIsInstalled() throws InterruptedException {
+        NameSnapshot names = new NameSnapshot();
+        names.database.put(1L, "one");
+        names.blockLoads();
+
+        names.reload();
+        names.awaitLoadStarted();
+        names.database.put(2L, "two");
+        names.database.remove(1L);
+        names.refresh(List.of(1L, 2L));
+        names.releaseLoads();
+
+        awaitReady(names);
+        assertThat(names.lookUp(1L)).isEmpty();
+        assertThat(names.lookUp(2L)).contains("two");
+    }
+
+    @Test
+    void reloadDuringALoadLoadsAgain() throws InterruptedException {
+        NameSnapshot names = new NameSnapshot();
+        names.database.put(1L, "one");
+        names.blockLoads();
+
+        names.reload();
+        names.awaitLoadStarted();
+        names.reload();
+        names.database.put(1L, "uno");
+        names.releaseLoads();
+
+        awaitReady(names);
+        assertThat(names.loads).hasValue(2);
+        assertThat(names.lookUp(1L)).contains("uno");
+    }
+
+    @Test
+    void failedRefreshReloads() throws InterruptedException {
+        NameSnapshot names = new NameSnapshot();
+        names.database.put(1L, "one");
+        names.reload();
+        awaitReady(names);
+
+        names.database.put(1L, "uno");
+        names.failFetches = true;
+        names.refresh(List.of(1L));
+        names.failFetches = false;
+
+        awaitReady(names);
+        assertThat(names.loads).hasValue(2);
+        assertThat(names.lookUp(1L)).contains("uno");
+    }
+
+    @Test
+    void permanentFailureDisablesForGood() throws InterruptedException {
+        NameSnapshot names = new NameSnapshot();
+        names.database.put(1L, "one");
+        names.reload();
+        awaitReady(names);
+
+        names.failPermanently = true;
+        names.refresh(List.of(1L));
+        names.reload();
+
+        assertThat(names.isReady()).isFalse();
+        assertThat(names.lookUp(1L)).isEmpty();
+        assertThat(names.loads).hasValue(1);
+    }
+
+    private static void awaitReady(NameSnapshot names) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!names.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(names.isReady()).isTrue();
+    }
+
+    /**
+     * Snapshot of an in-memory "table" of names; loads can be held until the test releases them.
+     */
+    private static final class NameSnapshot extends IncrementalSnapshot<Map<Long, String>, Map.Entry<Long, String>> {
+
+        final Map<Long, String> database = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+        private CountDownLatch loadGate = new CountDownLatch(0);
+        volatile boolean failFetches;
+        volatile boolean failPermanently;
+
+        NameSnapshot() {
+            super(new NoOpTransactionManager(), "Test names", "nothing");
+        }
+
+        void blockLoads() {
+            loadGate = new CountDownLatch(1);
+        }
+
+        void releaseLoads() {
+            loadGate.countDown();
+        }
+
+        void awaitLoadStarted() throws InterruptedException {
+            assertThat(loadStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        Optional<String> lookUp(Long id) {
+            return read(names -> names.get(id));
+        }
+
+        @Override
+        protected Map<Long, String> loadSnapshot() {
+            loads.incrementAndGet();
+            Map<Long, String> loaded = new HashMap<>(database);
+            loadStarted.countDown();
+            try {
+                loadGate.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return loaded;
+        }
+
+        @Override
+        protected void fetch(Collection<Long> productIds, Consumer<Map.Entry<Long, String>> consumer) {
+            if (failPermanently) {
+                throw new IllegalStateException("permanent");
+            }
+            if (failFetches) {
+                throw new IllegalStateException("transient");
+            }
+            productIds.stream()
+                .filter(database::containsKey)
+                .forEach(id -> consumer.accept(Map.entry(id, database.get(id))));
+        }
+
+        @Override
+        protected void apply(Map<Long, String> names, Collection<Long> productIds, List<Map.Entry<Long, String>> rows) {
+            productIds.forEach(names::remove);
+            rows.forEach(row -> names.put(row.getKey(), row.getValue()));
+        }
+
+        @Override
+        protected int size(Map<Long, String> names) {
+            return names.size();
+        }
+
+        @Override
+        protected boolean isPermanent(RuntimeException ex) {
+            return "permanent".equals(ex.getMessage());
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
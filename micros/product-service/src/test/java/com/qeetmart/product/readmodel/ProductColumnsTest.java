@@ -0,0 +1,150 @@
+package com.qeetmart.product.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+class ProductColumnsTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ProductColumns columns = new ProductColumns();
+
+    @BeforeEach
+    void load() {
+        columns.apply(row(1, 10, "Acme", ProductStatus.ACTIVE, "5.00", 1));
+        columns.apply(row(2, 10, "acme", ProductStatus.INACTIVE, "10.00", 2));
+        columns.apply(row(3, 20, "Globex", ProductStatus.ACTIVE, "49.99", 3));
+        columns.apply(row(4, 20, "Acme", ProductStatus.ACTIVE, "50.00", 4));
+        columns.apply(row(1_500_000_000L, 30, "Initech", ProductStatus.ACTIVE, "99.00", 5));
+    }
+
+    @Test
+    void selectIntersectsPredicatesInIdOrder() {
+        assertThat(ids(columns.select(new ProductFilter()))).containsExactly(1, 2, 3, 4, 1_500_000_000);
+        assertThat(ids(columns.select(filter(10L, null, null)))).containsExactly(1, 2);
+        assertThat(ids(columns.select(filter(null, "ACME", null)))).containsExactly(1, 2, 4);
+        assertThat(ids(columns.select(filter(null, "acme", ProductStatus.ACTIVE)))).containsExactly(1, 4);
+        assertThat(ids(columns.select(filter(20L, "Acme", ProductStatus.ACTIVE)))).containsExactly(4);
+        assertThat(ids(columns.select(filter(null, "Umbrella", null)))).isEmpty();
+        assertThat(ids(columns.select(filter(99L, null, null)))).isEmpty();
+    }
+
+    @Test
+    void selectReturnsACopy() {
+        columns.select(filter(10L, null, null)).clear();
+        columns.select(new ProductFilter()).clear();
+
+        assertThat(ids(columns.select(filter(10L, null, null)))).containsExactly(1, 2);
+        assertThat(columns.size()).isEqualTo(5);
+    }
+
+    @Test
+    void updateMovesProductBetweenBitmaps() {
+        columns.apply(row(3, 10, "Acme", ProductStatus.INACTIVE, "12.00", 9));
+
+        assertThat(ids(columns.select(filter(20L, null, null)))).containsExactly(4);
+        assertThat(ids(columns.select(filter(10L, "acme", ProductStatus.INACTIVE)))).containsExactly(2, 3);
+        assertThat(columns.countByBrand(columns.select(new ProductFilter()))).doesNotContainKey("Globex");
+        assertThat(columns.size()).isEqualTo(5);
+    }
+
+    @Test
+    void removeDropsProductAndEmptyCategory() {
+        columns.remove(1_500_000_000L);
+        columns.remove(2);
+        columns.remove(2);
+        columns.remove(Integer.MAX_VALUE + 1L);
+
+        RoaringBitmap all = columns.select(new ProductFilter());
+        assertThat(ids(all)).containsExactly(1, 3, 4);
+        assertThat(columns.countByCategory(all)).containsOnlyKeys("10", "20");
+        assertThat(columns.countByStatus(all)).containsExactly(Map.entry("ACTIVE", 3L));
+        assertThat(columns.size()).isEqualTo(3);
+    }
+
+    @Test
+    void deletedRowIsRemovedAndItsSlotReused() {
+        ProductRow deleted = row(2, 10, "acme", ProductStatus.INACTIVE, "10.00", 2);
+        deleted.setDeleted(true);
+        columns.apply(deleted);
+        columns.apply(row(6, 40, "Hooli", ProductStatus.ACTIVE, "7.00", 6));
+
+        RoaringBitmap all = columns.select(new ProductFilter());
+        assertThat(ids(all)).containsExactly(1, 3, 4, 6, 1_500_000_000);
+        assertThat(columns.countByPriceBucket(all, List.of(new BigDecimal("10.00")))).containsExactly(2, 3);
+        assertThat(columns.lastModified(columns.select(filter(40L, null, null)))).isEqualTo(BASE.plusSeconds(6));
+    }
+
+    @Test
+    void facetCountsFollowMatches() {
+        RoaringBitmap active = columns.select(filter(null, null, ProductStatus.ACTIVE));
+
+        assertThat(columns.countByBrand(active)).containsOnly(
+            Map.entry("Acme", 2L), Map.entry("Globex", 1L), Map.entry("Initech", 1L)
+        );
+        assertThat(columns.countByCategory(active)).containsOnly(
+            Map.entry("10", 1L), Map.entry("20", 2L), Map.entry("30", 1L)
+        );
+        assertThat(columns.countByStatus(columns.select(new ProductFilter()))).containsOnly(
+            Map.entry("ACTIVE", 4L), Map.entry("INACTIVE", 1L)
+        );
+    }
+
+    @Test
+    void priceBucketsIncludeLowerBoundary() {
+        List<BigDecimal> boundaries = List.of(new BigDecimal("10"), new BigDecimal("50"));
+
+        assertThat(columns.countByPriceBucket(columns.select(new ProductFilter()), boundaries))
+            .containsExactly(1, 2, 2);
+    }
+
+    @Test
+    void lastModifiedIsLatestAmongMatches() {
+        assertThat(columns.lastModified(columns.select(filter(10L, null, null)))).isEqualTo(BASE.plusSeconds(2));
+        assertThat(columns.lastModified(columns.select(new ProductFilter()))).isEqualTo(BASE.plusSeconds(5));
+        assertThat(columns.lastModified(new RoaringBitmap())).isNull();
+    }
+
+    @Test
+    void rejectsIdsOutsideBitmapRange() {
+        assertThatThrownBy(() -> columns.apply(row(Integer.MAX_VALUE + 1L, 10, "Acme", ProductStatus.ACTIVE, "1", 1)))
+            .isInstanceOf(ProductColumns.KeyRangeExceededException.class);
+        assertThat(columns.size()).isEqualTo(5);
+    }
+
+    private static ProductFilter filter(Long categoryId, String brand, ProductStatus status) {
+        return ProductFilter.builder().categoryId(categoryId).brand(brand).status(status).build();
+    }
+
+    private static List<Integer> ids(RoaringBitmap bitmap) {
+        return bitmap.stream().boxed().toList();
+    }
+
+    private static ProductRow row(
+        long id,
+        long categoryId,
+        String brand,
+        ProductStatus status,
+        String price,
+        int second
+    ) {
+        ProductRow row = new ProductRow();
+        row.setId(id);
+        row.setCategoryId(categoryId);
+        row.setBrand(brand);
+        row.setStatus(status.name());
+        row.setPrice(new BigDecimal(price));
+        row.setUpdatedAt(BASE.plusSeconds(second));
+        return row;
+    }
+}
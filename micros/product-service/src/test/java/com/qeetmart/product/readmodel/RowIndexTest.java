@@ -0,0 +1,71 @@
+package com.qeetmart.product.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RowIndexTest {
+
+    private final RowIndex index = new RowIndex();
+
+    @Test
+    void putGetAndReplace() {
+        index.put(7, 0);
+        index.put(Integer.MAX_VALUE, 1);
+        index.put(7, 2);
+
+        assertThat(index.get(7)).isEqualTo(2);
+        assertThat(index.get(Integer.MAX_VALUE)).isEqualTo(1);
+        assertThat(index.get(8)).isEqualTo(RowIndex.ABSENT);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sparseIdsDoNotSizeTheTable() {
+        index.put(Integer.MAX_VALUE - 1, 0);
+        index.put(1_000_000_000, 1);
+
+        assertThat(index.capacity()).isEqualTo(new RowIndex().capacity());
+    }
+
+    @Test
+    void removeKeepsLaterEntriesOfTheProbeChainReachable() {
+        int capacity = index.capacity();
+        for (int key = 0; key < capacity / 2 - 1; key++) {
+            index.put(key, key);
+        }
+        for (int key = 0; key < capacity / 2 - 1; key += 3) {
+            index.remove(key);
+        }
+
+        for (int key = 0; key < capacity / 2 - 1; key++) {
+            assertThat(index.get(key)).isEqualTo(key % 3 == 0 ? RowIndex.ABSENT : key);
+        }
+        index.remove(capacity * 10);
+        assertThat(index.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomChurn() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                index.remove(key);
+                expected.remove(key);
+            } else {
+                index.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 5_000; key++) {
+            assertThat(index.get(key)).isEqualTo(expected.getOrDefault(key, RowIndex.ABSENT));
+        }
+    }
+}
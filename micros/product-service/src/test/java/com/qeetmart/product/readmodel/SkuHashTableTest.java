@@ -0,0 +1,130 @@
+package com.qeetmart.product.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class SkuHashTableTest {
+
+    private final SkuHashTable table = new SkuHashTable();
+
+    @Test
+    void putAndGet() {
+        table.put("sku-1", variant(10, 1, "SKU-1"));
+        table.put("sku-2", variant(11, 1, "SKU-2"));
+
+        assertThat(table.get("sku-1").variantId()).isEqualTo(10);
+        assertThat(table.get("sku-2").sku()).isEqualTo("SKU-2");
+        assertThat(table.get("sku-3")).isNull();
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putReplacesExistingKey() {
+        table.put("sku-1", variant(10, 1, "SKU-1"));
+        table.put("sku-1", variant(12, 2, "sku-1"));
+
+        assertThat(table.get("sku-1").variantId()).isEqualTo(12);
+        assertThat(table.size()).isOne();
+    }
+
+    @Test
+    void removeOnlyWhileOwnedByProduct() {
+        table.put("sku-1", variant(10, 1, "SKU-1"));
+
+        table.remove("sku-1", 2);
+        assertThat(table.get("sku-1")).isNotNull();
+
+        table.remove("sku-1", 1);
+        assertThat(table.get("sku-1")).isNull();
+        assertThat(table.size()).isZero();
+        table.remove("sku-1", 1);
+        assertThat(table.size()).isZero();
+    }
+
+    /**
+     * "Aa" and "BB" share a hash code, so they probe the same chain; removing the first leaves a tombstone the
+     * lookup for the second has to step over.
+     */
+    @Test
+    void lookupsProbePastTombstones() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        table.put("Aa", variant(1, 1, "Aa"));
+        table.put("BB", variant(2, 2, "BB"));
+
+        table.remove("Aa", 1);
+
+        assertThat(table.get("Aa")).isNull();
+        assertThat(table.get("BB").variantId()).isEqualTo(2);
+    }
+
+    @Test
+    void updateBehindTombstoneDoesNotDuplicateKey() {
+        table.put("Aa", variant(1, 1, "Aa"));
+        table.put("BB", variant(2, 2, "BB"));
+        table.remove("Aa", 1);
+
+        table.put("BB", variant(3, 2, "BB"));
+        assertThat(table.size()).isOne();
+        assertThat(table.get("BB").variantId()).isEqualTo(3);
+
+        table.remove("BB", 2);
+        assertThat(table.get("BB")).isNull();
+        assertThat(table.size()).isZero();
+    }
+
+    @Test
+    void insertReusesTombstone() {
+        table.put("Aa", variant(1, 1, "Aa"));
+        table.put("BB", variant(2, 2, "BB"));
+        table.remove("Aa", 1);
+
+        table.put("C#", variant(3, 3, "C#"));
+
+        assertThat("C#".hashCode()).isEqualTo("Aa".hashCode());
+        assertThat(table.get("C#").variantId()).isEqualTo(3);
+        assertThat(table.get("BB").variantId()).isEqualTo(2);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    void growsAndKeepsEveryEntry() {
+        int initialCapacity = table.capacity();
+        int count = initialCapacity * 4;
+        for (int i = 0; i < count; i++) {
+            table.put("sku-" + i, variant(i, i / 3, "SKU-" + i));
+        }
+
+        assertThat(table.capacity()).isGreaterThan(initialCapacity);
+        assertThat(table.size()).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(table.get("sku-" + i).variantId()).isEqualTo(i);
+        }
+    }
+
+    /**
+     * Steady create and delete churn must not grow the table: tombstones are reclaimed by rehashing in place.
+     */
+    @Test
+    void churnDoesNotGrowTable() {
+        int capacity = table.capacity();
+        for (int i = 0; i < capacity * 20; i++) {
+            table.put("sku-" + i, variant(i, i, "SKU-" + i));
+            if (i >= 100) {
+                table.remove("sku-" + (i - 100), i - 100);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(100);
+        assertThat(table.capacity()).isEqualTo(capacity);
+        assertThat(table.get("sku-" + (capacity * 20 - 1))).isNotNull();
+        assertThat(table.get("sku-0")).isNull();
+    }
+
+    private static VariantSku variant(long variantId, long productId, String sku) {
+        Instant now = Instant.now();
+        return new VariantSku(variantId, productId, sku, "red", "M", BigDecimal.ONE, now, now);
+    }
+}
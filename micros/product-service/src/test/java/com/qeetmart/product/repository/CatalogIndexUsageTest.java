@@ -0,0 +1,222 @@
+package com.qeetmart.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.specification.ProductSpecification;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.qeetmart.product.repository.CatalogIndexUsageTest$CapturingStatementInspector"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class CatalogIndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductListingRepository productListingRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductChangeRepository productChangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<ProductFilter> filterCombinations() {
+        List<ProductFilter> filters = new ArrayList<>();
+        for (int mask = 0; mask < 8; mask++) {
+            filters.add(ProductFilter.builder()
+                .categoryId((mask & 1) != 0 ? 1L : null)
+                .brand((mask & 2) != 0 ? "Nike" : null)
+                .status((mask & 4) != 0 ? ProductStatus.ACTIVE : null)
+                .build());
+        }
+        return filters.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    void listingSpecificationsUseIndexes(ProductFilter filter) {
+        String[] indexes = listingIndexes(filter);
+        assertUsesIndex(
+            () -> productRepository.findAll(ProductSpecification.matches(filter), PageRequest.of(2, 10)),
+            indexes
+        );
+        assertUsesIndex(() -> productRepository.findVersion(ProductSpecification.matches(filter)), indexes);
+        assertUsesIndex(() -> productListingRepository.findPage(filter, PageRequest.of(2, 10)), indexes);
+        assertUsesIndex(() -> productListingRepository.findVersion(filter), indexes);
+    }
+
+    @Test
+    void priceRangeListingsUseIndexes() {
+        ProductFilter filter = ProductFilter.builder()
+            .minPrice(new BigDecimal("10.00"))
+            .maxPrice(new BigDecimal("50.00"))
+            .build();
+        String[] indexes = {"idx_products_live_min_price", "idx_products_live_max_price"};
+        assertUsesIndex(() -> productRepository.findAll(
+            ProductSpecification.matches(filter),
+            PageRequest.of(2, 10, Sort.by("minEffectivePrice"))
+        ), indexes);
+        assertUsesIndex(() -> productRepository.findVersion(ProductSpecification.matches(filter)), indexes);
+        assertUsesIndex(() -> productListingRepository.findPage(
+            filter,
+            PageRequest.of(2, 10, Sort.by("minEffectivePrice"))
+        ), indexes);
+        assertUsesIndex(() -> productListingRepository.findVersion(filter), indexes);
+    }
+
+    @Test
+    void productRepositoryQueriesUseIndexes() {
+        assertUsesIndex(() -> productRepository.findByIdAndIsDeletedFalse(1L), "products_pkey");
+        assertUsesIndex(
+            () -> productRepository.existsByCategoryIdAndIsDeletedFalse(1L),
+            "idx_products_live_category"
+        );
+        assertUsesIndex(() -> productRepository.findUpdatedAtById(1L), "products_pkey");
+        assertUsesIndex(() -> productRepository.findAllWithVariantsByIdIn(List.of(1L, 2L)), "products_pkey");
+        assertUsesIndex(() -> productRepository.refreshEffectivePrices(List.of(1L, 2L)), "products_pkey");
+    }
+
+    @Test
+    void variantRepositoryQueriesUseIndexes() {
+        String sku = "idx_product_variants_sku_lower";
+        assertUsesIndex(() -> productVariantRepository.findAllByProductId(1L), "idx_product_variants_product");
+        assertUsesIndex(() -> productVariantRepository.findByIdAndProductId(1L, 1L), "product_variants_pkey");
+        assertUsesIndex(() -> productVariantRepository.existsBySkuIgnoreCase("SKU-1"), sku);
+        assertUsesIndex(() -> productVariantRepository.existsBySkuIgnoreCaseAndIdNot("SKU-1", 1L), sku);
+        assertUsesIndex(() -> productVariantRepository.findExistingSkusIgnoreCase(List.of("sku-1", "sku-2")), sku);
+        assertUsesIndex(() -> productVariantRepository.findAllBySkuInIgnoreCase(List.of("sku-1", "sku-2")), sku);
+        assertUsesIndex(() -> productVariantRepository.findLiveBySkuIgnoreCase("sku-1"), sku);
+        assertUsesIndex(() -> productVariantRepository.findVersionByProductId(1L), "idx_product_variants_product");
+    }
+
+    @Test
+    void categoryRepositoryQueriesUseIndexes() {
+        assertUsesIndex(() -> categoryRepository.existsByNameIgnoreCase("Shoes"), "idx_categories_name_lower");
+        assertUsesIndex(
+            () -> categoryRepository.existsByNameIgnoreCaseAndIdNot("Shoes", 1L),
+            "idx_categories_name_lower"
+        );
+        assertUsesIndex(() -> categoryRepository.findUpdatedAtById(1L), "categories_pkey");
+    }
+
+    @Test
+    void changeFeedQueriesUseIndexes() {
+        assertUsesIndex(() -> productChangeRepository.findAfter(0L, PageRequest.ofSize(100)), "uk_product_changes_seq");
+    }
+
+    /**
+     * The predicate-aligned indexes a listing with this filter may use; with no filter, any of the live indexes
+     * matches the {@code is_deleted = false} predicate.
+     */
+    private static String[] listingIndexes(ProductFilter filter) {
+        List<String> indexes = new ArrayList<>();
+        if (filter.getCategoryId() != null) {
+            indexes.add("idx_products_live_category");
+        }
+        if (filter.getBrand() != null) {
+            indexes.add("idx_products_live_brand");
+        }
+        if (filter.getStatus() != null) {
+            indexes.add("idx_products_live_status");
+        }
+        if (indexes.isEmpty()) {
+            indexes.addAll(List.of(
+                "idx_products_live_category",
+                "idx_products_live_brand",
+                "idx_products_live_status",
+                "idx_products_live_min_price",
+                "idx_products_live_max_price"
+            ));
+        }
+        return indexes.toArray(String[]::new);
+    }
+
+    /**
+     * With sequential scans disabled the planner falls back to any index at all, so each statement's plan must
+     * name one of the indexes the query is meant to use.
+     */
+    private void assertUsesIndex(Runnable query, String... indexes) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> query.run());
+        List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as(sql).doesNotContain("Seq Scan");
+            assertThat(Stream.of(indexes).anyMatch(plan::contains))
+                .as("%s%n%s%nexpected one of %s", sql, plan, List.of(indexes))
+                .isTrue();
+        }
+    }
+
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList(
+                "explain (generic_plan) " + numbered,
+                String.class
+            ));
+        });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
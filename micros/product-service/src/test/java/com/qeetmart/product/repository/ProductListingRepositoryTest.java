@@ -0,0 +1,122 @@
+package com.qeetmart.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.entity.ProductStatus;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Guards the property the named listing queries exist for: a filter shape is translated once and renders the same
+ * SQL whatever its values, so neither Hibernate nor the driver has to prepare it again.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.qeetmart.product.repository.ProductListingRepositoryTest$CapturingStatementInspector"
+})
+class ProductListingRepositoryTest {
+
+    private static final int SHAPES = 1 << 5;
+
+    @Autowired
+    private ProductListingRepository productListingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void sameShapeRendersIdenticalSqlForAnyValues() {
+        for (int mask = 0; mask < SHAPES; mask++) {
+            assertThat(listingSql(filter(mask, 2))).as("shape %d", mask).isEqualTo(listingSql(filter(mask, 1)));
+        }
+    }
+
+    @Test
+    void everyShapeHasItsOwnStatement() {
+        Set<String> statements = new HashSet<>();
+        for (int mask = 0; mask < SHAPES; mask++) {
+            statements.addAll(listingSql(filter(mask, 1)));
+        }
+
+        assertThat(statements).hasSize(SHAPES * 2);
+    }
+
+    @Test
+    void repeatedShapesReuseTheCompiledPlan() {
+        runAllShapes(1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        runAllShapes(2);
+        runAllShapes(3);
+
+        List<String> listingQueries = Arrays.stream(statistics.getQueries())
+            .filter(hql -> hql.contains(" from Product p where p.isDeleted = false"))
+            .toList();
+        assertThat(listingQueries).hasSize(SHAPES * 2);
+        for (String hql : listingQueries) {
+            QueryStatistics query = statistics.getQueryStatistics(hql);
+            assertThat(query.getPlanCacheMissCount()).as(hql).isZero();
+            assertThat(query.getPlanCacheHitCount()).as(hql).isPositive();
+        }
+    }
+
+    private void runAllShapes(long seed) {
+        for (int mask = 0; mask < SHAPES; mask++) {
+            listingSql(filter(mask, seed));
+        }
+    }
+
+    /**
+     * Runs the page and version query for {@code filter} and returns the SQL they rendered. Nothing matches the
+     * generated filters, so the page never issues its count query.
+     */
+    private List<String> listingSql(ProductFilter filter) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            productListingRepository.findPage(filter, PageRequest.of(0, 10));
+            productListingRepository.findVersion(filter);
+        });
+        return List.copyOf(CapturingStatementInspector.STATEMENTS);
+    }
+
+    private static ProductFilter filter(int mask, long seed) {
+        return ProductFilter.builder()
+            .categoryId((mask & 1) != 0 ? 1_000_000 + seed : null)
+            .brand((mask & 1 << 1) != 0 ? "No such brand " + seed : null)
+            .status((mask & 1 << 2) != 0 ? ProductStatus.values()[(int) (seed % ProductStatus.values().length)] : null)
+            .minPrice((mask & 1 << 3) != 0 ? BigDecimal.valueOf(900_000 + seed) : null)
+            .maxPrice((mask & 1 << 4) != 0 ? BigDecimal.valueOf(-seed) : null)
+            .build();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.qeetmart.product.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.config.CatalogProperties;
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.repository.ProductScheduleRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository.ScheduleRow;
+import com.qeetmart.product.service.CategoryService;
+import com.qeetmart.product.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class ProductSchedulerTest {
+
+    @Autowired
+    private ProductScheduleRepository productScheduleRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CatalogProperties catalogProperties;
+
+    private ProductScheduler productScheduler;
+
+    /**
+     * A scheduler of its own, so the context's background ticks cannot split the test's schedules across chunks.
+     * Its wheel starts now, which puts overdue schedules on a tick the first {@code tick()} already covers.
+     */
+    @BeforeEach
+    void createScheduler() {
+        productScheduler = new ProductScheduler(
+            productScheduleRepository, transactionTemplate, eventPublisher, catalogProperties, new SimpleMeterRegistry()
+        );
+    }
+
+    /**
+     * Several overdue changes to one product land in the same chunk; they must be applied in {@code apply_at}
+     * order, not insertion order, so the field values of the latest schedule win.
+     */
+    @Test
+    void latestScheduleWinsWithinAChunk() {
+        Long categoryId = createCategory("Scheduler chunk");
+        Long product = createProduct(categoryId, "Rescheduled");
+        Long other = createProduct(categoryId, "Deactivated");
+        Long deleted = createProduct(categoryId, "Gone");
+        productService.deleteProduct(deleted);
+
+        Instant now = Instant.now();
+        List<ScheduleRow> rows = transactionTemplate.execute(status -> List.of(
+            productScheduleRepository.insert(product, ProductStatus.ACTIVE, null, hoursAgo(now, 1), now),
+            productScheduleRepository.insert(product, null, new BigDecimal("11.00"), hoursAgo(now, 3), now),
+            productScheduleRepository.insert(
+                product, ProductStatus.INACTIVE, new BigDecimal("12.00"), hoursAgo(now, 2), now
+            ),
+            productScheduleRepository.insert(other, ProductStatus.INACTIVE, null, hoursAgo(now, 1), now),
+            productScheduleRepository.insert(deleted, ProductStatus.INACTIVE, null, hoursAgo(now, 1), now)
+        ));
+        rows.forEach(row -> productScheduler.offer(row.id(), row.applyAt()));
+
+        productScheduler.tick();
+
+        ProductResponse rescheduled = productService.getProductById(product);
+        assertThat(rescheduled.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(rescheduled.getPrice()).isEqualByComparingTo("12.00");
+        assertThat(productService.getProductById(other).getStatus()).isEqualTo(ProductStatus.INACTIVE);
+
+        assertThat(states(product)).containsOnly(
+            Map.entry(rows.get(0).id(), ProductScheduleState.APPLIED),
+            Map.entry(rows.get(1).id(), ProductScheduleState.APPLIED),
+            Map.entry(rows.get(2).id(), ProductScheduleState.APPLIED)
+        );
+        assertThat(states(deleted)).containsOnly(Map.entry(rows.get(4).id(), ProductScheduleState.SKIPPED));
+    }
+
+    @Test
+    void cancelledScheduleIsNotApplied() {
+        Long product = createProduct(createCategory("Scheduler cancel"), "Kept");
+        Instant now = Instant.now();
+        ScheduleRow row = productScheduleRepository.insert(
+            product, ProductStatus.INACTIVE, null, now.minus(Duration.ofMinutes(5)), now
+        );
+        productScheduleRepository.finish(List.of(row.id()), ProductScheduleState.CANCELLED, now);
+        productScheduler.offer(row.id(), row.applyAt());
+
+        productScheduler.tick();
+
+        assertThat(productService.getProductById(product).getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(states(product)).containsOnly(Map.entry(row.id(), ProductScheduleState.CANCELLED));
+    }
+
+    private Map<Long, ProductScheduleState> states(Long productId) {
+        return productScheduleRepository.findByProductId(productId).stream()
+            .collect(Collectors.toMap(ScheduleRow::id, ScheduleRow::state));
+    }
+
+    private static Instant hoursAgo(Instant now, int hours) {
+        return now.minus(Duration.ofHours(hours));
+    }
+
+    private Long createCategory(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name);
+        return categoryService.createCategory(category).getId();
+    }
+
+    private Long createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Timekeeper");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+}
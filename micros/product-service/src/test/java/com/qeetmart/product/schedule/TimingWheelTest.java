@@ -0,0 +1,90 @@
+package com.qeetmart.product.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(100);
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, at(0));
+
+    /**
+     * A deadline inside a tick rounds up to the end of that tick, so nothing fires before it is due.
+     */
+    @Test
+    void deadlineRoundsUpToTheNextTick() {
+        wheel.add("mid-tick", at(250));
+        wheel.add("on-boundary", at(200));
+
+        assertThat(wheel.advance(at(199))).isEmpty();
+        assertThat(wheel.advance(at(200))).containsExactly("on-boundary");
+        assertThat(wheel.advance(at(299))).isEmpty();
+        assertThat(wheel.advance(at(300))).containsExactly("mid-tick");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void overdueEntryFiresOnTheNextAdvance() {
+        wheel.advance(at(1_000));
+        wheel.add("overdue", at(400));
+
+        assertThat(wheel.advance(at(1_000))).isEmpty();
+        assertThat(wheel.advance(at(1_100))).containsExactly("overdue");
+    }
+
+    @Test
+    void entriesFireOnce() {
+        wheel.add("once", at(100));
+
+        assertThat(wheel.advance(at(150))).containsExactly("once");
+        assertThat(wheel.advance(at(150))).isEmpty();
+        assertThat(wheel.advance(at(900))).isEmpty();
+    }
+
+    /**
+     * Ticks 3, 11 and 19 share a slot on an eight-slot wheel; each entry must wait for its own turn.
+     */
+    @Test
+    void slotIsSharedAcrossTurns() {
+        wheel.add("turn 2", at(1_100));
+        wheel.add("turn 1", at(300));
+        wheel.add("turn 3", at(1_900));
+
+        assertThat(wheel.advance(at(300))).containsExactly("turn 1");
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(at(1_000))).isEmpty();
+        assertThat(wheel.advance(at(1_100))).containsExactly("turn 2");
+        assertThat(wheel.advance(at(1_900))).containsExactly("turn 3");
+    }
+
+    @Test
+    void catchesUpAfterAStallLongerThanATurn() {
+        wheel.add("a", at(200));
+        wheel.add("b", at(700));
+        wheel.add("c", at(1_500));
+        wheel.add("d", at(3_000));
+        wheel.add("later", at(4_200));
+
+        assertThat(wheel.advance(at(4_000))).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(wheel.size()).isOne();
+        assertThat(wheel.advance(at(4_199))).isEmpty();
+        assertThat(wheel.advance(at(4_200))).containsExactly("later");
+    }
+
+    @Test
+    void clockGoingBackwardsFiresNothing() {
+        wheel.add("a", at(500));
+        wheel.advance(at(400));
+
+        assertThat(wheel.advance(at(100))).isEmpty();
+        assertThat(wheel.size()).isOne();
+    }
+
+    private static Instant at(long millis) {
+        return Instant.EPOCH.plusMillis(1_000_000 + millis);
+    }
+}
@@ -0,0 +1,103 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.BulkOperationRequest;
+import com.qeetmart.product.dto.request.BulkOperationType;
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductFilter;
+import com.qeetmart.product.dto.response.BulkOperationResponse;
+import com.qeetmart.product.dto.response.BulkOperationState;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "app.catalog.bulk-operations.chunk-size=2",
+    "app.catalog.bulk-operations.retained-operations=1"
+})
+class BulkOperationServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private BulkOperationService bulkOperationService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsProgressPerChunkAndPrunesFinishedOperations() throws InterruptedException {
+        Long category = createCategory("Bulk reprice");
+        for (int i = 0; i < 5; i++) {
+            createProduct(category, "Bulk repriced " + i);
+        }
+
+        BulkOperationResponse submitted = bulkOperationService.submit(reprice(category));
+        assertThat(submitted.getState()).isEqualTo(BulkOperationState.QUEUED);
+        assertThat(submitted.getMatched()).isEqualTo(5);
+
+        BulkOperationResponse finished = awaitFinished(submitted.getId());
+        assertThat(finished.getState()).isEqualTo(BulkOperationState.COMPLETED);
+        assertThat(finished.getProcessed()).isEqualTo(5);
+        assertThat(finished.getChunksCommitted()).isEqualTo(3);
+        assertThat(finished.getStartedAt()).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from products where category_id = ? and price = 6.60", Long.class, category
+        )).isEqualTo(5);
+
+        BulkOperationResponse next = bulkOperationService.submit(reprice(category));
+        awaitFinished(next.getId());
+        assertThatThrownBy(() -> bulkOperationService.getOperation(submitted.getId()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private BulkOperationResponse awaitFinished(String operationId) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        BulkOperationResponse operation = bulkOperationService.getOperation(operationId);
+        while (operation.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            operation = bulkOperationService.getOperation(operationId);
+        }
+        assertThat(operation.getFinishedAt()).isNotNull();
+        return operation;
+    }
+
+    private BulkOperationRequest reprice(Long categoryId) {
+        BulkOperationRequest request = new BulkOperationRequest();
+        request.setOperation(BulkOperationType.REPRICE);
+        request.setFilter(ProductFilter.builder().categoryId(categoryId).build());
+        request.setPercentage(new BigDecimal("10"));
+        return request;
+    }
+
+    private Long createCategory(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name);
+        return categoryService.createCategory(category).getId();
+    }
+
+    private void createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Bulk");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("6.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        productService.createProduct(product);
+    }
+}
@@ -0,0 +1,121 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.CatalogArchiveResponse;
+import com.qeetmart.product.entity.ProductScheduleState;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.repository.ProductScheduleRepository;
+import com.qeetmart.product.repository.ProductScheduleRepository.ScheduleRow;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class CatalogArchiveServiceTest {
+
+    @Autowired
+    private CatalogArchiveService catalogArchiveService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductScheduleRepository productScheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * The test schema is generated from the entities, which map {@code product_id} as a plain column; add the
+     * foreign key V8 declares so hard deletes are checked the way they are on PostgreSQL.
+     */
+    @BeforeEach
+    void addScheduleForeignKey() {
+        jdbcTemplate.execute("""
+            alter table product_schedules add constraint if not exists fk_product_schedules_product
+            foreign key (product_id) references products (id)
+            """);
+    }
+
+    @Test
+    void archivesProductWithScheduleHistory() {
+        Long categoryId = createCategory("Archive schedules");
+        Long productId = createProduct(categoryId, "Scheduled then deleted");
+        addSchedules(productId);
+        assertThat(productScheduleRepository.findByProductId(productId)).hasSize(2);
+        productService.deleteProduct(productId);
+        jdbcTemplate.update(
+            "update products set updated_at = ? where id = ?",
+            OffsetDateTime.now(ZoneOffset.UTC).minusYears(1),
+            productId
+        );
+
+        CatalogArchiveResponse response = catalogArchiveService.archiveDeletedProducts();
+
+        assertThat(response.getProductsArchived()).isGreaterThanOrEqualTo(1);
+        assertThat(count("select count(*) from products where id = ?", productId)).isZero();
+        assertThat(count("select count(*) from products_archive where id = ?", productId)).isOne();
+        assertThat(productScheduleRepository.findByProductId(productId)).isEmpty();
+    }
+
+    @Test
+    void deletesCategoryWhoseDeletedProductHadSchedules() {
+        Long categoryId = createCategory("Delete schedules");
+        Long productId = createProduct(categoryId, "Scheduled in deleted category");
+        addSchedules(productId);
+        productService.deleteProduct(productId);
+
+        categoryService.deleteCategory(categoryId);
+
+        assertThat(count("select count(*) from categories where id = ?", categoryId)).isZero();
+        assertThat(count("select count(*) from products where id = ?", productId)).isZero();
+        assertThat(productScheduleRepository.findByProductId(productId)).isEmpty();
+    }
+
+    private void addSchedules(Long productId) {
+        Instant now = Instant.now();
+        ScheduleRow applied = productScheduleRepository.insert(
+            productId, ProductStatus.INACTIVE, null, now.minus(1, ChronoUnit.HOURS), now
+        );
+        productScheduleRepository.finish(List.of(applied.id()), ProductScheduleState.APPLIED, now);
+        ScheduleRow cancelled = productScheduleRepository.insert(
+            productId, null, new BigDecimal("9.99"), now.plus(1, ChronoUnit.DAYS), now
+        );
+        productScheduleRepository.finish(List.of(cancelled.id()), ProductScheduleState.CANCELLED, now);
+    }
+
+    private Long createCategory(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name);
+        return categoryService.createCategory(category).getId();
+    }
+
+    private Long createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Archivist");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("12.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
@@ -0,0 +1,107 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.ProductChangeResponse;
+import com.qeetmart.product.dto.response.ProductChangesResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.event.ProductChangeSequencer;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.exception.BadRequestException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class CatalogChangeFeedServiceTest {
+
+    @Autowired
+    private CatalogChangeFeedService catalogChangeFeedService;
+
+    @Autowired
+    private ProductChangeSequencer productChangeSequencer;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorPagesThroughChangesInOrder() {
+        productChangeSequencer.sequence();
+        long start = latestSequence();
+        Long categoryId = createCategory("Change feed");
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            productIds.add(createProduct(categoryId, "Feed product " + i));
+        }
+        productService.deleteProduct(productIds.get(0));
+        productChangeSequencer.sequence();
+
+        List<ProductChangeResponse> seen = new ArrayList<>();
+        long cursor = start;
+        ProductChangesResponse page;
+        do {
+            page = catalogChangeFeedService.getChanges(cursor, 2);
+            assertThat(page.getChanges()).hasSizeLessThanOrEqualTo(2);
+            seen.addAll(page.getChanges());
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+
+        assertThat(seen).extracting(ProductChangeResponse::getSequence).isSorted().doesNotHaveDuplicates();
+        assertThat(seen).extracting(ProductChangeResponse::getProductId)
+            .containsExactly(productIds.get(0), productIds.get(1), productIds.get(2), productIds.get(3),
+                productIds.get(4), productIds.get(0));
+        assertThat(seen.get(5).getType()).isEqualTo(ProductChangeType.DELETED);
+        assertThat(seen.get(5).getProduct()).isNull();
+        assertThat(seen.get(1).getProduct().getName()).isEqualTo("Feed product 1");
+        assertThat(cursor).isEqualTo(seen.get(5).getSequence());
+
+        ProductChangesResponse drained = catalogChangeFeedService.getChanges(cursor, 2);
+        assertThat(drained.getChanges()).isEmpty();
+        assertThat(drained.getNextCursor()).isEqualTo(cursor);
+        assertThat(drained.isHasMore()).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidCursorAndLimit() {
+        assertThatThrownBy(() -> catalogChangeFeedService.getChanges(-1, 10))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> catalogChangeFeedService.getChanges(0, 0))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> catalogChangeFeedService.getChanges(0, 1001))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private long latestSequence() {
+        return jdbcTemplate.queryForObject("select coalesce(max(change_seq), 0) from product_changes", Long.class);
+    }
+
+    private Long createCategory(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name);
+        return categoryService.createCategory(category).getId();
+    }
+
+    private Long createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Feedwell");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("8.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+}
@@ -0,0 +1,101 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.response.CatalogImportResponse;
+import com.qeetmart.product.dto.response.ProductResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.exception.BadRequestException;
+import com.qeetmart.product.io.CatalogFormat;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductVariantService productVariantService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long categoryId;
+
+    @BeforeAll
+    void createCategory() {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Import round trip");
+        categoryId = categoryService.createCategory(category).getId();
+    }
+
+    /**
+     * Lines in the shape the NDJSON export writes, with variants nested under each product.
+     */
+    @Test
+    void importsTheNdjsonExportShape() {
+        CatalogImportResponse response = importCatalog(CatalogFormat.NDJSON, """
+            {"id":901,"name":"Export desk","brand":"Joinery","categoryId":%1$d,"price":149.90,"currency":"USD",\
+            "status":"ACTIVE","createdAt":"2026-01-02T03:04:05Z","variants":[\
+            {"id":1,"sku":"RT-NDJSON-A","color":"oak","size":null,"additionalPrice":0},\
+            {"id":2,"sku":"RT-NDJSON-B","color":"walnut","size":null,"additionalPrice":20.00}]}
+            {"id":902,"name":"Export stool","brand":"Joinery","categoryId":%1$d,"price":39,"currency":"USD",\
+            "status":"ACTIVE","variants":[]}
+            """.formatted(categoryId));
+
+        assertThat(response.getRowsFailed()).isZero();
+        assertThat(response.getProductsCreated()).isEqualTo(2);
+        assertThat(response.getVariantsCreated()).isEqualTo(2);
+        ProductVariantResponse walnut = productVariantService.getVariantBySku("RT-NDJSON-B");
+        assertThat(walnut.getAdditionalPrice()).isEqualByComparingTo("20.00");
+        assertThat(productVariantService.getVariantBySku("RT-NDJSON-A").getProductId())
+            .isEqualTo(walnut.getProductId());
+    }
+
+    @Test
+    void importsCsvWithMultiLineFields() {
+        CatalogImportResponse response = importCatalog(CatalogFormat.CSV, """
+            productKey,name,description,brand,categoryId,price,currency,status,sku,color,size,additionalPrice
+            77,"Shelf, tall","Holds 40 books.
+            Wall mounting ""required""\",Joinery,%1$d,89.00,USD,ACTIVE,RT-CSV-A,oak,,
+            77,"Shelf, tall","Holds 40 books.
+            Wall mounting ""required""\",Joinery,%1$d,89.00,USD,ACTIVE,RT-CSV-B,ash,,5
+            """.formatted(categoryId));
+
+        assertThat(response.getRowsFailed()).isZero();
+        assertThat(response.getProductsCreated()).isOne();
+        assertThat(response.getVariantsCreated()).isEqualTo(2);
+        ProductResponse shelf = productService.getProductById(
+            productVariantService.getVariantBySku("RT-CSV-B").getProductId()
+        );
+        assertThat(shelf.getName()).isEqualTo("Shelf, tall");
+        assertThat(shelf.getDescription()).isEqualTo("Holds 40 books.\nWall mounting \"required\"");
+    }
+
+    @Test
+    void badCsvHeaderIsRejected() {
+        assertThatThrownBy(() -> importCatalog(CatalogFormat.CSV, "sku,\"name\n"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid CSV header: Unterminated quoted field");
+    }
+
+    private CatalogImportResponse importCatalog(CatalogFormat format, String content) {
+        return catalogImportService.importCatalog(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+            format
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.CategoryReassignRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.CategoryReassignResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.event.ProductChangeType;
+import com.qeetmart.product.event.ProductsChangedEvent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@SpringBootTest(properties = "app.catalog.bulk-operations.chunk-size=2")
+@RecordApplicationEvents
+class CategoryReassignTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private CommittedChunks committedChunks;
+
+    @Test
+    void movesLiveProductsInChunksAndDeletesSource() {
+        Long source = createCategory("Reassign source");
+        Long target = createCategory("Reassign target");
+        List<Long> live = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            live.add(createProduct(source, "Reassigned " + i));
+        }
+        Long deleted = createProduct(source, "Reassigned deleted");
+        productService.deleteProduct(deleted);
+        applicationEvents.clear();
+        committedChunks.movedWhenCommitted.clear();
+
+        CategoryReassignRequest request = new CategoryReassignRequest();
+        request.setTargetCategoryId(target);
+        request.setDeleteSource(true);
+        CategoryReassignResponse response = categoryService.reassignProducts(source, request);
+
+        List<ProductsChangedEvent> events = applicationEvents.stream(ProductsChangedEvent.class).toList();
+        assertThat(events).extracting(ProductsChangedEvent::getType).containsOnly(ProductChangeType.UPDATED);
+        List<Collection<Long>> chunks = events.stream().map(ProductsChangedEvent::getProductIds).toList();
+        assertThat(chunks).extracting(Collection::size).containsExactly(2, 2, 1);
+        assertThat(chunks.stream().flatMap(Collection::stream)).containsExactlyElementsOf(live);
+        assertThat(committedChunks.movedWhenCommitted).containsExactly(2L, 4L, 5L);
+
+        assertThat(response.getProductsMoved()).isEqualTo(6);
+        assertThat(response.isSourceDeleted()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from products where category_id = ? and is_deleted = false", Long.class, target
+        )).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from categories where id = ?", Long.class, source
+        )).isZero();
+    }
+
+    private Long createCategory(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name);
+        return categoryService.createCategory(category).getId();
+    }
+
+    private Long createProduct(Long categoryId, String name) {
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Mover");
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal("6.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+
+    /**
+     * Records how many live products the target category holds as each chunk commits; a single transaction would
+     * only ever show the finished move.
+     */
+    @TestConfiguration
+    static class CommittedChunks {
+
+        final List<Long> movedWhenCommitted = new CopyOnWriteArrayList<>();
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @TransactionalEventListener
+        void onCommit(ProductsChangedEvent event) {
+            Long productId = event.getProductIds().iterator().next();
+            movedWhenCommitted.add(jdbcTemplate.queryForObject(
+                "select count(*) from products where is_deleted = false and category_id = "
+                    + "(select category_id from products where id = ?)",
+                Long.class,
+                productId
+            ));
+        }
+    }
+}
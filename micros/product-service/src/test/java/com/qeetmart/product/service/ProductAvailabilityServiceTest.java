@@ -0,0 +1,375 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.response.AvailabilitySource;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductAvailabilityResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.inventory.InventoryClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs availability against a local inventory-service stub whose route and status codes are read from
+ * {@code contracts/openapi/inventory-service.openapi.json}. The tests that leave lookups hanging run last, so they
+ * cannot occupy lookup slots the other tests need.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProductAvailabilityServiceTest {
+
+    private static final InventoryStub INVENTORY = InventoryStub.fromContract(
+        Path.of(System.getProperty("basedir", ""))
+            .toAbsolutePath()
+            .resolve("../../contracts/openapi/inventory-service.openapi.json")
+            .normalize()
+    );
+
+    private static final int WARM_UP_ATTEMPTS = 20;
+
+    @DynamicPropertySource
+    static void inventoryProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.inventory.base-url", INVENTORY::baseUrl);
+        registry.add("app.inventory.timeout", () -> "200ms");
+        registry.add("app.inventory.max-concurrent-calls", () -> "4");
+        registry.add("app.inventory.stock-ttl", () -> "1m");
+    }
+
+    @Autowired
+    private ProductAvailabilityService productAvailabilityService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InventoryClient inventoryClient;
+
+    private Long categoryId;
+
+    @BeforeAll
+    void createCategory() {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName("Availability");
+        categoryId = categoryService.createCategory(category).getId();
+    }
+
+    /**
+     * The first call opens the connection and loads the client, which can take longer than the 200ms timeout; no
+     * test should depend on being the one that pays for it. Attempts that time out while warming up are expected.
+     */
+    @BeforeAll
+    void warmUpInventoryClient() {
+        for (int attempt = 0; attempt < WARM_UP_ATTEMPTS; attempt++) {
+            try {
+                inventoryClient.fetchStock(0L).join();
+                return;
+            } catch (CompletionException ex) {
+                // cold start; try again
+            }
+        }
+    }
+
+    @AfterAll
+    void stopInventory() {
+        INVENTORY.stop();
+    }
+
+    @Test
+    void stockedProductsAreActiveAndServedFromCacheAfterwards() {
+        Long id = product(ProductStatus.ACTIVE);
+        INVENTORY.stock(id, 7);
+
+        ProductAvailabilityResponse first = productAvailabilityService.getAvailability(id);
+        ProductAvailabilityResponse second = productAvailabilityService.getAvailability(id);
+
+        assertThat(first.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(first.getAvailableQuantity()).isEqualTo(7);
+        assertThat(first.getSource()).isEqualTo(AvailabilitySource.INVENTORY);
+        assertThat(second.getSource()).isEqualTo(AvailabilitySource.CACHE);
+        assertThat(second.getAvailableQuantity()).isEqualTo(7);
+        assertThat(INVENTORY.requests(id)).isEqualTo(1);
+    }
+
+    @Test
+    void emptyOrUntrackedStockIsOutOfStock() {
+        Long empty = product(ProductStatus.ACTIVE);
+        Long untracked = product(ProductStatus.ACTIVE);
+        INVENTORY.stock(empty, 0);
+
+        for (Long id : List.of(empty, untracked)) {
+            ProductAvailabilityResponse availability = productAvailabilityService.getAvailability(id);
+            assertThat(availability.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+            assertThat(availability.getAvailableQuantity()).isZero();
+            assertThat(availability.getSource()).isEqualTo(AvailabilitySource.INVENTORY);
+        }
+    }
+
+    @Test
+    void productsThatAreNotActiveKeepTheirCatalogStatus() {
+        Long id = product(ProductStatus.DISCONTINUED);
+        INVENTORY.stock(id, 3);
+
+        ProductAvailabilityResponse availability = productAvailabilityService.getAvailability(id);
+
+        assertThat(availability.getStatus()).isEqualTo(ProductStatus.DISCONTINUED);
+        assertThat(availability.getAvailableQuantity()).isNull();
+        assertThat(availability.getSource()).isEqualTo(AvailabilitySource.CATALOG);
+        assertThat(INVENTORY.requests(id)).isZero();
+    }
+
+    @Test
+    void missingProductIsNotLookedUp() {
+        Long deleted = product(ProductStatus.ACTIVE);
+        productService.deleteProduct(deleted);
+        INVENTORY.stock(deleted, 4);
+
+        assertThatThrownBy(() -> productAvailabilityService.getAvailability(deleted))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(INVENTORY.requests(deleted)).isZero();
+    }
+
+    @Test
+    void batchLooksUpOnlyActiveProducts() {
+        Long active = product(ProductStatus.ACTIVE);
+        Long inactive = product(ProductStatus.INACTIVE);
+        Long deleted = product(ProductStatus.ACTIVE);
+        productService.deleteProduct(deleted);
+        Long unknown = 999_998L;
+        for (Long id : List.of(active, inactive, deleted, unknown)) {
+            INVENTORY.stock(id, 6);
+        }
+
+        BatchResponse<ProductAvailabilityResponse, Long> availability =
+            productAvailabilityService.getAvailability(List.of(unknown, inactive, deleted, active));
+
+        assertThat(availability.getContent())
+            .extracting(ProductAvailabilityResponse::getProductId, ProductAvailabilityResponse::getSource)
+            .containsExactly(
+                tuple(inactive, AvailabilitySource.CATALOG),
+                tuple(active, AvailabilitySource.INVENTORY)
+            );
+        assertThat(availability.getMissing()).containsExactly(unknown, deleted);
+        assertThat(INVENTORY.requests(active)).isOne();
+        assertThat(INVENTORY.requests(inactive)).isZero();
+        assertThat(INVENTORY.requests(deleted)).isZero();
+        assertThat(INVENTORY.requests(unknown)).isZero();
+    }
+
+    @Test
+    void batchAvailabilityKeepsRequestOrderAndReportsMissingProducts() throws Exception {
+        Long stocked = product(ProductStatus.ACTIVE);
+        Long inactive = product(ProductStatus.INACTIVE);
+        INVENTORY.stock(stocked, 2);
+
+        mockMvc.perform(get("/products/availability")
+                .param("ids", inactive + "," + 999_999 + "," + stocked)
+                .with(jwt()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].productId").value(inactive))
+            .andExpect(jsonPath("$.content[0].status").value("INACTIVE"))
+            .andExpect(jsonPath("$.content[1].productId").value(stocked))
+            .andExpect(jsonPath("$.content[1].status").value("ACTIVE"))
+            .andExpect(jsonPath("$.content[1].availableQuantity").value(2))
+            .andExpect(jsonPath("$.missing[0]").value(999_999));
+    }
+
+    @Test
+    @Order(Order.DEFAULT + 1)
+    void slowInventoryFallsBackToOutOfStockWithinTheTimeout() {
+        Long id = product(ProductStatus.ACTIVE);
+        INVENTORY.stock(id, 5);
+        INVENTORY.delay(id, Duration.ofSeconds(1));
+
+        long startedAt = System.nanoTime();
+        ProductAvailabilityResponse availability = productAvailabilityService.getAvailability(id);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(800));
+        assertThat(availability.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(availability.getAvailableQuantity()).isNull();
+        assertThat(availability.getSource()).isEqualTo(AvailabilitySource.FALLBACK);
+    }
+
+    @Test
+    @Order(Order.DEFAULT + 2)
+    void lookupsBeyondTheConcurrencyLimitAreRejected() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Long id = product(ProductStatus.ACTIVE);
+            INVENTORY.stock(id, 1);
+            INVENTORY.delay(id, Duration.ofSeconds(1));
+            ids.add(id);
+        }
+        double rejectedBefore = rejectedLookups();
+
+        BatchResponse<ProductAvailabilityResponse, Long> availability = productAvailabilityService.getAvailability(ids);
+
+        assertThat(availability.getContent())
+            .extracting(ProductAvailabilityResponse::getSource)
+            .containsOnly(AvailabilitySource.FALLBACK);
+        assertThat(rejectedLookups() - rejectedBefore).isGreaterThanOrEqualTo(2);
+    }
+
+    private double rejectedLookups() {
+        return meterRegistry.counter("catalog.availability.inventory.lookups", "outcome", "rejected").count();
+    }
+
+    private Long product(ProductStatus status) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setName("Availability " + status);
+        request.setBrand("Stockwell");
+        request.setCategoryId(categoryId);
+        request.setPrice(new BigDecimal("19.99"));
+        request.setCurrency("USD");
+        request.setStatus(status);
+        return productService.createProduct(request).getId();
+    }
+
+    /**
+     * Serves the contract's {@code getInventory} operation with the response envelope of inventory-service, and
+     * refuses to answer with a status the contract does not document.
+     */
+    private static final class InventoryStub {
+
+        private final HttpServer server;
+        private final String pathPrefix;
+        private final Set<String> documentedStatuses;
+        private final Map<String, Integer> stock = new ConcurrentHashMap<>();
+        private final Map<String, Duration> delays = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+        private InventoryStub(String pathTemplate, Set<String> documentedStatuses) throws IOException {
+            this.pathPrefix = pathTemplate.substring(0, pathTemplate.indexOf('{'));
+            this.documentedStatuses = documentedStatuses;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            this.server.setExecutor(Executors.newCachedThreadPool());
+            this.server.createContext(pathPrefix, this::handle);
+            this.server.start();
+        }
+
+        static InventoryStub fromContract(Path contract) {
+            try {
+                JsonNode paths = new ObjectMapper().readTree(contract.toFile()).path("paths");
+                for (Iterator<Map.Entry<String, JsonNode>> it = paths.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> path = it.next();
+                    JsonNode operation = path.getValue().path("get");
+                    if ("getInventory".equals(operation.path("operationId").asText())) {
+                        Set<String> statuses = new HashSet<>();
+                        operation.path("responses").fieldNames().forEachRemaining(statuses::add);
+                        return new InventoryStub(path.getKey(), statuses);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            throw new IllegalStateException("The inventory contract has no getInventory operation");
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stock(Long productId, int quantity) {
+            stock.put(productId.toString(), quantity);
+        }
+
+        void delay(Long productId, Duration delay) {
+            delays.put(productId.toString(), delay);
+        }
+
+        int requests(Long productId) {
+            return requests.getOrDefault(productId.toString(), new AtomicInteger()).get();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String productId = exchange.getRequestURI().getPath().substring(pathPrefix.length());
+            requests.computeIfAbsent(productId, id -> new AtomicInteger()).incrementAndGet();
+            Duration delay = delays.get(productId);
+            if (delay != null) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            Integer quantity = stock.get(productId);
+            if (quantity == null) {
+                respond(exchange, 404, """
+                    {"success":false,"error":{"code":"NOT_FOUND","message":"inventory not found"}}""");
+            } else {
+                respond(exchange, 200, """
+                    {"success":true,"message":"inventory fetched","data":{"productId":"%s",\
+                    "availableQuantity":%d,"reservedQuantity":0}}""".formatted(productId, quantity));
+            }
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            if (!documentedStatuses.contains(Integer.toString(status))) {
+                throw new IllegalStateException("Status " + status + " is not in the inventory contract");
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.qeetmart.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.qeetmart.product.dto.request.CategoryCreateRequest;
+import com.qeetmart.product.dto.request.ProductCreateRequest;
+import com.qeetmart.product.dto.request.ProductVariantCreateRequest;
+import com.qeetmart.product.dto.request.ProductVariantUpdateRequest;
+import com.qeetmart.product.dto.response.BatchResponse;
+import com.qeetmart.product.dto.response.ProductVariantResponse;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.ResourceNotFoundException;
+import com.qeetmart.product.invalidation.CatalogInvalidatedEvent;
+import com.qeetmart.product.invalidation.InvalidationScope;
+import com.qeetmart.product.readmodel.SkuIndex;
+import com.qeetmart.product.readmodel.VariantSku;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "app.catalog.sku-index.enabled=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class VariantSkuLookupTest {
+
+    @Autowired
+    private ProductVariantService productVariantService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private SkuIndex skuIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !skuIndex.isReady(); attempt++) {
+            Thread.sleep(50);
+        }
+        assertThat(skuIndex.isReady()).isTrue();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void indexHitRunsNoStatements() {
+        Long productId = createProduct("Scanner hit");
+        ProductVariantResponse created = createVariant(productId, "SCAN-HIT-1");
+
+        statistics.clear();
+        ProductVariantResponse found = productVariantService.getVariantBySku("  scan-hit-1 ");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(found.getId()).isEqualTo(created.getId());
+        assertThat(found.getProductId()).isEqualTo(productId);
+        assertThat(found.getSku()).isEqualTo("SCAN-HIT-1");
+        assertThat(found.getColor()).isEqualTo("blue");
+        assertThat(found.getAdditionalPrice()).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    void batchQueriesOnlyForMisses() {
+        Long productId = createProduct("Scanner batch");
+        createVariant(productId, "SCAN-BATCH-1");
+        createVariant(productId, "SCAN-BATCH-2");
+
+        statistics.clear();
+        BatchResponse<ProductVariantResponse, String> response =
+            productVariantService.getVariantsBySkus(List.of("scan-batch-1", "SCAN-BATCH-2", "SCAN-MISSING"));
+
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+        assertThat(response.getContent()).extracting(ProductVariantResponse::getSku)
+            .containsExactly("SCAN-BATCH-1", "SCAN-BATCH-2");
+        assertThat(response.getMissing()).containsExactly("SCAN-MISSING");
+    }
+
+    @Test
+    void indexFollowsUpdatesAndDeletes() {
+        Long productId = createProduct("Scanner churn");
+        ProductVariantResponse created = createVariant(productId, "SCAN-OLD");
+
+        ProductVariantUpdateRequest update = new ProductVariantUpdateRequest();
+        update.setSku("SCAN-NEW");
+        update.setColor("green");
+        update.setAdditionalPrice(new BigDecimal("1.50"));
+        productVariantService.updateVariant(productId, created.getId(), update);
+
+        assertThat(productVariantService.getVariantBySku("scan-new").getColor()).isEqualTo("green");
+        assertThatThrownBy(() -> productVariantService.getVariantBySku("scan-old"))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        productService.deleteProduct(productId);
+        assertThat(skuIndex.find("scan-new")).isEmpty();
+        assertThatThrownBy(() -> productVariantService.getVariantBySku("scan-new"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * A reset stands for invalidations that never arrived, so the index has to pick up changes it saw no event for.
+     */
+    @Test
+    void resetRebuildsIndexFromTheDatabase() throws InterruptedException {
+        Long productId = createProduct("Scanner reset");
+        ProductVariantResponse created = createVariant(productId, "SCAN-RESET-OLD");
+        jdbcTemplate.update("update product_variants set sku = ? where id = ?", "SCAN-RESET-NEW", created.getId());
+        assertThat(skuIndex.find("scan-reset-old")).isPresent();
+
+        eventPublisher.publishEvent(new CatalogInvalidatedEvent(InvalidationScope.ALL, List.of()));
+        awaitIndex();
+
+        assertThat(skuIndex.find("scan-reset-old")).isEmpty();
+        assertThat(skuIndex.find("scan-reset-new")).get().extracting(VariantSku::variantId).isEqualTo(created.getId());
+    }
+
+    private Long createProduct(String name) {
+        CategoryCreateRequest category = new CategoryCreateRequest();
+        category.setName(name + " category");
+        ProductCreateRequest product = new ProductCreateRequest();
+        product.setName(name);
+        product.setBrand("Scanline");
+        product.setCategoryId(categoryService.createCategory(category).getId());
+        product.setPrice(new BigDecimal("20.00"));
+        product.setCurrency("USD");
+        product.setStatus(ProductStatus.ACTIVE);
+        return productService.createProduct(product).getId();
+    }
+
+    private ProductVariantResponse createVariant(Long productId, String sku) {
+        ProductVariantCreateRequest variant = new ProductVariantCreateRequest();
+        variant.setSku(sku);
+        variant.setColor("blue");
+        variant.setAdditionalPrice(new BigDecimal("1.50"));
+        return productVariantService.createVariant(productId, variant);
+    }
+}
@@ -0,0 +1,172 @@
+package com.qeetmart.product.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.product.dto.request.ProductUpdateRequest;
+import com.qeetmart.product.entity.ProductStatus;
+import com.qeetmart.product.exception.BadRequestException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMergePatch jsonMergePatch = new JsonMergePatch(
+        objectMapper,
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    @Test
+    void nullRemovesFieldAndAbsentMembersKeepTheirValue() {
+        ProductUpdateRequest patched = jsonMergePatch.apply(
+            json("{\"description\": null, \"price\": 12.50}"),
+            product()
+        );
+
+        assertThat(patched.getDescription()).isNull();
+        assertThat(patched.getPrice()).isEqualByComparingTo("12.50");
+        assertThat(patched.getName()).isEqualTo("Lamp");
+        assertThat(patched.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+    }
+
+    @Test
+    void currentValueIsNotModified() {
+        ProductUpdateRequest current = product();
+
+        jsonMergePatch.apply(json("{\"name\": \"Desk lamp\"}"), current);
+
+        assertThat(current.getName()).isEqualTo("Lamp");
+    }
+
+    @Test
+    void nestedObjectsMergeMemberByMember() {
+        Listing patched = jsonMergePatch.apply(
+            json("{\"dimensions\": {\"width\": 5}, \"attributes\": {\"color\": null, \"size\": \"L\"}}"),
+            listing()
+        );
+
+        assertThat(patched.getDimensions().getWidth()).isEqualTo(5);
+        assertThat(patched.getDimensions().getHeight()).isEqualTo(20);
+        assertThat(patched.getAttributes()).containsExactly(Map.entry("material", "oak"), Map.entry("size", "L"));
+    }
+
+    @Test
+    void nestedObjectIsCreatedWhenAbsent() {
+        Listing current = listing();
+        current.setDimensions(null);
+
+        Listing patched = jsonMergePatch.apply(json("{\"dimensions\": {\"width\": 3, \"height\": null}}"), current);
+
+        assertThat(patched.getDimensions().getWidth()).isEqualTo(3);
+        assertThat(patched.getDimensions().getHeight()).isNull();
+    }
+
+    @Test
+    void arraysAreReplacedWhole() {
+        Listing patched = jsonMergePatch.apply(json("{\"tags\": [\"sale\"]}"), listing());
+
+        assertThat(patched.getTags()).containsExactly("sale");
+    }
+
+    @Test
+    void mergedValueIsValidated() {
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"name\": null}"), product()))
+            .isInstanceOf(ConstraintViolationException.class)
+            .satisfies(ex -> assertThat(((ConstraintViolationException) ex).getConstraintViolations())
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("name"));
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"currency\": \"usd\"}"), product()))
+            .isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"dimensions\": {\"width\": -1}}"), listing()))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void malformedPatchesAreBadRequests() {
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("[]"), product()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("A merge patch must be a JSON object");
+        assertThatThrownBy(() -> jsonMergePatch.apply(null, product()))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"sku\": \"X\"}"), product()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Unknown field in merge patch: sku");
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"price\": \"cheap\"}"), product()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageStartingWith("Invalid merge patch");
+    }
+
+    private JsonNode json(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private static ProductUpdateRequest product() {
+        ProductUpdateRequest request = new ProductUpdateRequest();
+        request.setName("Lamp");
+        request.setDescription("Brass reading lamp");
+        request.setBrand("Lumen");
+        request.setCategoryId(1L);
+        request.setPrice(new BigDecimal("10.00"));
+        request.setCurrency("USD");
+        request.setStatus(ProductStatus.ACTIVE);
+        return request;
+    }
+
+    private static Listing listing() {
+        Dimensions dimensions = new Dimensions();
+        dimensions.setWidth(10);
+        dimensions.setHeight(20);
+        Listing listing = new Listing();
+        listing.setName("Shelf");
+        listing.setDimensions(dimensions);
+        listing.setTags(new ArrayList<>(List.of("new", "wood")));
+        listing.setAttributes(new LinkedHashMap<>(Map.of("color", "brown")));
+        listing.getAttributes().put("material", "oak");
+        return listing;
+    }
+
+    @Getter
+    @Setter
+    static class Listing {
+
+        @NotBlank
+        private String name;
+
+        @Valid
+        private Dimensions dimensions;
+
+        private List<String> tags;
+
+        private Map<String, String> attributes;
+    }
+
+    @Getter
+    @Setter
+    static class Dimensions {
+
+        @Positive
+        private Integer width;
+
+        @Positive
+        private Integer height;
+    }
+}
@@ -1,22 +1,31 @@
 package com.qeetmart.user.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.user.dto.request.UserProfileCreateRequest;
+import com.qeetmart.user.dto.request.UserProfileField;
 import com.qeetmart.user.dto.request.UserProfileUpdateRequest;
 import com.qeetmart.user.dto.response.ApiResponse;
 import com.qeetmart.user.dto.response.PagedResponse;
 import com.qeetmart.user.dto.response.UserProfileResponse;
+import com.qeetmart.user.exception.BadRequestException;
 import com.qeetmart.user.service.UserProfileService;
+import com.qeetmart.user.web.JsonMergePatch;
+import com.qeetmart.user.web.Negotiation;
+import com.qeetmart.user.web.ProtobufResponseConverter;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -24,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/users")
@@ -44,13 +54,23 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<PagedResponse<UserProfileResponse>> getUsers(
+    public ResponseEntity<PagedResponse<?>> getUsers(
         @RequestParam(defaultValue = "0") @Min(0) int page,
         @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
         @RequestParam(defaultValue = "createdAt") String sortBy,
-        @RequestParam(defaultValue = "desc") String sortDir
+        @RequestParam(defaultValue = "desc") String sortDir,
+        @RequestParam(required = false) List<String> fields,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(userProfileService.getAll(page, size, sortBy, sortDir));
+        if (fields == null || fields.isEmpty()) {
+            return ResponseEntity.ok(userProfileService.getAll(page, size, sortBy, sortDir));
+        }
+        if (Negotiation.accepts(webRequest, ProtobufResponseConverter.PROTOBUF)) {
+            throw new BadRequestException("fields cannot be combined with application/x-protobuf");
+        }
+        return ResponseEntity.ok(
+            userProfileService.getAllFields(page, size, sortBy, sortDir, UserProfileField.parse(fields))
+        );
     }
 
     @GetMapping("/{userId}")
@@ -69,6 +89,16 @@ public class UserController {
         return ResponseEntity.ok(userProfileService.update(userId, request, authentication));
     }
 
+    @PatchMapping(value = "/{userId}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("@authorizationService.canAccessUser(authentication, #userId)")
+    public ResponseEntity<UserProfileResponse> patchUser(
+        @PathVariable Long userId,
+        @RequestBody JsonNode patch,
+        Authentication authentication
+    ) {
+        return ResponseEntity.ok(userProfileService.patch(userId, patch, authentication));
+    }
+
     @DeleteMapping("/{userId}")
     @PreAuthorize("@authorizationService.canAccessUser(authentication, #userId)")
     public ResponseEntity<ApiResponse> deleteUser(@PathVariable Long userId) {
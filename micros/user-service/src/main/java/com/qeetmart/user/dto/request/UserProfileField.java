@@ -0,0 +1,43 @@
+package com.qeetmart.user.dto.request;
+
+import com.qeetmart.user.exception.BadRequestException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public enum UserProfileField {
+    ID("id"),
+    USER_ID("userId"),
+    NAME("name"),
+    EMAIL("email"),
+    PHONE("phone"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String key;
+
+    UserProfileField(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static List<UserProfileField> parse(Collection<String> names) {
+        Set<UserProfileField> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        for (String name : names) {
+            String trimmed = name.trim();
+            fields.add(Arrays.stream(values())
+                .filter(field -> field.key.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown field '" + trimmed + "', allowed fields: "
+                    + Arrays.stream(values()).map(UserProfileField::getKey).collect(Collectors.joining(", ")))));
+        }
+        return List.copyOf(fields);
+    }
+}
@@ -15,6 +15,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
@@ -22,6 +23,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "user_profiles", uniqueConstraints = {
     @UniqueConstraint(name = "uk_user_profiles_user_id", columnNames = "user_id"),
     @UniqueConstraint(name = "uk_user_profiles_email", columnNames = "email")
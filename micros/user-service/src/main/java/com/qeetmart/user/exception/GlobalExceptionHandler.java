@@ -9,9 +9,11 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -74,6 +76,19 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Invalid request parameter: " + ex.getName(), request, null);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<ErrorResponse> handleNotAcceptable(
+        HttpMediaTypeNotAcceptableException ex,
+        HttpServletRequest request
+    ) {
+        return buildResponse(
+            HttpStatus.NOT_ACCEPTABLE,
+            "Acceptable representations: " + ex.getSupportedMediaTypes(),
+            request,
+            null
+        );
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrity(
         DataIntegrityViolationException ex,
@@ -101,6 +116,7 @@ public class GlobalExceptionHandler {
             .path(request.getRequestURI())
             .validationErrors(validationErrors)
             .build();
-        return ResponseEntity.status(status).body(body);
+        // Errors are always JSON, including for clients that only accept the binary formats
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
@@ -28,6 +28,17 @@ public class UserMapper {
         profile.setPhone(request.getPhone());
     }
 
+    /**
+     * The current profile as a full update request, the base a merge patch is applied to.
+     */
+    public UserProfileUpdateRequest toUpdateRequest(UserProfile profile) {
+        return UserProfileUpdateRequest.builder()
+            .name(profile.getName())
+            .email(profile.getEmail())
+            .phone(profile.getPhone())
+            .build();
+    }
+
     public UserProfileResponse toUserProfileResponse(UserProfile userProfile) {
         return UserProfileResponse.builder()
             .id(userProfile.getId())
@@ -0,0 +1,98 @@
+package com.qeetmart.user.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import com.qeetmart.user.dto.response.PagedResponse;
+import com.qeetmart.user.dto.response.UserProfileResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Encodes user responses in the wire format of {@code contracts/proto/qeetmart/user/v1/user.proto}; the field
+ * numbers below must follow that schema. Default values are omitted as proto3 encoders do.
+ */
+public final class UserProtobuf {
+
+    private UserProtobuf() {
+    }
+
+    public static byte[] encode(UserProfileResponse profile) {
+        return message(out -> {
+            writeInt64(out, 1, profile.getId());
+            writeInt64(out, 2, profile.getUserId());
+            writeString(out, 3, profile.getName());
+            writeString(out, 4, profile.getEmail());
+            writeString(out, 5, profile.getPhone());
+            writeTimestamp(out, 6, profile.getCreatedAt());
+            writeTimestamp(out, 7, profile.getUpdatedAt());
+        });
+    }
+
+    /**
+     * Encodes a {@code UserProfilePage}. The page must hold {@link UserProfileResponse}s; projected listings have no
+     * schema.
+     */
+    public static byte[] encode(PagedResponse<?> page) {
+        return message(out -> {
+            for (Object item : page.getContent()) {
+                if (!(item instanceof UserProfileResponse profile)) {
+                    throw new IllegalArgumentException("Only user profile pages can be encoded as protobuf");
+                }
+                out.writeByteArray(1, encode(profile));
+            }
+            writeInt32(out, 2, page.getPage());
+            writeInt32(out, 3, page.getSize());
+            writeInt64(out, 4, page.getTotalElements());
+            writeInt32(out, 5, page.getTotalPages());
+            if (page.isLast()) {
+                out.writeBool(6, true);
+            }
+        });
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, int value) throws IOException {
+        if (value != 0) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null && value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeTimestamp(CodedOutputStream out, int field, Instant instant) throws IOException {
+        if (instant != null) {
+            out.writeByteArray(field, message(timestamp -> {
+                writeInt64(timestamp, 1, instant.getEpochSecond());
+                writeInt32(timestamp, 2, instant.getNano());
+            }));
+        }
+    }
+
+    private static byte[] message(MessageWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+            writer.write(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MessageWriter {
+
+        void write(CodedOutputStream out) throws IOException;
+    }
+}
@@ -4,7 +4,7 @@ import com.qeetmart.user.entity.UserProfile;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long>, UserProfileRepositoryCustom {
 
     Optional<UserProfile> findByUserId(Long userId);
 
@@ -0,0 +1,12 @@
+package com.qeetmart.user.repository;
+
+import com.qeetmart.user.dto.request.UserProfileField;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UserProfileRepositoryCustom {
+
+    Page<Map<String, Object>> findProjected(List<UserProfileField> fields, Pageable pageable);
+}
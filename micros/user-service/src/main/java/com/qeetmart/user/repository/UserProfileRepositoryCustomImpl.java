@@ -0,0 +1,57 @@
+package com.qeetmart.user.repository;
+
+import com.qeetmart.user.dto.request.UserProfileField;
+import com.qeetmart.user.entity.UserProfile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class UserProfileRepositoryCustomImpl implements UserProfileRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findProjected(List<UserProfileField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<UserProfile> root = query.from(UserProfile.class);
+        query.multiselect(fields.stream()
+            .<Selection<?>>map(field -> root.get(field.getKey()).alias(field.getKey()))
+            .toList());
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+            .map(tuple -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                fields.forEach(field -> row.put(field.getKey(), tuple.get(field.getKey())));
+                return row;
+            })
+            .toList();
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    private long count() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(UserProfile.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,9 +1,13 @@
 package com.qeetmart.user.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.user.dto.request.UserProfileCreateRequest;
+import com.qeetmart.user.dto.request.UserProfileField;
 import com.qeetmart.user.dto.request.UserProfileUpdateRequest;
 import com.qeetmart.user.dto.response.PagedResponse;
 import com.qeetmart.user.dto.response.UserProfileResponse;
+import java.util.List;
+import java.util.Map;
 import org.springframework.security.core.Authentication;
 
 public interface UserProfileService {
@@ -14,7 +18,17 @@ public interface UserProfileService {
 
     UserProfileResponse update(Long userId, UserProfileUpdateRequest request, Authentication authentication);
 
+    UserProfileResponse patch(Long userId, JsonNode patch, Authentication authentication);
+
     void delete(Long userId);
 
     PagedResponse<UserProfileResponse> getAll(int page, int size, String sortBy, String sortDir);
+
+    PagedResponse<Map<String, Object>> getAllFields(
+        int page,
+        int size,
+        String sortBy,
+        String sortDir,
+        List<UserProfileField> fields
+    );
 }
@@ -1,6 +1,8 @@
 package com.qeetmart.user.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.qeetmart.user.dto.request.UserProfileCreateRequest;
+import com.qeetmart.user.dto.request.UserProfileField;
 import com.qeetmart.user.dto.request.UserProfileUpdateRequest;
 import com.qeetmart.user.dto.response.PagedResponse;
 import com.qeetmart.user.dto.response.UserProfileResponse;
@@ -14,6 +16,9 @@ import com.qeetmart.user.repository.UserProfileRepository;
 import com.qeetmart.user.security.AuthorizationService;
 import com.qeetmart.user.security.JwtClaimService;
 import com.qeetmart.user.service.UserProfileService;
+import com.qeetmart.user.web.JsonMergePatch;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +36,7 @@ public class UserProfileServiceImpl implements UserProfileService {
     private final UserMapper userMapper;
     private final JwtClaimService jwtClaimService;
     private final AuthorizationService authorizationService;
+    private final JsonMergePatch jsonMergePatch;
 
     @Override
     @Transactional
@@ -66,23 +72,15 @@ public class UserProfileServiceImpl implements UserProfileService {
     @Override
     @Transactional
     public UserProfileResponse update(Long userId, UserProfileUpdateRequest request, Authentication authentication) {
-        UserProfile existing = getExistingByUserId(userId);
-
-        if (!existing.getEmail().equalsIgnoreCase(request.getEmail())
-            && userProfileRepository.existsByEmail(request.getEmail())) {
-            throw new ConflictException("Email already exists: " + request.getEmail());
-        }
-
-        if (!authorizationService.isAdmin(authentication)) {
-            String tokenEmail = jwtClaimService.getEmail(authentication);
-            if (tokenEmail != null && !tokenEmail.equalsIgnoreCase(request.getEmail())) {
-                throw new BadRequestException("Email in payload must match token email");
-            }
-        }
+        return applyUpdate(getExistingByUserId(userId), request, authentication);
+    }
 
-        userMapper.updateUserProfile(existing, request);
-        UserProfile updated = userProfileRepository.save(existing);
-        return userMapper.toUserProfileResponse(updated);
+    @Override
+    @Transactional
+    public UserProfileResponse patch(Long userId, JsonNode patch, Authentication authentication) {
+        UserProfile existing = getExistingByUserId(userId);
+        UserProfileUpdateRequest request = jsonMergePatch.apply(patch, userMapper.toUpdateRequest(existing));
+        return applyUpdate(existing, request, authentication);
     }
 
     @Override
@@ -96,17 +94,58 @@ public class UserProfileServiceImpl implements UserProfileService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<UserProfileResponse> getAll(int page, int size, String sortBy, String sortDir) {
+        Page<UserProfileResponse> mappedPage = userProfileRepository.findAll(pageRequest(page, size, sortBy, sortDir))
+            .map(userMapper::toUserProfileResponse);
+        return PagedResponse.fromPage(mappedPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> getAllFields(
+        int page,
+        int size,
+        String sortBy,
+        String sortDir,
+        List<UserProfileField> fields
+    ) {
+        PageRequest pageRequest = pageRequest(page, size, sortBy, sortDir);
+        return PagedResponse.fromPage(userProfileRepository.findProjected(fields, pageRequest));
+    }
+
+    private PageRequest pageRequest(int page, int size, String sortBy, String sortDir) {
         Sort.Direction direction;
         try {
             direction = Sort.Direction.fromString(sortDir);
         } catch (IllegalArgumentException ex) {
             throw new BadRequestException("sortDir must be either 'asc' or 'desc'");
         }
+        return PageRequest.of(page, size, Sort.by(direction, sortBy));
+    }
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<UserProfileResponse> mappedPage = userProfileRepository.findAll(pageRequest)
-            .map(userMapper::toUserProfileResponse);
-        return PagedResponse.fromPage(mappedPage);
+    /**
+     * The email checks only run when the email actually changes, so a patch to the name or phone costs no uniqueness
+     * query. Unchanged fields are left alone and the profile is dynamic-update, so the UPDATE only carries what moved.
+     */
+    private UserProfileResponse applyUpdate(
+        UserProfile existing,
+        UserProfileUpdateRequest request,
+        Authentication authentication
+    ) {
+        if (!existing.getEmail().equalsIgnoreCase(request.getEmail())) {
+            if (!authorizationService.isAdmin(authentication)) {
+                String tokenEmail = jwtClaimService.getEmail(authentication);
+                if (tokenEmail != null && !tokenEmail.equalsIgnoreCase(request.getEmail())) {
+                    throw new BadRequestException("Email in payload must match token email");
+                }
+            }
+            if (userProfileRepository.existsByEmail(request.getEmail())) {
+                throw new ConflictException("Email already exists: " + request.getEmail());
+            }
+        }
+
+        userMapper.updateUserProfile(existing, request);
+        UserProfile updated = userProfileRepository.save(existing);
+        return userMapper.toUserProfileResponse(updated);
     }
 
     private UserProfile getExistingByUserId(Long userId) {
@@ -0,0 +1,27 @@
+package com.qeetmart.user.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+public final class Negotiation {
+
+    private Negotiation() {
+    }
+
+    /**
+     * Whether the {@code Accept} header names {@code type} explicitly; wildcards do not count.
+     */
+    public static boolean accepts(WebRequest request, MediaType type) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(type::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+}
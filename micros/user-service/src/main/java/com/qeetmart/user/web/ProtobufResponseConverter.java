@@ -0,0 +1,57 @@
+package com.qeetmart.user.web;
+
+import com.qeetmart.user.dto.response.PagedResponse;
+import com.qeetmart.user.dto.response.UserProfileResponse;
+import com.qeetmart.user.protobuf.UserProtobuf;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes user profiles and profile pages as {@code application/x-protobuf}. Write-only; requests stay JSON.
+ */
+public class ProtobufResponseConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProtobufResponseConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserProfileResponse.class.isAssignableFrom(clazz) || PagedResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        byte[] encoded;
+        try {
+            encoded = body instanceof UserProfileResponse profile
+                ? UserProtobuf.encode(profile)
+                : UserProtobuf.encode((PagedResponse<?>) body);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotWritableException(ex.getMessage(), ex);
+        }
+        outputMessage.getBody().write(encoded);
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.qeetmart.user.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.qeetmart.user.entity.UserProfile;
+import com.qeetmart.user.repository.UserProfileRepository;
+import com.qeetmart.user.web.JsonMergePatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerPatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Test
+    void mergePatchUpdatesOnlyTheGivenFields() throws Exception {
+        UserProfile profile = createProfile(9101L, "Grace", "grace@example.com");
+
+        mockMvc.perform(mergePatch(profile, profile.getUserId(), "{\"phone\": \"+1 555 0199\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.phone").value("+1 555 0199"))
+            .andExpect(jsonPath("$.email").value("grace@example.com"));
+
+        UserProfile stored = userProfileRepository.findByUserId(profile.getUserId()).orElseThrow();
+        assertThat(stored.getPhone()).isEqualTo("+1 555 0199");
+        assertThat(stored.getName()).isEqualTo("Grace");
+    }
+
+    @Test
+    void invalidMergedProfileIsRejected() throws Exception {
+        UserProfile profile = createProfile(9102L, "Alan", "alan@example.com");
+
+        mockMvc.perform(mergePatch(profile, profile.getUserId(), "{\"email\": null}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.email").exists());
+        mockMvc.perform(mergePatch(profile, profile.getUserId(), "{\"userId\": 1}"))
+            .andExpect(status().isBadRequest());
+
+        assertThat(userProfileRepository.findByUserId(profile.getUserId()).orElseThrow().getEmail())
+            .isEqualTo("alan@example.com");
+    }
+
+    @Test
+    void otherUsersProfileCannotBePatched() throws Exception {
+        UserProfile profile = createProfile(9103L, "Edsger", "edsger@example.com");
+
+        mockMvc.perform(mergePatch(profile, 9199L, "{\"name\": \"Intruder\"}"))
+            .andExpect(status().isForbidden());
+    }
+
+    private MockHttpServletRequestBuilder mergePatch(UserProfile profile, Long tokenUserId, String body) {
+        return patch("/users/" + profile.getUserId())
+            .with(jwt().jwt(token -> token.claim("userId", tokenUserId).claim("email", profile.getEmail())))
+            .contentType(JsonMergePatch.MEDIA_TYPE)
+            .content(body);
+    }
+
+    private UserProfile createProfile(Long userId, String name, String email) {
+        return userProfileRepository.save(UserProfile.builder()
+            .userId(userId)
+            .name(name)
+            .email(email)
+            .phone("+1 555 0100")
+            .build());
+    }
+}
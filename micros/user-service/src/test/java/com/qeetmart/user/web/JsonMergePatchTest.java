@@ -0,0 +1,76 @@
+package com.qeetmart.user.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qeetmart.user.dto.request.UserProfileUpdateRequest;
+import com.qeetmart.user.exception.BadRequestException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMergePatch jsonMergePatch = new JsonMergePatch(
+        objectMapper,
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    @Test
+    void absentMembersKeepTheirValue() {
+        UserProfileUpdateRequest current = profile();
+
+        UserProfileUpdateRequest patched = jsonMergePatch.apply(json("{\"phone\": \"+1 555 0199\"}"), current);
+
+        assertThat(patched.getPhone()).isEqualTo("+1 555 0199");
+        assertThat(patched.getName()).isEqualTo("Ada");
+        assertThat(patched.getEmail()).isEqualTo("ada@example.com");
+        assertThat(current.getPhone()).isEqualTo("+1 555 0100");
+    }
+
+    @Test
+    void mergedValueIsValidated() {
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"email\": null}"), profile()))
+            .isInstanceOf(ConstraintViolationException.class)
+            .satisfies(ex -> assertThat(((ConstraintViolationException) ex).getConstraintViolations())
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("email"));
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"phone\": \"call me\"}"), profile()))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void malformedPatchesAreBadRequests() {
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("\"Ada\""), profile()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("A merge patch must be a JSON object");
+        assertThatThrownBy(() -> jsonMergePatch.apply(null, profile()))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"userId\": 7}"), profile()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Unknown field in merge patch: userId");
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"name\": {\"first\": \"Ada\"}}"), profile()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageStartingWith("Invalid merge patch");
+    }
+
+    private JsonNode json(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private static UserProfileUpdateRequest profile() {
+        return UserProfileUpdateRequest.builder()
+            .name("Ada")
+            .email("ada@example.com")
+            .phone("+1 555 0100")
+            .build();
+    }
+}